@@ -9,11 +9,11 @@ import com.back.domain.chatbot.enums.MessageSender;
 import com.back.domain.chatbot.enums.MessageType;
 import com.back.domain.chatbot.repository.ChatConversationRepository;
 import com.back.domain.cocktail.dto.CocktailSummaryResponseDto;
-import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.catalog.CatalogEntry;
 import com.back.domain.cocktail.enums.AlcoholBaseType;
 import com.back.domain.cocktail.enums.AlcoholStrength;
 import com.back.domain.cocktail.enums.CocktailType;
-import com.back.domain.cocktail.repository.CocktailRepository;
+import com.back.domain.cocktail.service.CocktailService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
@@ -24,8 +24,6 @@ import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StreamUtils;
@@ -45,7 +43,7 @@ public class ChatbotService {
 
     private final ChatModel chatModel;
     private final ChatConversationRepository chatConversationRepository;
-    private final CocktailRepository cocktailRepository;
+    private final CocktailService cocktailService;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -203,22 +201,23 @@ public class ChatbotService {
             if (recommendations.size() >= 3) break;
 
             // 칵테일 이름으로 검색
-            Page<Cocktail> cocktailPage = cocktailRepository.searchWithFilters(
+            List<CatalogEntry> found = cocktailService.searchCatalog(
                     cocktailName,
                     null,
                     null,
                     null,
-                    PageRequest.of(0, 1)
+                    0,
+                    1
             );
 
-            if (!cocktailPage.isEmpty()) {
-                Cocktail cocktail = cocktailPage.getContent().get(0);
+            if (!found.isEmpty()) {
+                CatalogEntry cocktail = found.get(0);
                 recommendations.add(new CocktailSummaryResponseDto(
-                        cocktail.getId(),
-                        cocktail.getCocktailName(),
-                        cocktail.getCocktailNameKo(),
-                        cocktail.getCocktailImgUrl(),
-                        cocktail.getAlcoholStrength().getDescription()
+                        cocktail.id(),
+                        cocktail.cocktailName(),
+                        cocktail.cocktailNameKo(),
+                        cocktail.cocktailImgUrl(),
+                        cocktail.alcoholStrength().getDescription()
                 ));
             }
         }
@@ -943,21 +942,22 @@ public class ChatbotService {
             }
         }
 
-        Page<Cocktail> cocktailPage = cocktailRepository.searchWithFilters(
+        List<CatalogEntry> found = cocktailService.searchCatalog(
                 keyword,
                 strengths,
                 null,
                 baseTypes,
-                PageRequest.of(0, 3)
+                0,
+                3
         );
 
-        List<CocktailSummaryResponseDto> recommendations = cocktailPage.getContent().stream()
+        List<CocktailSummaryResponseDto> recommendations = found.stream()
                 .map(cocktail -> new CocktailSummaryResponseDto(
-                        cocktail.getId(),
-                        cocktail.getCocktailName(),
-                        cocktail.getCocktailNameKo(),
-                        cocktail.getCocktailImgUrl(),
-                        cocktail.getAlcoholStrength().getDescription()
+                        cocktail.id(),
+                        cocktail.cocktailName(),
+                        cocktail.cocktailNameKo(),
+                        cocktail.cocktailImgUrl(),
+                        cocktail.alcoholStrength().getDescription()
                 ))
                 .collect(Collectors.toList());
 
@@ -1000,21 +1000,22 @@ public class ChatbotService {
             }
         }
 
-        Page<Cocktail> cocktailPage = cocktailRepository.searchWithFilters(
+        List<CatalogEntry> found = cocktailService.searchCatalog(
                 keyword,
                 strengths,
                 types,  // 칵테일 타입 필터 적용
                 null,   // 베이스 타입은 null
-                PageRequest.of(0, 3)
+                0,
+                3
         );
 
-        List<CocktailSummaryResponseDto> recommendations = cocktailPage.getContent().stream()
+        List<CocktailSummaryResponseDto> recommendations = found.stream()
                 .map(cocktail -> new CocktailSummaryResponseDto(
-                        cocktail.getId(),
-                        cocktail.getCocktailName(),
-                        cocktail.getCocktailNameKo(),
-                        cocktail.getCocktailImgUrl(),
-                        cocktail.getAlcoholStrength().getDescription()
+                        cocktail.id(),
+                        cocktail.cocktailName(),
+                        cocktail.cocktailNameKo(),
+                        cocktail.cocktailImgUrl(),
+                        cocktail.alcoholStrength().getDescription()
                 ))
                 .collect(Collectors.toList());
 
@@ -0,0 +1,348 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * 칵테일 카탈로그의 불변 스냅샷
+ * - 칵테일은 ID 오름차순으로 배열에 보관하고, 배열 위치(pos)를 비트 번호로 사용
+ * - AlcoholStrength / CocktailType / AlcoholBaseType 값마다 비트맵을 하나씩 두고
+ *   필터 조건은 비트맵 OR(같은 조건 안) / AND(조건 사이) 연산으로 계산
+ * - 키워드 검색은 필드 가중치가 있는 n-gram 역색인(NgramIndex)으로 처리하고 점수순으로 랭킹
+ * - 이름 검색은 초성/오타 허용 색인(NameLookupIndex)으로 처리
+ * - 자동완성은 노드별 인기순 상위 K개를 미리 계산한 접두사 트라이(SuggestTrie)로 처리
+ * - 보유 재료 검색은 재료 → 칵테일 포스팅 리스트(IngredientIndex)로 처리
+ * - 유사 칵테일은 칵테일별 상위 K개 이웃 표(SimilarityIndex)로 처리
+ *   (O(n²) 계산이라 킵 수만 바뀐 재구성에서는 이전 스냅샷의 표를 재사용)
+ * 생성 이후에는 절대 변경하지 않으므로 여러 스레드에서 락 없이 읽어도 안전하다.
+ */
+public final class Catalog {
+
+    static final Catalog EMPTY = build(List.of(), CatalogVersion.EMPTY);
+
+    private static final double EXACT_NAME_BONUS = 10.0;
+
+    private final CatalogEntry[] entries;
+    private final Map<Long, Integer> positionById;
+    private final BitSet all;
+    private final BitSet[] byStrength;
+    private final BitSet[] byType;
+    private final BitSet[] byBase;
+    private final NgramIndex keywordIndex;
+    private final NameLookupIndex nameIndex;
+    private final SuggestTrie suggestTrie;
+    private final IngredientIndex ingredientIndex;
+    private final SimilarityIndex similarityIndex;
+    private final int[] byKeepCount; // 킵 수 내림차순 위치 (인기 칵테일)
+    private final String[] normalizedNames; // 이름 완전 일치 가산점용
+    private final String[] normalizedNamesKo;
+    private final CatalogVersion version;
+
+    private Catalog(CatalogEntry[] entries, CatalogVersion version, SimilarityIndex similarityIndex) {
+        this.entries = entries;
+        this.version = version;
+        this.positionById = new HashMap<>(entries.length * 2);
+        this.all = new BitSet(entries.length);
+        this.byStrength = newBitSets(AlcoholStrength.values().length, entries.length);
+        this.byType = newBitSets(CocktailType.values().length, entries.length);
+        this.byBase = newBitSets(AlcoholBaseType.values().length, entries.length);
+        this.normalizedNames = new String[entries.length];
+        this.normalizedNamesKo = new String[entries.length];
+
+        for (int pos = 0; pos < entries.length; pos++) {
+            CatalogEntry e = entries[pos];
+            positionById.put(e.id(), pos);
+            all.set(pos);
+            if (e.alcoholStrength() != null) byStrength[e.alcoholStrength().ordinal()].set(pos);
+            if (e.cocktailType() != null) byType[e.cocktailType().ordinal()].set(pos);
+            if (e.alcoholBaseType() != null) byBase[e.alcoholBaseType().ordinal()].set(pos);
+            normalizedNames[pos] = NgramIndex.normalize(e.cocktailName());
+            normalizedNamesKo[pos] = NgramIndex.normalize(e.cocktailNameKo());
+        }
+        this.keywordIndex = new NgramIndex(entries);
+        this.nameIndex = new NameLookupIndex(entries);
+        this.suggestTrie = new SuggestTrie(entries);
+        this.ingredientIndex = new IngredientIndex(entries);
+        this.similarityIndex = similarityIndex != null ? similarityIndex : new SimilarityIndex(entries, ingredientIndex);
+        this.byKeepCount = IntStream.range(0, entries.length)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(pos -> entries[pos].keepCount()).reversed()
+                        .thenComparingInt(pos -> pos))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    public static Catalog build(List<Cocktail> cocktails, CatalogVersion version) {
+        return new Catalog(toEntries(cocktails), version, null);
+    }
+
+    /**
+     * 이전 스냅샷 기준 재구성
+     * 킵 수만 바뀌었으면(행 구성이 같으면) 유사 칵테일 표는 이전 것을 그대로 사용
+     * - 유사도 자체는 킵 수와 무관하고 동점 순서만 킵 수를 따르므로, 동점 순서는 다음 전체 재구성 때 반영
+     */
+    public static Catalog build(List<Cocktail> cocktails, CatalogVersion version, Catalog previous) {
+        CatalogEntry[] entries = toEntries(cocktails);
+        boolean reusable = previous != null
+                && previous.entries.length == entries.length
+                && previous.version.sameRows(version);
+        return new Catalog(entries, version, reusable ? previous.similarityIndex : null);
+    }
+
+    private static CatalogEntry[] toEntries(List<Cocktail> cocktails) {
+        return cocktails.stream()
+                .sorted(Comparator.comparing(Cocktail::getId))
+                .map(CatalogEntry::from)
+                .toArray(CatalogEntry[]::new);
+    }
+
+    public CatalogVersion version() {
+        return version;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    public CatalogEntry get(int pos) {
+        return entries[pos];
+    }
+
+    public Optional<CatalogEntry> findById(Long id) {
+        Integer pos = positionById.get(id);
+        return pos == null ? Optional.empty() : Optional.of(entries[pos]);
+    }
+
+    // 필터 조건을 비트맵 교집합으로 계산 (null 또는 빈 조건은 전체 허용)
+    public BitSet filter(Collection<AlcoholStrength> strengths,
+                         Collection<CocktailType> types,
+                         Collection<AlcoholBaseType> bases) {
+        BitSet result = (BitSet) all.clone();
+        and(result, byStrength, strengths);
+        and(result, byType, types);
+        and(result, byBase, bases);
+        return result;
+    }
+
+    /**
+     * 필터 값별 건수 (한 번의 순회로 세 조건을 모두 계산)
+     * AlcoholStrength 건수는 CocktailType / AlcoholBaseType 조건만, 나머지도 같은 방식으로 적용
+     *
+     * @param matches 키워드 일치 결과 (필터 적용 전)
+     */
+    public CatalogFacets facets(BitSet matches,
+                                Collection<AlcoholStrength> strengths,
+                                Collection<CocktailType> types,
+                                Collection<AlcoholBaseType> bases) {
+        BitSet strengthMask = mask(byStrength, strengths);
+        BitSet typeMask = mask(byType, types);
+        BitSet baseMask = mask(byBase, bases);
+
+        int[] strengthCounts = new int[AlcoholStrength.values().length];
+        int[] typeCounts = new int[CocktailType.values().length];
+        int[] baseCounts = new int[AlcoholBaseType.values().length];
+
+        for (int pos = matches.nextSetBit(0); pos >= 0; pos = matches.nextSetBit(pos + 1)) {
+            CatalogEntry e = entries[pos];
+            boolean inStrength = strengthMask.get(pos);
+            boolean inType = typeMask.get(pos);
+            boolean inBase = baseMask.get(pos);
+
+            if (inType && inBase && e.alcoholStrength() != null) strengthCounts[e.alcoholStrength().ordinal()]++;
+            if (inStrength && inBase && e.cocktailType() != null) typeCounts[e.cocktailType().ordinal()]++;
+            if (inStrength && inType && e.alcoholBaseType() != null) baseCounts[e.alcoholBaseType().ordinal()]++;
+        }
+        return new CatalogFacets(strengthCounts, typeCounts, baseCounts);
+    }
+
+    // 랭킹 순서를 유지한 채 scope에 포함된 위치만 남기기
+    public static int[] retain(int[] ranked, BitSet scope) {
+        return Arrays.stream(ranked).filter(scope::get).toArray();
+    }
+
+    public static BitSet toBitSet(int[] positions) {
+        BitSet result = new BitSet();
+        for (int pos : positions) {
+            result.set(pos);
+        }
+        return result;
+    }
+
+    /**
+     * 키워드 검색 (필터 결과 안에서)
+     * 점수 = 일치한 필드 가중치 합 + 이름 완전 일치 가산점, 동점이면 킵 수 많은 순 → ID 오름차순
+     *
+     * @return 점수순으로 정렬된 카탈로그 위치 배열
+     */
+    public int[] search(String keyword, BitSet scope) {
+        double[] scores = new double[entries.length];
+        BitSet hits = keywordIndex.search(keyword, scope, scores);
+
+        String normalized = NgramIndex.normalize(keyword);
+        for (int pos = hits.nextSetBit(0); pos >= 0; pos = hits.nextSetBit(pos + 1)) {
+            if (normalized.equals(normalizedNames[pos]) || normalized.equals(normalizedNamesKo[pos])) {
+                scores[pos] += EXACT_NAME_BONUS;
+            }
+        }
+
+        return hits.stream()
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(pos -> scores[pos]).reversed()
+                        .thenComparing(Comparator.<Integer>comparingLong(pos -> entries[pos].keepCount()).reversed())
+                        .thenComparingInt(pos -> pos))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * 이름 검색 (필터 결과 안에서): 초성("ㅁㅎㄸ") 또는 오타가 섞인 이름("margarota")
+     * 일치 종류(완전 > 접두 > 포함 > 오타) → 편집 거리 → 킵 수 많은 순 → ID 오름차순
+     *
+     * @return 순위순으로 정렬된 카탈로그 위치 배열
+     */
+    public int[] lookupName(String query, BitSet scope) {
+        Map<Integer, Integer> ranks = nameIndex.lookup(query, scope);
+
+        return ranks.keySet().stream()
+                .sorted(Comparator.<Integer>comparingInt(ranks::get)
+                        .thenComparing(Comparator.<Integer>comparingLong(pos -> entries[pos].keepCount()).reversed())
+                        .thenComparingInt(pos -> pos))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    // 자동완성: 접두사로 시작하는 이름(영문/한글/초성)의 칵테일을 킵 수 많은 순으로 최대 limit개
+    public List<CatalogEntry> suggest(String prefix, int limit) {
+        List<CatalogEntry> top = suggestTrie.suggest(prefix);
+        return top.size() <= limit ? top : top.subList(0, limit);
+    }
+
+    public static int maxSuggestions() {
+        return SuggestTrie.MAX_SUGGESTIONS;
+    }
+
+    // ID 목록을 순서대로 칵테일로 변환 (스냅샷에 없는 ID는 제외)
+    public List<CatalogEntry> findAllById(List<Long> ids) {
+        List<CatalogEntry> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Integer pos = positionById.get(id);
+            if (pos != null) result.add(entries[pos]);
+        }
+        return result;
+    }
+
+    // 킵 수 많은 순 인기 칵테일 최대 limit개 (excluded ID 제외)
+    public List<CatalogEntry> popular(int limit, Set<Long> excluded) {
+        List<CatalogEntry> result = new ArrayList<>(Math.min(limit, entries.length));
+        for (int i = 0; i < byKeepCount.length && result.size() < limit; i++) {
+            CatalogEntry e = entries[byKeepCount[i]];
+            if (!excluded.contains(e.id())) result.add(e);
+        }
+        return result;
+    }
+
+    // 유사 칵테일: 재료 겹침, 베이스, 도수, 타입 기준으로 미리 계산한 상위 이웃 최대 limit개
+    public List<CatalogEntry> similar(Long id, int limit) {
+        Integer pos = positionById.get(id);
+        if (pos == null) return List.of();
+
+        int[] neighbors = similarityIndex.neighbors(pos);
+        int count = Math.min(limit, neighbors.length);
+        List<CatalogEntry> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(entries[neighbors[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * 보유 재료로 만들 수 있는 칵테일 (필터 결과 안에서)
+     * 부족 재료 수 적은 순 → 충족률 높은 순 → 킵 수 많은 순 → ID 오름차순
+     *
+     * @param maxMissing 허용하는 부족 재료 수 (0이면 모든 재료를 가진 칵테일만)
+     */
+    public List<IngredientMatch> matchIngredients(Collection<String> ingredientNames, int maxMissing,
+                                                  BitSet scope, int page, int size) {
+        int[] owned = ingredientIndex.resolve(ingredientNames);
+        if (owned.length == 0) return List.of();
+
+        int[] matched = new int[entries.length];
+        BitSet hits = ingredientIndex.match(owned, maxMissing, scope, matched);
+
+        int[] ranked = hits.stream()
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(pos -> ingredientIndex.ingredientCount(pos) - matched[pos])
+                        .thenComparing(Comparator.<Integer>comparingDouble(
+                                pos -> (double) matched[pos] / ingredientIndex.ingredientCount(pos)).reversed())
+                        .thenComparing(Comparator.<Integer>comparingLong(pos -> entries[pos].keepCount()).reversed())
+                        .thenComparingInt(pos -> pos))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        int from = Math.min(page * size, ranked.length);
+        int to = Math.min(from + size, ranked.length);
+        List<IngredientMatch> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int pos = ranked[i];
+            result.add(new IngredientMatch(entries[pos], matched[pos],
+                    ingredientIndex.ingredientCount(pos), ingredientIndex.missing(pos, owned)));
+        }
+        return result;
+    }
+
+    // 랭킹된 위치 배열에서 page/size 구간에 해당하는 칵테일만 꺼내기
+    public List<CatalogEntry> page(int[] ranked, int page, int size) {
+        int from = Math.min(page * size, ranked.length);
+        int to = Math.min(from + size, ranked.length);
+
+        List<CatalogEntry> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(entries[ranked[i]]);
+        }
+        return result;
+    }
+
+    // 비트맵에서 page/size 구간에 해당하는 칵테일만 꺼내기 (ID 오름차순)
+    public List<CatalogEntry> page(BitSet hits, int page, int size) {
+        List<CatalogEntry> result = new ArrayList<>(size);
+        int skip = page * size;
+        for (int pos = hits.nextSetBit(0); pos >= 0 && result.size() < size; pos = hits.nextSetBit(pos + 1)) {
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            result.add(entries[pos]);
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> void and(BitSet result, BitSet[] bitmaps, Collection<E> values) {
+        if (values == null || values.isEmpty()) return;
+
+        BitSet union = new BitSet(result.size());
+        for (E value : values) {
+            if (value != null) union.or(bitmaps[value.ordinal()]);
+        }
+        result.and(union);
+    }
+
+    // 조건 하나의 허용 위치 (조건이 없으면 전체)
+    private <E extends Enum<E>> BitSet mask(BitSet[] bitmaps, Collection<E> values) {
+        BitSet result = (BitSet) all.clone();
+        and(result, bitmaps, values);
+        return result;
+    }
+
+    private static BitSet[] newBitSets(int count, int nbits) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet(nbits);
+        }
+        return bitSets;
+    }
+}
@@ -0,0 +1,45 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.dto.IngredientDto;
+import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+
+import java.util.List;
+
+// 카탈로그 스냅샷에 보관하는 칵테일 읽기 전용 뷰 (JPA 엔티티와 분리)
+// ingredients: 재료 문자열을 스냅샷 빌드 시 한 번만 파싱해 둔 결과 (상세 조회에서 재사용)
+public record CatalogEntry(
+        Long id,
+        String cocktailName,
+        String cocktailNameKo,
+        AlcoholStrength alcoholStrength,
+        CocktailType cocktailType,
+        AlcoholBaseType alcoholBaseType,
+        String cocktailStory,
+        String ingredient,
+        List<IngredientDto> ingredients,
+        String recipe,
+        String cocktailImgUrl,
+        long keepCount,
+        long commentCount
+) {
+    public static CatalogEntry from(Cocktail cocktail) {
+        return new CatalogEntry(
+                cocktail.getId(),
+                cocktail.getCocktailName(),
+                cocktail.getCocktailNameKo(),
+                cocktail.getAlcoholStrength(),
+                cocktail.getCocktailType(),
+                cocktail.getAlcoholBaseType(),
+                cocktail.getCocktailStory(),
+                cocktail.getIngredient(),
+                IngredientParser.parse(cocktail.getIngredient()),
+                cocktail.getRecipe(),
+                cocktail.getCocktailImgUrl(),
+                cocktail.getKeepCount() != null ? cocktail.getKeepCount() : 0L,
+                cocktail.getCommentCount() != null ? cocktail.getCommentCount() : 0L
+        );
+    }
+}
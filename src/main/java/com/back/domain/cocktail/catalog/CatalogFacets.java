@@ -0,0 +1,11 @@
+package com.back.domain.cocktail.catalog;
+
+// 검색 결과의 필터 값별 건수 (배열 인덱스 = enum ordinal)
+// 각 조건의 건수는 그 조건 자신의 선택은 빼고 키워드 + 나머지 조건만 적용해서 센다
+// (칩을 눌렀을 때 결과가 몇 건이 될지를 보여주기 위함)
+public record CatalogFacets(
+        int[] strengthCounts,
+        int[] typeCounts,
+        int[] baseCounts
+) {
+}
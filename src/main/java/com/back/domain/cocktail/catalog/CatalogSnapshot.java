@@ -0,0 +1,60 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.repository.CocktailRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 칵테일 카탈로그 인메모리 스냅샷 보관소
+ * - 카탈로그는 수백 건 규모라 전체를 메모리에 올려 검색/필터를 DB 왕복 없이 처리
+ * - 재구성은 새 Catalog를 완성한 뒤 참조만 교체하므로 읽는 쪽은 항상 일관된 스냅샷을 본다
+ * - 기동 시 한 번 로드하고, 이후 주기적으로 변경 지문(CatalogVersion)을 비교해 바뀐 경우에만 재구성
+ * - 킵 수만 바뀐 재구성은 유사 칵테일 표(O(n²))를 재사용하고, 표 전체 재계산은 기동 시와 매시 정각에만
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshot {
+
+    private final CocktailRepository cocktailRepository;
+
+    private volatile Catalog catalog = Catalog.EMPTY;
+
+    public Catalog current() {
+        return catalog;
+    }
+
+    // 전체 재구성 (유사 칵테일 표까지 새로 계산해 킵 수 기준 동점 순서도 갱신)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 * * * *")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        CatalogVersion version = cocktailRepository.findCatalogVersion();
+        List<Cocktail> cocktails = cocktailRepository.findAll(Sort.by("id"));
+
+        catalog = Catalog.build(cocktails, version);
+        log.info("칵테일 카탈로그 스냅샷 재구성 완료 - {}건", catalog.size());
+    }
+
+    // 1분마다 변경 여부 확인 후 필요 시 재구성
+    // 기동 직후에는 rebuild()가 방금 적재했으므로 첫 확인도 1분 뒤에 (기동 중 재구성 중복 방지)
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    @Transactional(readOnly = true)
+    public void refreshIfChanged() {
+        CatalogVersion version = cocktailRepository.findCatalogVersion();
+        if (version.equals(catalog.version())) return;
+
+        List<Cocktail> cocktails = cocktailRepository.findAll(Sort.by("id"));
+        catalog = Catalog.build(cocktails, version, catalog);
+        log.info("칵테일 카탈로그 스냅샷 갱신 완료 - {}건", catalog.size());
+    }
+}
@@ -0,0 +1,23 @@
+package com.back.domain.cocktail.catalog;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 카탈로그 변경 감지용 지문 (행 수, 최대 ID, 최종 수정 시각, 전체 킵 수)
+// 전체 킵 수는 인기순 자동완성 순위를 주기적으로 갱신하기 위해 포함
+public record CatalogVersion(
+        Long total,
+        Long maxId,
+        LocalDateTime lastUpdatedAt,
+        Long keepTotal
+) {
+    public static final CatalogVersion EMPTY = new CatalogVersion(0L, null, null, null);
+
+    // 킵 수를 제외한 행 구성이 같은지 (같으면 ID 오름차순 위치도 그대로)
+    public boolean sameRows(CatalogVersion other) {
+        return other != null
+                && Objects.equals(total, other.total)
+                && Objects.equals(maxId, other.maxId)
+                && Objects.equals(lastUpdatedAt, other.lastUpdatedAt);
+    }
+}
@@ -0,0 +1,113 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.dto.IngredientDto;
+
+import java.util.*;
+
+/**
+ * 재료 사전 + 재료 → 칵테일 포스팅 리스트
+ * - 재료 이름(소문자, 공백 제거)마다 번호를 부여하고, 그 재료가 들어가는 칵테일 위치를 오름차순 int 배열로 보관
+ * - 보유 재료 조회는 입력 재료의 포스팅 리스트만 훑으며 칵테일별 보유 개수를 세므로
+ *   입력 재료 수 × 평균 리스트 길이만큼만 일한다 (전체 카탈로그 스캔 없음)
+ */
+final class IngredientIndex {
+
+    private final Map<String, Integer> idByKey = new HashMap<>();
+    private final List<String> names = new ArrayList<>(); // 재료 번호 → 표시 이름 (처음 나온 표기)
+    private final int[][] postings;                      // 재료 번호 → 칵테일 위치 (오름차순)
+    private final int[][] ingredientIds;                 // 칵테일 위치 → 재료 번호 (중복 제거)
+
+    IngredientIndex(CatalogEntry[] entries) {
+        this.ingredientIds = new int[entries.length][];
+        List<List<Integer>> lists = new ArrayList<>();
+
+        for (int pos = 0; pos < entries.length; pos++) {
+            Set<Integer> ids = new LinkedHashSet<>();
+            for (IngredientDto ingredient : entries[pos].ingredients()) {
+                String key = key(ingredient.ingredientName());
+                if (key.isEmpty()) continue;
+
+                Integer id = idByKey.get(key);
+                if (id == null) {
+                    id = names.size();
+                    idByKey.put(key, id);
+                    names.add(ingredient.ingredientName());
+                    lists.add(new ArrayList<>());
+                }
+                if (ids.add(id)) lists.get(id).add(pos); // pos는 증가 순으로 들어오므로 정렬 상태 유지
+            }
+            ingredientIds[pos] = ids.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        this.postings = lists.stream()
+                .map(list -> list.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+    }
+
+    // 입력 재료 이름을 재료 번호로 변환 (사전에 없는 재료는 제외)
+    int[] resolve(Collection<String> ingredientNames) {
+        return ingredientNames.stream()
+                .filter(Objects::nonNull)
+                .map(IngredientIndex::key)
+                .map(idByKey::get)
+                .filter(Objects::nonNull)
+                .distinct()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * 보유 재료로 만들 수 있는 칵테일 찾기
+     *
+     * @param owned      보유 재료 번호 (resolve 결과)
+     * @param maxMissing 허용하는 부족 재료 수
+     * @param matched    칵테일 위치별 보유 재료 수를 채울 배열 (길이 = 카탈로그 크기)
+     * @return 조건을 만족하는 칵테일 위치 (오름차순)
+     */
+    BitSet match(int[] owned, int maxMissing, BitSet scope, int[] matched) {
+        BitSet hits = new BitSet(matched.length);
+        for (int id : owned) {
+            for (int pos : postings[id]) {
+                if (!scope.get(pos)) continue;
+                matched[pos]++;
+                hits.set(pos);
+            }
+        }
+        for (int pos = hits.nextSetBit(0); pos >= 0; pos = hits.nextSetBit(pos + 1)) {
+            if (ingredientCount(pos) - matched[pos] > maxMissing) hits.clear(pos);
+        }
+        return hits;
+    }
+
+    int[] ingredientIds(int pos) {
+        return ingredientIds[pos];
+    }
+
+    int[] postings(int ingredientId) {
+        return postings[ingredientId];
+    }
+
+    int ingredientCount(int pos) {
+        return ingredientIds[pos].length;
+    }
+
+    // 칵테일 재료 중 보유하지 않은 재료의 표시 이름
+    List<String> missing(int pos, int[] owned) {
+        List<String> result = new ArrayList<>();
+        for (int id : ingredientIds[pos]) {
+            if (!contains(owned, id)) result.add(names.get(id));
+        }
+        return result;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) return true;
+        }
+        return false;
+    }
+
+    static String key(String name) {
+        return NgramIndex.normalize(name).replace(" ", "");
+    }
+}
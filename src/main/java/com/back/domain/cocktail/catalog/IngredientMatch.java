@@ -0,0 +1,12 @@
+package com.back.domain.cocktail.catalog;
+
+import java.util.List;
+
+// 보유 재료 검색 결과 한 건 (matchedCount / ingredientCount = 재료 충족률)
+public record IngredientMatch(
+        CatalogEntry entry,
+        int matchedCount,
+        int ingredientCount,
+        List<String> missingIngredients
+) {
+}
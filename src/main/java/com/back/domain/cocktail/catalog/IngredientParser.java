@@ -0,0 +1,119 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.dto.IngredientDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 칵테일 재료 문자열 파서
+ * "데낄라:1 1/2 oz, 트리플 섹:1/2 oz" 형식을 재료 단위로 나누고
+ * 분수를 유니코드 분수(½, ¾ ...)로 바꿔 표시용 amount/unit과 숫자 환산값을 만든다.
+ * 카탈로그 스냅샷 빌드 시 칵테일마다 한 번만 호출되고, 상세 조회는 결과를 그대로 재사용한다.
+ */
+public final class IngredientParser {
+
+    private static final String[] FRACTIONS = {
+            "1/2", "1/3", "2/3", "1/4", "3/4", "1/8", "3/8", "5/8", "7/8", "1/5", "2/5", "1/6"
+    };
+    private static final String[] FRACTION_SYMBOLS = {
+            "½", "⅓", "⅔", "¼", "¾", "⅛", "⅜", "⅝", "⅞", "⅕", "⅖", "⅙"
+    };
+    private static final double[] FRACTION_VALUES = {
+            1 / 2.0, 1 / 3.0, 2 / 3.0, 1 / 4.0, 3 / 4.0, 1 / 8.0, 3 / 8.0, 5 / 8.0, 7 / 8.0, 1 / 5.0, 2 / 5.0, 1 / 6.0
+    };
+
+    private static final Pattern ITEM_SEPARATOR = Pattern.compile(",\\s*");
+
+    // (숫자 + 선택적 분수) + (공백) + (단위)
+    private static final Pattern AMOUNT_UNIT = Pattern.compile(
+            "^([0-9]*\\s*[½⅓⅔¼¾⅛⅜⅝⅞⅕⅖⅙]?)\\s*(.*)$",
+            Pattern.UNICODE_CHARACTER_CLASS
+    );
+
+    // 부피 단위 → ml 환산 (미국 단위 기준)
+    private static final Map<String, Double> UNIT_TO_ML = Map.ofEntries(
+            Map.entry("ml", 1.0),
+            Map.entry("cl", 10.0),
+            Map.entry("l", 1000.0),
+            Map.entry("oz", 29.57),
+            Map.entry("shot", 44.36),
+            Map.entry("shots", 44.36),
+            Map.entry("tsp", 4.93),
+            Map.entry("tbsp", 14.79),
+            Map.entry("tblsp", 14.79),
+            Map.entry("cup", 236.59),
+            Map.entry("cups", 236.59),
+            Map.entry("pint", 473.18)
+    );
+
+    private IngredientParser() {
+    }
+
+    public static List<IngredientDto> parse(String ingredient) {
+        if (ingredient == null || ingredient.isBlank()) return Collections.emptyList();
+
+        List<IngredientDto> result = new ArrayList<>();
+        for (String item : ITEM_SEPARATOR.split(convertFractions(ingredient))) {
+            String[] parts = item.split(":");
+            if (parts.length != 2) continue;
+
+            String name = parts[0].trim();
+            String amountUnit = parts[1].trim();
+
+            Matcher matcher = AMOUNT_UNIT.matcher(amountUnit);
+            if (matcher.matches()) {
+                String amount = matcher.group(1).trim();
+                String unit = matcher.group(2).trim();
+                Double quantity = toQuantity(amount);
+                result.add(new IngredientDto(name, amount, unit, quantity, toMl(quantity, unit)));
+            } else {
+                // 패턴 매치 실패 시 전체를 amount로 처리
+                result.add(new IngredientDto(name, amountUnit, "", null, null));
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    // "1 1/2" → "1 ½" (표시용 분수 치환)
+    static String convertFractions(String ingredient) {
+        if (ingredient.indexOf('/') < 0) return ingredient;
+        for (int i = 0; i < FRACTIONS.length; i++) {
+            ingredient = ingredient.replace(FRACTIONS[i], FRACTION_SYMBOLS[i]);
+        }
+        return ingredient;
+    }
+
+    // "1 ½" → 1.5, "¾" → 0.75, "" → null
+    static Double toQuantity(String amount) {
+        if (amount.isEmpty()) return null;
+
+        double value = 0;
+        int i = 0;
+        while (i < amount.length() && Character.isDigit(amount.charAt(i))) {
+            value = value * 10 + (amount.charAt(i) - '0');
+            i++;
+        }
+        String rest = amount.substring(i).trim();
+        if (!rest.isEmpty()) {
+            for (int f = 0; f < FRACTION_SYMBOLS.length; f++) {
+                if (FRACTION_SYMBOLS[f].equals(rest)) {
+                    value += FRACTION_VALUES[f];
+                    break;
+                }
+            }
+        }
+        return value;
+    }
+
+    private static Double toMl(Double quantity, String unit) {
+        if (quantity == null || unit.isEmpty()) return null;
+        Double factor = UNIT_TO_ML.get(unit.toLowerCase(Locale.ROOT));
+        return factor == null ? null : Math.round(quantity * factor * 10) / 10.0;
+    }
+}
@@ -0,0 +1,181 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.global.standard.util.HangulUtil;
+
+import java.util.*;
+
+/**
+ * 칵테일 이름 전용 조회 색인 (초성 검색 + 오타 허용 검색)
+ * - 초성: 한글 이름의 초성 문자열("ㅁㅎㄸ")을 미리 만들어 두고 부분 일치로 비교
+ * - 오타 허용: 영문 이름(소문자)과 한글 이름(자모 분해)을 키로 하는 BK-tree에서
+ *   편집 거리 한도 안의 후보만 탐색 (삼각 부등식으로 대부분의 노드를 건너뜀)
+ */
+final class NameLookupIndex {
+
+    // 일치 종류별 기본 점수 (낮을수록 우선)
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_CONTAINS = 2;
+    private static final int RANK_FUZZY = 3;
+
+    private final String[] choseongs;
+    private final String[][] nameKeys; // 위치별 [영문 소문자, 한글 자모] (공백 제거)
+    private final BkTree bkTree;
+
+    NameLookupIndex(CatalogEntry[] entries) {
+        this.choseongs = new String[entries.length];
+        this.nameKeys = new String[entries.length][];
+        this.bkTree = new BkTree();
+
+        for (int pos = 0; pos < entries.length; pos++) {
+            CatalogEntry e = entries[pos];
+            choseongs[pos] = HangulUtil.toChoseong(e.cocktailNameKo());
+            nameKeys[pos] = new String[]{key(e.cocktailName()), HangulUtil.toJamo(key(e.cocktailNameKo()))};
+            for (String nameKey : nameKeys[pos]) {
+                if (!nameKey.isEmpty()) bkTree.add(nameKey, pos);
+            }
+        }
+    }
+
+    /**
+     * 이름 조회
+     * - 초성만 입력하면 초성 일치(완전 > 접두 > 포함)
+     * - 그 외에는 이름 일치(완전 > 접두 > 포함) 후, 편집 거리 한도 안의 오타 후보
+     *
+     * @return 위치별 순위 값 (작을수록 우선, 일치하지 않으면 키 없음)
+     */
+    Map<Integer, Integer> lookup(String query, BitSet scope) {
+        Map<Integer, Integer> ranks = new HashMap<>();
+        if (query == null || query.isBlank()) return ranks;
+
+        if (HangulUtil.isChoseongOnly(query)) {
+            String q = HangulUtil.toChoseong(query);
+            for (int pos = scope.nextSetBit(0); pos >= 0; pos = scope.nextSetBit(pos + 1)) {
+                int rank = matchRank(choseongs[pos], q);
+                if (rank >= 0) ranks.put(pos, rank * 100);
+            }
+            return ranks;
+        }
+
+        String q = key(query);
+        String jamo = HangulUtil.toJamo(q);
+        for (int pos = scope.nextSetBit(0); pos >= 0; pos = scope.nextSetBit(pos + 1)) {
+            int rankEn = matchRank(nameKeys[pos][0], q);
+            int rankKo = matchRank(nameKeys[pos][1], jamo);
+            int best = rankEn < 0 ? rankKo : (rankKo < 0 ? rankEn : Math.min(rankEn, rankKo));
+            if (best >= 0) ranks.put(pos, best * 100);
+        }
+
+        // 오타 허용: 영문 키와 자모 키 모두로 BK-tree 탐색
+        for (String fuzzyKey : new String[]{q, jamo}) {
+            int maxDistance = maxDistance(fuzzyKey);
+            bkTree.search(fuzzyKey, maxDistance, (pos, distance) -> {
+                if (!scope.get(pos)) return;
+                ranks.merge(pos, RANK_FUZZY * 100 + distance, Math::min);
+            });
+        }
+        return ranks;
+    }
+
+    // 완전 일치 0, 접두 일치 1, 부분 일치 2, 불일치 -1
+    private static int matchRank(String target, String q) {
+        if (target.isEmpty() || q.isEmpty()) return -1;
+        if (target.equals(q)) return RANK_EXACT;
+        if (target.startsWith(q)) return RANK_PREFIX;
+        if (target.contains(q)) return RANK_CONTAINS;
+        return -1;
+    }
+
+    // 짧은 입력일수록 허용 오타 수를 줄여 엉뚱한 후보를 막는다
+    private static int maxDistance(String key) {
+        if (key.length() <= 4) return 1;
+        if (key.length() <= 8) return 2;
+        return 3;
+    }
+
+    private static String key(String name) {
+        return NgramIndex.normalize(name).replace(" ", "");
+    }
+
+    /**
+     * BK-tree (Levenshtein 거리 기반 메트릭 트리)
+     * 자식 간선에 부모와의 거리를 저장해 두고, 탐색 시 |d - k| <= maxDistance 인 간선만 따라간다.
+     */
+    private static final class BkTree {
+
+        private Node root;
+
+        void add(String word, int pos) {
+            if (root == null) {
+                root = new Node(word, pos);
+                return;
+            }
+            Node node = root;
+            while (true) {
+                int d = levenshtein(word, node.word);
+                if (d == 0) {
+                    node.positions.add(pos);
+                    return;
+                }
+                Node child = node.children.get(d);
+                if (child == null) {
+                    node.children.put(d, new Node(word, pos));
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        void search(String word, int maxDistance, HitConsumer consumer) {
+            if (root == null) return;
+
+            Deque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                int d = levenshtein(word, node.word);
+                if (d <= maxDistance) {
+                    for (int pos : node.positions) consumer.accept(pos, d);
+                }
+                for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                    if (Math.abs(child.getKey() - d) <= maxDistance) stack.push(child.getValue());
+                }
+            }
+        }
+
+        private static final class Node {
+            final String word;
+            final List<Integer> positions = new ArrayList<>(1);
+            final Map<Integer, Node> children = new HashMap<>();
+
+            Node(String word, int pos) {
+                this.word = word;
+                this.positions.add(pos);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface HitConsumer {
+        void accept(int pos, int distance);
+    }
+
+    // 두 행만 사용하는 Levenshtein 거리
+    static int levenshtein(String a, String b) {
+        int[] prev = new int[b.length() + 1];
+        int[] curr = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) prev[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            curr[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] tmp = prev;
+            prev = curr;
+            curr = tmp;
+        }
+        return prev[b.length()];
+    }
+}
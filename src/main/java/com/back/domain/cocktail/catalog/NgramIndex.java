@@ -0,0 +1,169 @@
+package com.back.domain.cocktail.catalog;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 칵테일 키워드 검색용 n-gram 역색인 (1~3-gram)
+ * - 한글 음절과 영문/숫자를 같은 방식으로 다룬다 (NFKC 정규화 + 소문자화, 그 외 문자는 구분자로 취급)
+ * - 필드(이름/한글이름/재료/스토리)별로 gram → 칵테일 위치 비트맵을 따로 두고, 필드 가중치로 점수를 매긴다
+ * - 조회 비용은 "질의 gram 수 × 카탈로그 크기/64"에 비례하며 원문 길이와 무관하다
+ * - MAX_GRAM보다 긴 단어는 gram 교집합이 근사이므로(떨어진 위치의 gram도 일치), 후보만 정규화된 원문에서 포함 여부를 다시 확인한다
+ */
+final class NgramIndex {
+
+    // 필드별 가중치: 이름 일치가 스토리 일치보다 높게 랭크되도록
+    enum Field {
+        NAME(3.0),
+        NAME_KO(3.0),
+        INGREDIENT(2.0),
+        STORY(1.0);
+
+        final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int MAX_GRAM = 3;
+
+    private final List<Map<String, BitSet>> postings;
+    private final String[][] normalizedTexts; // 필드 → 위치 → 정규화된 원문 (긴 단어 확인용)
+
+    NgramIndex(CatalogEntry[] entries) {
+        Field[] fields = Field.values();
+        List<Map<String, BitSet>> built = new ArrayList<>(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            built.add(new HashMap<>());
+        }
+        this.normalizedTexts = new String[fields.length][entries.length];
+
+        for (int pos = 0; pos < entries.length; pos++) {
+            for (Field field : fields) {
+                Map<String, BitSet> fieldPostings = built.get(field.ordinal());
+                String normalized = normalize(text(entries[pos], field));
+                normalizedTexts[field.ordinal()][pos] = normalized;
+                for (String token : tokenize(normalized)) {
+                    for (int n = 1; n <= MAX_GRAM; n++) {
+                        for (String gram : grams(token, n)) {
+                            fieldPostings.computeIfAbsent(gram, g -> new BitSet(entries.length)).set(pos);
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < built.size(); i++) {
+            built.set(i, Map.copyOf(built.get(i)));
+        }
+        this.postings = List.copyOf(built);
+    }
+
+    /**
+     * 질의의 모든 단어를 (어느 필드에서든) 포함하는 위치를 찾고, 위치별 점수를 scores에 누적한다.
+     * 단어 하나가 여러 필드에서 일치하면 해당 필드 가중치를 모두 더한다.
+     *
+     * @param query  검색어
+     * @param scope  검색 대상 위치 (필터 결과)
+     * @param scores 위치별 점수 누적 배열 (길이 = 카탈로그 크기)
+     * @return 모든 단어가 일치한 위치
+     */
+    BitSet search(String query, BitSet scope, double[] scores) {
+        List<String> terms = tokenize(query);
+        BitSet result = (BitSet) scope.clone();
+        if (terms.isEmpty()) {
+            return result;
+        }
+
+        for (String term : terms) {
+            BitSet termHits = new BitSet();
+            for (Field field : Field.values()) {
+                BitSet fieldHits = lookup(field, term);
+                fieldHits.and(result);
+                if (term.length() > MAX_GRAM) {
+                    retainContaining(field, term, fieldHits);
+                }
+                for (int pos = fieldHits.nextSetBit(0); pos >= 0; pos = fieldHits.nextSetBit(pos + 1)) {
+                    scores[pos] += field.weight;
+                }
+                termHits.or(fieldHits);
+            }
+            result.and(termHits);
+            if (result.isEmpty()) break;
+        }
+        return result;
+    }
+
+    // 필드에서 term을 포함(근사)하는 위치: term의 n-gram posting을 모두 교집합
+    private BitSet lookup(Field field, String term) {
+        Map<String, BitSet> fieldPostings = postings.get(field.ordinal());
+        int n = Math.min(MAX_GRAM, term.length());
+
+        BitSet acc = null;
+        for (String gram : grams(term, n)) {
+            BitSet posting = fieldPostings.get(gram);
+            if (posting == null) {
+                return new BitSet();
+            }
+            if (acc == null) {
+                acc = (BitSet) posting.clone();
+            } else {
+                acc.and(posting);
+            }
+        }
+        return acc != null ? acc : new BitSet();
+    }
+
+    // gram 교집합 후보 중 정규화된 원문에 term이 연속으로 들어 있는 위치만 남김
+    // (term에는 구분자가 없으므로 원문 전체에서 찾아도 한 단어 안에서 찾는 것과 같다)
+    private void retainContaining(Field field, String term, BitSet hits) {
+        String[] texts = normalizedTexts[field.ordinal()];
+        for (int pos = hits.nextSetBit(0); pos >= 0; pos = hits.nextSetBit(pos + 1)) {
+            if (!texts[pos].contains(term)) hits.clear(pos);
+        }
+    }
+
+    // NFKC 정규화 + 소문자화 후 글자/숫자가 아닌 문자로 분리
+    static List<String> tokenize(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) return List.of();
+
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalized.split(" ")) {
+            if (!token.isEmpty()) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    static String normalize(String text) {
+        if (text == null || text.isBlank()) return "";
+
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char ch = nfkc.charAt(i);
+            sb.append(Character.isLetterOrDigit(ch) ? ch : ' ');
+        }
+        return sb.toString().trim();
+    }
+
+    private static List<String> grams(String token, int n) {
+        if (token.length() < n) return List.of();
+
+        List<String> grams = new ArrayList<>(token.length() - n + 1);
+        for (int i = 0; i + n <= token.length(); i++) {
+            grams.add(token.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private static String text(CatalogEntry entry, Field field) {
+        return switch (field) {
+            case NAME -> entry.cocktailName();
+            case NAME_KO -> entry.cocktailNameKo();
+            case INGREDIENT -> entry.ingredient();
+            case STORY -> entry.cocktailStory();
+        };
+    }
+}
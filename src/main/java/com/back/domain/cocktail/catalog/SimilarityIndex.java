@@ -0,0 +1,88 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.enums.AlcoholStrength;
+
+import java.util.Arrays;
+
+/**
+ * 칵테일별 유사 칵테일 상위 K개 (스냅샷 빌드 시 미리 계산)
+ * 유사도 = 재료 Jaccard × 0.6 + 같은 베이스 0.2 + 도수 근접도 × 0.1 + 같은 타입 0.1
+ * - 재료 겹침 수는 재료 포스팅 리스트를 따라가며 세므로 재료가 하나도 겹치지 않는 쌍은 건너뛴다
+ * - 조회는 미리 만든 배열을 그대로 꺼내므로 O(1)
+ */
+final class SimilarityIndex {
+
+    static final int MAX_NEIGHBORS = 10;
+
+    private static final double INGREDIENT_WEIGHT = 0.6;
+    private static final double BASE_WEIGHT = 0.2;
+    private static final double STRENGTH_WEIGHT = 0.1;
+    private static final double TYPE_WEIGHT = 0.1;
+
+    private static final int STRENGTH_RANGE = AlcoholStrength.values().length - 1;
+
+    private final int[][] neighbors; // 위치 → 유사도 높은 순 위치 배열
+
+    SimilarityIndex(CatalogEntry[] entries, IngredientIndex ingredients) {
+        int n = entries.length;
+        this.neighbors = new int[n][];
+
+        int[] overlap = new int[n];
+        double[] scores = new double[n];
+        for (int pos = 0; pos < n; pos++) {
+            Arrays.fill(overlap, 0);
+            for (int id : ingredients.ingredientIds(pos)) {
+                for (int other : ingredients.postings(id)) {
+                    overlap[other]++;
+                }
+            }
+
+            int[] top = new int[Math.min(MAX_NEIGHBORS, Math.max(n - 1, 0))];
+            int filled = 0;
+            for (int other = 0; other < n; other++) {
+                if (other == pos) continue;
+                scores[other] = score(entries[pos], entries[other], overlap[other],
+                        ingredients.ingredientCount(pos), ingredients.ingredientCount(other));
+                filled = offer(top, filled, other, scores, entries);
+            }
+            neighbors[pos] = top;
+        }
+    }
+
+    int[] neighbors(int pos) {
+        return neighbors[pos];
+    }
+
+    private static double score(CatalogEntry a, CatalogEntry b, int overlap, int countA, int countB) {
+        int union = countA + countB - overlap;
+        double score = union == 0 ? 0 : INGREDIENT_WEIGHT * overlap / union;
+
+        if (a.alcoholBaseType() != null && a.alcoholBaseType() == b.alcoholBaseType()) score += BASE_WEIGHT;
+        if (a.cocktailType() != null && a.cocktailType() == b.cocktailType()) score += TYPE_WEIGHT;
+        if (a.alcoholStrength() != null && b.alcoholStrength() != null) {
+            int diff = Math.abs(a.alcoholStrength().ordinal() - b.alcoholStrength().ordinal());
+            score += STRENGTH_WEIGHT * (1 - (double) diff / STRENGTH_RANGE);
+        }
+        return score;
+    }
+
+    // 상위 K개 배열에 후보 삽입 (유사도 높은 순 → 킵 수 많은 순 → 위치 오름차순 유지)
+    private static int offer(int[] top, int filled, int candidate, double[] scores, CatalogEntry[] entries) {
+        if (top.length == 0) return 0;
+        if (filled == top.length && !better(candidate, top[filled - 1], scores, entries)) return filled;
+
+        int i = (filled == top.length) ? filled - 1 : filled;
+        while (i > 0 && better(candidate, top[i - 1], scores, entries)) {
+            top[i] = top[i - 1];
+            i--;
+        }
+        top[i] = candidate;
+        return Math.min(filled + 1, top.length);
+    }
+
+    private static boolean better(int a, int b, double[] scores, CatalogEntry[] entries) {
+        if (scores[a] != scores[b]) return scores[a] > scores[b];
+        if (entries[a].keepCount() != entries[b].keepCount()) return entries[a].keepCount() > entries[b].keepCount();
+        return a < b;
+    }
+}
@@ -0,0 +1,83 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.global.standard.util.HangulUtil;
+
+import java.util.*;
+
+/**
+ * 자동완성용 접두사 트라이
+ * - 키: 영문 이름(소문자, 공백 제거), 한글 이름(공백 제거), 한글 이름 초성
+ * - 노드마다 인기순(킵 수) 상위 K개 칵테일을 빌드 시점에 미리 계산해 두므로
+ *   조회는 "입력 길이만큼 노드 이동 + 상위 K개 반환"으로 끝난다 (정렬/할당 없음)
+ */
+final class SuggestTrie {
+
+    static final int MAX_SUGGESTIONS = 10;
+
+    private static final CatalogEntry[] NONE = new CatalogEntry[0];
+
+    private final Node root = new Node();
+
+    SuggestTrie(CatalogEntry[] entries) {
+        for (CatalogEntry entry : entries) {
+            Set<String> keys = new LinkedHashSet<>();
+            keys.add(key(entry.cocktailName()));
+            keys.add(key(entry.cocktailNameKo()));
+            keys.add(HangulUtil.toChoseong(entry.cocktailNameKo()));
+            for (String key : keys) {
+                if (!key.isEmpty()) insert(key, entry);
+            }
+        }
+        finish(root);
+    }
+
+    // 접두사에 해당하는 인기순 상위 칵테일 (최대 MAX_SUGGESTIONS개, 읽기 전용 뷰)
+    List<CatalogEntry> suggest(String prefix) {
+        String key = HangulUtil.isChoseongOnly(prefix) ? HangulUtil.toChoseong(prefix) : key(prefix);
+        if (key.isEmpty()) return List.of();
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node == null ? List.of() : Collections.unmodifiableList(Arrays.asList(node.top));
+    }
+
+    private void insert(String key, CatalogEntry entry) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            // 한 칵테일의 여러 키가 같은 노드를 지나갈 수 있으므로 중복 제거
+            node.candidates.add(entry);
+        }
+    }
+
+    // 후보를 킵 수 내림차순 → 이름 짧은 순 → ID 오름차순으로 정렬해 상위 K개만 남긴다
+    private static void finish(Node node) {
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            if (current.candidates != null) {
+                current.top = current.candidates.stream()
+                        .sorted(Comparator.comparingLong(CatalogEntry::keepCount).reversed()
+                                .thenComparingInt(e -> e.cocktailName() == null ? 0 : e.cocktailName().length())
+                                .thenComparing(CatalogEntry::id))
+                        .limit(MAX_SUGGESTIONS)
+                        .toArray(CatalogEntry[]::new);
+                current.candidates = null; // 빌드용 임시 데이터 해제
+            }
+            current.children.values().forEach(stack::push);
+        }
+    }
+
+    private static String key(String name) {
+        return NgramIndex.normalize(name).replace(" ", "");
+    }
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        Set<CatalogEntry> candidates = new LinkedHashSet<>();
+        CatalogEntry[] top = NONE;
+    }
+}
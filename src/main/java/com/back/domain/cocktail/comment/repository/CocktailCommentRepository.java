@@ -4,8 +4,10 @@ import com.back.domain.cocktail.comment.entity.CocktailComment;
 import com.back.domain.cocktail.entity.Cocktail;
 import com.back.domain.post.comment.enums.CommentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -22,4 +24,12 @@ public interface CocktailCommentRepository extends JpaRepository<CocktailComment
     boolean existsByCocktailIdAndUserIdAndStatusNot(Long cocktailId, Long id, CommentStatus status);
 
     Long countByCocktail(Cocktail cocktail);
+
+    // 트렌딩 집계용: since 이후 작성된 (댓글 ID, cocktailId, createdAt)
+    @Query("""
+        select c.id, c.cocktail.id, c.createdAt from CocktailComment c
+         where c.status <> 'DELETED'
+           and c.createdAt > :since
+    """)
+    List<Object[]> findCommentEventsSince(LocalDateTime since);
 }
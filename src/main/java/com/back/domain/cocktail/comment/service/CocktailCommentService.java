@@ -28,6 +28,11 @@ public class CocktailCommentService {
     public CocktailCommentResponseDto createCocktailComment(Long cocktailId, CocktailCommentCreateRequestDto reqBody) {
         User user = rq.getActor();
 
+        // 삭제 상태로 작성하면 댓글 수만 늘고 삭제로 되돌릴 수도 없으므로 거부
+        if (reqBody.status() == CommentStatus.DELETED) {
+            throw new IllegalArgumentException("삭제 상태로 댓글을 작성할 수 없습니다.");
+        }
+
         Cocktail cocktail = cocktailRepository.findById(cocktailId)
                 .orElseThrow(() -> new IllegalArgumentException("칵테일이 존재하지 않습니다. id=" + cocktailId));
 
@@ -49,7 +54,12 @@ public class CocktailCommentService {
                 .status(reqBody.status() != null ? reqBody.status() : CommentStatus.PUBLIC)
                 .build();
 
-        return new CocktailCommentResponseDto(cocktailCommentRepository.save(cocktailComment));
+        CocktailComment saved = cocktailCommentRepository.save(cocktailComment);
+
+        // 칵테일 댓글 수 증가
+        cocktailRepository.addCommentCount(cocktailId, 1);
+
+        return new CocktailCommentResponseDto(saved);
     }
 
     // 칵테일 댓글 다건 조회 로직 (무한스크롤)
@@ -128,7 +138,14 @@ public class CocktailCommentService {
             throw new IllegalStateException("본인의 댓글만 삭제할 수 있습니다.");
         }
 
+        if (cocktailComment.getStatus() == CommentStatus.DELETED) {
+            return; // 이미 삭제된 댓글은 카운터를 다시 줄이지 않음
+        }
+
         cocktailComment.updateStatus(CommentStatus.DELETED); // soft delete 사용.
+
+        // 칵테일 댓글 수 감소
+        cocktailRepository.addCommentCount(cocktailId, -1);
     }
 }
 
@@ -1,17 +1,24 @@
 package com.back.domain.cocktail.controller;
 
 import com.back.domain.cocktail.dto.CocktailDetailResponseDto;
+import com.back.domain.cocktail.dto.CocktailFacetedSearchResponseDto;
+import com.back.domain.cocktail.dto.CocktailMakeableResponseDto;
 import com.back.domain.cocktail.dto.CocktailSearchRequestDto;
 import com.back.domain.cocktail.dto.CocktailSearchResponseDto;
+import com.back.domain.cocktail.dto.CocktailSuggestResponseDto;
 import com.back.domain.cocktail.dto.CocktailSummaryResponseDto;
 import com.back.domain.cocktail.service.CocktailService;
+import com.back.domain.cocktail.service.RecommendService;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -21,6 +28,51 @@ import java.util.List;
 public class CocktailController {
 
     private final CocktailService cocktailService;
+    private final RecommendService recommendService;
+
+    // 자동완성 응답 캐시 시간 (카탈로그 스냅샷 갱신 주기와 맞춤)
+    private static final Duration SUGGEST_MAX_AGE = Duration.ofSeconds(60);
+
+    // 검색창 자동완성
+    // @param q    입력 중인 접두사 (영문, 한글, 초성 모두 가능 예: "mar", "마가", "ㅁㄱ")
+    // @param size 최대 개수 (기본 5, 최대 10)
+    @GetMapping("/suggest")
+    @Operation(summary = "칵테일 이름 자동완성")
+    public ResponseEntity<RsData<List<CocktailSuggestResponseDto>>> suggest(
+            @RequestParam(value = "q", required = false) String q,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        List<CocktailSuggestResponseDto> suggestions = cocktailService.suggest(q, size);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(SUGGEST_MAX_AGE).cachePublic())
+                .body(RsData.successOf(suggestions));
+    }
+
+    // 이 칵테일을 킵한 사람들이 함께 킵한 칵테일
+    @GetMapping("/{id}/also-kept")
+    @Operation(summary = "함께 킵한 칵테일 조회")
+    public RsData<List<CocktailSummaryResponseDto>> getAlsoKept(
+            @PathVariable long id,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size
+    ) {
+        return RsData.successOf(recommendService.recommendAlsoKept(id, Math.max(1, Math.min(size, 20))));
+    }
+
+    // 보유 재료로 만들 수 있는 칵테일
+    // @param ingredients 보유 재료 이름 (예: ingredients=진,라임 주스,설탕)
+    // @param maxMissing  허용하는 부족 재료 수 (0: 모든 재료 보유, 1: 최대 1개 부족, 기본 1)
+    // @return 부족 재료 수 적은 순 → 재료 충족률 높은 순 → 킵 수 많은 순
+    @GetMapping("/makeable")
+    @Operation(summary = "보유 재료로 만들 수 있는 칵테일 조회")
+    public RsData<List<CocktailMakeableResponseDto>> getMakeableCocktails(
+            @RequestParam(value = "ingredients", required = false) List<String> ingredients,
+            @RequestParam(value = "maxMissing", required = false) Integer maxMissing,
+            @RequestParam(value = "page", required = false) Integer page,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        List<CocktailMakeableResponseDto> cocktails = cocktailService.findMakeable(ingredients, maxMissing, page, size);
+        return RsData.successOf(cocktails);
+    }
 
     @GetMapping("/{id}")
     @Transactional
@@ -34,6 +86,8 @@ public class CocktailController {
      // @param lastValue 다음 페이지에서 이 값보다 작은 항목만 가져오기 위해 사용
      // @param lastId 마지막으로 가져온 칵테일 ID (첫 요청 null 가능)
      // @param size   가져올 데이터 개수 (기본값 DEFAULT_SIZE)
+     // @param sortBy recent(기본) | keeps | comments | trending(최근 킵/댓글/조회 기준, lastId만 사용)
+     // @param rankingVersion trending 다음 페이지: 이전 응답 헤더(X-Ranking-Version)의 값 (첫 페이지는 생략)
      // @return RsData 형태의 칵테일 요약 정보 리스트
     @GetMapping
     @Transactional
@@ -42,14 +96,17 @@ public class CocktailController {
             @RequestParam(value = "lastValue", required = false) Long lastValue,
             @RequestParam(value = "lastId", required = false) Long lastId,
             @RequestParam(value = "size", required = false) Integer size,
-            @RequestParam(value = "sortBy", required = false, defaultValue = "recent") String sortBy
+            @RequestParam(value = "sortBy", required = false, defaultValue = "recent") String sortBy,
+            @RequestParam(value = "rankingVersion", required = false) Long rankingVersion
     ) {
-        List<CocktailSummaryResponseDto> cocktails = cocktailService.getCocktails(lastValue, lastId, size, sortBy);
+        List<CocktailSummaryResponseDto> cocktails =
+                cocktailService.getCocktails(lastValue, lastId, size, sortBy, rankingVersion);
         return RsData.successOf(cocktails);
     }
 
     // 칵테일 검색 및 필터링
     // POST 방식으로 JSON body를 통해 검색 조건 전달
+    // searchMode: KEYWORD(기본, 이름/재료/스토리) | NAME(초성/오타 허용 이름 검색)
 
     @PostMapping("/search")
     @Operation(summary = "칵테일 검색 및 필터링")
@@ -61,4 +118,16 @@ public class CocktailController {
 
         return RsData.successOf(searchResults);
     }
+
+    // 칵테일 검색 + 필터 칩별 건수
+    // 요청 body는 /search와 동일, 응답에 결과 목록(cocktails)과 값별 건수(facets)를 함께 담는다
+    // 각 칩의 건수 = 키워드 + 다른 조건들을 적용했을 때 그 값을 고르면 나오는 결과 수
+    @PostMapping("/search/faceted")
+    @Operation(summary = "칵테일 검색 및 필터링 (필터별 건수 포함)")
+    public RsData<CocktailFacetedSearchResponseDto> searchWithFacets(
+            @RequestBody CocktailSearchRequestDto cocktailSearchRequestDto
+    ) {
+        CocktailFacetedSearchResponseDto result = cocktailService.searchWithFacets(cocktailSearchRequestDto);
+        return RsData.successOf(result);
+    }
 }
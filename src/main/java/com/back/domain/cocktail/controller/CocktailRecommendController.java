@@ -1,11 +1,14 @@
 package com.back.domain.cocktail.controller;
 
 import com.back.domain.cocktail.dto.CocktailRecommendResponseDto;
+import com.back.domain.cocktail.dto.CocktailSummaryResponseDto;
 import com.back.domain.cocktail.service.RecommendService;
 import com.back.global.rsData.RsData;
+import com.back.global.security.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -27,4 +30,15 @@ public class CocktailRecommendController {
     public RsData<List<CocktailRecommendResponseDto>> recommendRelated(@RequestParam Long cocktailId) {
         return RsData.successOf(recommendService.recommendRelatedCocktails(cocktailId, 3));
     }
+
+    // 개인화 추천 피드 (내가 킵한 칵테일들과 함께 킵된 칵테일, 비로그인이면 인기 칵테일)
+    @Operation(summary = "개인화 칵테일 추천", description = "내 바에 킵한 칵테일을 함께 킵한 사용자들의 킵을 기준으로 추천합니다.")
+    @GetMapping("/for-you")
+    public RsData<List<CocktailSummaryResponseDto>> recommendForYou(
+            @AuthenticationPrincipal SecurityUser principal,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size
+    ) {
+        Long userId = principal != null ? principal.getId() : null;
+        return RsData.successOf(recommendService.recommendForYou(userId, Math.max(1, Math.min(size, 50))));
+    }
 }
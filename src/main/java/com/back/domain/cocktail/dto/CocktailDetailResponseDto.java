@@ -1,7 +1,6 @@
 package com.back.domain.cocktail.dto;
 
 import com.back.domain.cocktail.entity.Cocktail;
-import com.back.domain.cocktail.service.CocktailService;
 
 import java.util.List;
 
@@ -14,11 +13,12 @@ public record CocktailDetailResponseDto(
         String alcoholBaseType,
         String cocktailImgUrl,
         String cocktailStory,
-        List<CocktailService.IngredientDto> ingredient,
+        List<IngredientDto> ingredient,
         String recipe,
-        String cocktailPreview
+        String cocktailPreview,
+        Long uniqueViewerCount // 최근 7일 순방문자 추정치
 ) {
-    public static CocktailDetailResponseDto from(Cocktail cocktail, List<CocktailService.IngredientDto> ingredients){
+    public static CocktailDetailResponseDto from(Cocktail cocktail, List<IngredientDto> ingredients, Long uniqueViewerCount){
         String preview =cocktail.getCocktailStory().length() >80 ?
                 cocktail.getCocktailStory().substring(0,80)+"..."
                 : cocktail.getCocktailStory();
@@ -34,7 +34,8 @@ public record CocktailDetailResponseDto(
                 cocktail.getCocktailStory(),
                 ingredients,
                 cocktail.getRecipe(),
-                preview
+                preview,
+                uniqueViewerCount
         );
     }
 }
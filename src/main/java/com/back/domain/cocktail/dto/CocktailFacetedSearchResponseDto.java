@@ -0,0 +1,46 @@
+package com.back.domain.cocktail.dto;
+
+import com.back.domain.cocktail.catalog.CatalogFacets;
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 검색 결과 + 필터 칩별 건수
+public record CocktailFacetedSearchResponseDto(
+        List<CocktailSearchResponseDto> cocktails,
+        Facets facets
+) {
+    public record Facets(
+            List<FacetCount> alcoholStrengths,
+            List<FacetCount> cocktailTypes,
+            List<FacetCount> alcoholBaseTypes
+    ) {
+        public static Facets from(CatalogFacets facets) {
+            return new Facets(
+                    counts(AlcoholStrength.values(), AlcoholStrength::getDescription, facets.strengthCounts()),
+                    counts(CocktailType.values(), CocktailType::getDescription, facets.typeCounts()),
+                    counts(AlcoholBaseType.values(), AlcoholBaseType::getDescription, facets.baseCounts())
+            );
+        }
+
+        private static <E extends Enum<E>> List<FacetCount> counts(E[] values, Function<E, String> description, int[] counts) {
+            List<FacetCount> result = new ArrayList<>(values.length);
+            for (E value : values) {
+                result.add(new FacetCount(value.name(), description.apply(value), counts[value.ordinal()]));
+            }
+            return result;
+        }
+    }
+
+    // value: 요청에 그대로 쓰는 enum 이름, description: 화면 표시용 이름
+    public record FacetCount(
+            String value,
+            String description,
+            int count
+    ) {
+    }
+}
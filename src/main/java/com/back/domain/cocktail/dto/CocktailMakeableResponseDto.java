@@ -0,0 +1,30 @@
+package com.back.domain.cocktail.dto;
+
+import com.back.domain.cocktail.catalog.IngredientMatch;
+
+import java.util.List;
+
+// 보유 재료로 만들 수 있는 칵테일 (matchedCount / ingredientCount 개 재료 보유, 부족한 재료 목록 포함)
+public record CocktailMakeableResponseDto(
+        Long cocktailId,
+        String cocktailName,
+        String cocktailNameKo,
+        String cocktailImgUrl,
+        String alcoholStrength,
+        int matchedCount,
+        int ingredientCount,
+        List<String> missingIngredients
+) {
+    public static CocktailMakeableResponseDto from(IngredientMatch match) {
+        return new CocktailMakeableResponseDto(
+                match.entry().id(),
+                match.entry().cocktailName(),
+                match.entry().cocktailNameKo(),
+                match.entry().cocktailImgUrl(),
+                match.entry().alcoholStrength().getDescription(),
+                match.matchedCount(),
+                match.ingredientCount(),
+                match.missingIngredients()
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.back.domain.cocktail.dto;
 
 import com.back.domain.cocktail.enums.AlcoholBaseType;
 import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailSearchMode;
 import com.back.domain.cocktail.enums.CocktailType;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -18,6 +19,9 @@ public class CocktailSearchRequestDto {
 
     private String keyword; // 검색 키워드
 
+    // 검색 방식 (기본값 KEYWORD, NAME이면 초성/오타 허용 이름 검색)
+    private CocktailSearchMode searchMode;
+
     private List<AlcoholStrength> alcoholStrengths;
 
     private List<CocktailType> cocktailTypes;
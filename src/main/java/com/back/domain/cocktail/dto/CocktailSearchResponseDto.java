@@ -1,5 +1,6 @@
 package com.back.domain.cocktail.dto;
 
+import com.back.domain.cocktail.catalog.CatalogEntry;
 import com.back.domain.cocktail.entity.Cocktail;
 
 public record CocktailSearchResponseDto (
@@ -31,4 +32,22 @@ public record CocktailSearchResponseDto (
                 preview
         );
     }
+
+    public static CocktailSearchResponseDto from(CatalogEntry entry){
+        String preview =entry.cocktailStory().length() >80 ?
+                entry.cocktailStory().substring(0,80)+"..."
+                : entry.cocktailStory();
+
+        return new CocktailSearchResponseDto(
+                entry.id(),
+                entry.cocktailName(),
+                entry.cocktailNameKo(),
+                entry.alcoholStrength().getDescription(),
+                entry.cocktailType().getDescription(),
+                entry.alcoholBaseType().getDescription(),
+                entry.cocktailImgUrl(),
+                entry.cocktailStory(),
+                preview
+        );
+    }
 }
\ No newline at end of file
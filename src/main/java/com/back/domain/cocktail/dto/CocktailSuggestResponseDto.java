@@ -0,0 +1,22 @@
+package com.back.domain.cocktail.dto;
+
+import com.back.domain.cocktail.catalog.CatalogEntry;
+
+// 검색창 자동완성 항목 (가볍게 유지: 목록 표시용 필드만)
+public record CocktailSuggestResponseDto(
+        Long cocktailId,
+        String cocktailName,
+        String cocktailNameKo,
+        String cocktailImgUrl,
+        long keepCount
+) {
+    public static CocktailSuggestResponseDto from(CatalogEntry entry) {
+        return new CocktailSuggestResponseDto(
+                entry.id(),
+                entry.cocktailName(),
+                entry.cocktailNameKo(),
+                entry.cocktailImgUrl(),
+                entry.keepCount()
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package com.back.domain.cocktail.dto;
 
+import com.back.domain.cocktail.catalog.CatalogEntry;
+
 public record CocktailSummaryResponseDto(
         Long cocktailId,
         String cocktailName,
@@ -19,4 +21,16 @@ public record CocktailSummaryResponseDto(
                                       String alcoholStrength) {
         this(cocktailId, cocktailName, cocktailNameKo, cocktailImgUrl, alcoholStrength, 0L, 0L);
     }
-}
\ No newline at end of file
+
+    public static CocktailSummaryResponseDto from(CatalogEntry entry) {
+        return new CocktailSummaryResponseDto(
+                entry.id(),
+                entry.cocktailName(),
+                entry.cocktailNameKo(),
+                entry.cocktailImgUrl(),
+                entry.alcoholStrength().getDescription(),
+                entry.keepCount(),
+                entry.commentCount()
+        );
+    }
+}
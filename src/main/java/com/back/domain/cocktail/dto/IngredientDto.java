@@ -0,0 +1,13 @@
+package com.back.domain.cocktail.dto;
+
+// 칵테일 재료 한 줄 (예: "데낄라:1 1/2 oz" → 데낄라 / 1 ½ / oz / 1.5 / 44.4)
+// quantity: amount를 숫자로 환산한 값 (숫자가 없으면 null)
+// quantityMl: 부피 단위(oz, cl, ml, shot, tsp ...)인 경우 ml로 환산한 값 (그 외 단위는 null)
+public record IngredientDto(
+        String ingredientName,
+        String amount,
+        String unit,
+        Double quantity,
+        Double quantityMl
+) {
+}
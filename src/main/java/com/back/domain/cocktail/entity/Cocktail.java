@@ -5,6 +5,7 @@ import com.back.domain.cocktail.enums.AlcoholStrength;
 import com.back.domain.cocktail.enums.CocktailType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,6 +22,11 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 @Builder
 @ToString
 @Entity
+@Table(indexes = {
+        // 킵순/댓글순 무한스크롤 (count, id) 키셋 조회용 복합 인덱스
+        @Index(name = "idx_cocktail_keep_count_id", columnList = "keep_count, id"),
+        @Index(name = "idx_cocktail_comment_count_id", columnList = "comment_count, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Cocktail {
     @Id
@@ -48,6 +54,18 @@ public class Cocktail {
 
     private String cocktailImgUrl;
 
+    // ACTIVE 상태 킵 수 (MyBarService에서 원자적으로 증감, 정합성은 CocktailCountService가 보정)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "keep_count", nullable = false)
+    private Long keepCount = 0L;
+
+    // 삭제되지 않은 댓글 수 (CocktailCommentService에서 원자적으로 증감)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount = 0L;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
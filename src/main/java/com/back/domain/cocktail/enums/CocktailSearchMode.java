@@ -0,0 +1,16 @@
+package com.back.domain.cocktail.enums;
+
+public enum CocktailSearchMode {
+    KEYWORD("키워드 검색 (이름/재료/스토리)"),
+    NAME("이름 검색 (초성/오타 허용)");
+
+    private final String description;
+
+    CocktailSearchMode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -1,12 +1,12 @@
 package com.back.domain.cocktail.repository;
 
+import com.back.domain.cocktail.catalog.CatalogVersion;
 import com.back.domain.cocktail.entity.Cocktail;
 import com.back.domain.cocktail.enums.AlcoholBaseType;
 import com.back.domain.cocktail.enums.AlcoholStrength;
-import com.back.domain.cocktail.enums.CocktailType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -20,42 +20,38 @@ public interface CocktailRepository extends JpaRepository<Cocktail, Long> {
     List<Cocktail> findAllByOrderByIdDesc(Pageable pageable);
     List<Cocktail> findByIdLessThanOrderByIdDesc(Long lastId, Pageable pageable);
 
-    // 전체 조회: keepsCount 기준 내림차순
+    // 전체 조회: keepCount 기준 내림차순 (keep_count, id 복합 인덱스 사용)
     @Query("""
         SELECT c FROM Cocktail c
-        LEFT JOIN MyBar m ON m.cocktail = c AND m.status = 'ACTIVE'
-        GROUP BY c.id
-        ORDER BY COUNT(m) DESC, c.id DESC
+        ORDER BY c.keepCount DESC, c.id DESC
     """)
     List<Cocktail> findAllOrderByKeepCountDesc(Pageable pageable);
 
-    // 무한스크롤 조회: lastKeepCount 이하
+    // 무한스크롤 조회: (keepCount, id) 키셋
     @Query("""
-    SELECT c FROM Cocktail c
-    LEFT JOIN MyBar m ON m.cocktail = c AND m.status = 'ACTIVE'
-    GROUP BY c.id
-    HAVING COUNT(m) < :lastKeepCount OR (COUNT(m) = :lastKeepCount AND c.id < :lastId)
-    ORDER BY COUNT(m) DESC, c.id DESC
-""")
+        SELECT c FROM Cocktail c
+        WHERE c.keepCount < :lastKeepCount
+           OR (c.keepCount = :lastKeepCount AND c.id < :lastId)
+        ORDER BY c.keepCount DESC, c.id DESC
+    """)
     List<Cocktail> findByKeepCountLessThanOrderByKeepCountDesc(
             @Param("lastKeepCount") Long lastKeepCount,
             @Param("lastId") Long lastId,
             Pageable pageable
     );
 
-    // 댓글순
-    @Query("SELECT c FROM Cocktail c " +
-        "LEFT JOIN CocktailComment cm ON cm.cocktail = c " +
-        "GROUP BY c.id " +
-        "ORDER BY COUNT(cm) DESC, c.id DESC")
+    // 댓글순 (comment_count, id 복합 인덱스 사용)
+    @Query("""
+        SELECT c FROM Cocktail c
+        ORDER BY c.commentCount DESC, c.id DESC
+    """)
     List<Cocktail> findAllOrderByCommentsCountDesc(Pageable pageable);
 
     @Query("""
         SELECT c FROM Cocktail c
-        LEFT JOIN CocktailComment cm ON cm.cocktail = c
-        GROUP BY c.id
-        HAVING COUNT(cm) < :lastCommentsCount OR (COUNT(cm) = :lastCommentsCount AND c.id < :lastId)
-        ORDER BY COUNT(cm) DESC, c.id DESC
+        WHERE c.commentCount < :lastCommentsCount
+           OR (c.commentCount = :lastCommentsCount AND c.id < :lastId)
+        ORDER BY c.commentCount DESC, c.id DESC
     """)
     List<Cocktail> findByCommentsCountLessThanOrderByCommentsCountDesc(
             @Param("lastCommentsCount") Long lastCommentsCount,
@@ -63,21 +59,65 @@ public interface CocktailRepository extends JpaRepository<Cocktail, Long> {
             Pageable pageable
     );
 
-    //검색, 필터
-    @Query("SELECT c FROM Cocktail c " +
-            "WHERE (:keyword IS NULL OR :keyword = '' OR " +
-            "       LOWER(c.cocktailName) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "       LOWER(c.cocktailNameKo) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "       LOWER(c.ingredient) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-            "       LOWER(c.cocktailStory) LIKE LOWER(CONCAT('%', :keyword, '%')))" +
-            "  AND (:strengths IS NULL OR c.alcoholStrength IN :strengths) " + // 알코올 도수 필터를 담당
-            "  AND (:types IS NULL OR c.cocktailType IN :types) " +            // 칵테일 타입 필터를 담당
-            "  AND (:bases IS NULL OR c.alcoholBaseType IN :bases) ")  // 알코올 베이스 필터를 담당
-    Page<Cocktail> searchWithFilters(@Param("keyword") String keyword,
-                                     @Param("strengths") List<AlcoholStrength> strengths,
-                                     @Param("types") List<CocktailType> types,
-                                     @Param("bases") List<AlcoholBaseType> bases,
-                                     Pageable pageable);
+    // 킵 수 원자적 증감 (음수로 내려가지 않도록 보정)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Cocktail c
+           SET c.keepCount = CASE WHEN c.keepCount + :delta < 0 THEN 0 ELSE c.keepCount + :delta END
+         WHERE c.id = :cocktailId
+    """)
+    int addKeepCount(@Param("cocktailId") Long cocktailId, @Param("delta") long delta);
+
+    // 사용자의 ACTIVE 킵 전체 해제 전, 해당 칵테일들의 킵 수를 한 번에 1씩 감소
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Cocktail c
+           SET c.keepCount = CASE WHEN c.keepCount > 0 THEN c.keepCount - 1 ELSE 0 END
+         WHERE c.id IN (
+               SELECT m.cocktail.id FROM MyBar m
+                WHERE m.user.id = :userId
+                  AND m.status = 'ACTIVE')
+    """)
+    int decreaseKeepCountForActiveKeepsOf(@Param("userId") Long userId);
+
+    // 댓글 수 원자적 증감 (음수로 내려가지 않도록 보정)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Cocktail c
+           SET c.commentCount = CASE WHEN c.commentCount + :delta < 0 THEN 0 ELSE c.commentCount + :delta END
+         WHERE c.id = :cocktailId
+    """)
+    int addCommentCount(@Param("cocktailId") Long cocktailId, @Param("delta") long delta);
+
+    // 카운터 정합성 보정: 실제 ACTIVE 킵 수와 다른 행만 갱신
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        UPDATE cocktail c
+           SET c.keep_count = (SELECT COUNT(*) FROM my_bar m
+                                WHERE m.cocktail_id = c.id AND m.status = 'ACTIVE')
+         WHERE c.keep_count <> (SELECT COUNT(*) FROM my_bar m
+                                 WHERE m.cocktail_id = c.id AND m.status = 'ACTIVE')
+    """, nativeQuery = true)
+    int reconcileKeepCounts();
+
+    // 카운터 정합성 보정: 실제 삭제되지 않은 댓글 수와 다른 행만 갱신
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        UPDATE cocktail c
+           SET c.comment_count = (SELECT COUNT(*) FROM cocktail_comment cm
+                                   WHERE cm.cocktail_id = c.id AND cm.status <> 'DELETED')
+         WHERE c.comment_count <> (SELECT COUNT(*) FROM cocktail_comment cm
+                                    WHERE cm.cocktail_id = c.id AND cm.status <> 'DELETED')
+    """, nativeQuery = true)
+    int reconcileCommentCounts();
+
+    // 카탈로그 스냅샷 변경 감지용 지문
+    @Query("""
+        SELECT new com.back.domain.cocktail.catalog.CatalogVersion(
+                COUNT(c), MAX(c.id), MAX(c.updatedAt), SUM(c.keepCount))
+        FROM Cocktail c
+    """)
+    CatalogVersion findCatalogVersion();
 
     List<Cocktail> findByAlcoholStrengthAndAlcoholBaseTypeAndIdNot(
             AlcoholStrength alcoholStrength,
@@ -0,0 +1,32 @@
+package com.back.domain.cocktail.service;
+
+import com.back.domain.cocktail.repository.CocktailRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CocktailCountService {
+
+    private final CocktailRepository cocktailRepository;
+
+    // 비정규화된 keepCount/commentCount를 실제 MyBar/CocktailComment 기준으로 보정 (기동 시 + 매일 새벽 4시)
+    // 동시 킵/해제 경합, CSV 적재 등 수동 데이터 변경으로 생긴 드리프트를 복구한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void reconcileCounts() {
+        int keepFixed = cocktailRepository.reconcileKeepCounts();
+        int commentFixed = cocktailRepository.reconcileCommentCounts();
+
+        if (keepFixed > 0 || commentFixed > 0) {
+            log.info("칵테일 카운터 보정 완료 - keepCount: {}건, commentCount: {}건", keepFixed, commentFixed);
+        }
+    }
+}
@@ -1,28 +1,34 @@
 package com.back.domain.cocktail.service;
 
-import com.back.domain.cocktail.comment.repository.CocktailCommentRepository;
+import com.back.domain.cocktail.catalog.Catalog;
+import com.back.domain.cocktail.catalog.CatalogEntry;
+import com.back.domain.cocktail.catalog.CatalogSnapshot;
+import com.back.domain.cocktail.catalog.IngredientParser;
 import com.back.domain.cocktail.dto.CocktailDetailResponseDto;
+import com.back.domain.cocktail.dto.CocktailFacetedSearchResponseDto;
+import com.back.domain.cocktail.dto.CocktailMakeableResponseDto;
 import com.back.domain.cocktail.dto.CocktailSearchRequestDto;
 import com.back.domain.cocktail.dto.CocktailSearchResponseDto;
+import com.back.domain.cocktail.dto.CocktailSuggestResponseDto;
 import com.back.domain.cocktail.dto.CocktailSummaryResponseDto;
+import com.back.domain.cocktail.dto.IngredientDto;
 import com.back.domain.cocktail.entity.Cocktail;
 import com.back.domain.cocktail.enums.AlcoholBaseType;
 import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailSearchMode;
 import com.back.domain.cocktail.enums.CocktailType;
 import com.back.domain.cocktail.repository.CocktailRepository;
-import com.back.domain.mybar.enums.KeepStatus;
-import com.back.domain.mybar.repository.MyBarRepository;
+import com.back.domain.visitor.enums.VisitorTarget;
+import com.back.domain.visitor.service.UniqueVisitorService;
+import com.back.global.rq.Rq;
+import com.back.global.standard.util.DecayingScoreBoard;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.CollectionUtils;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,11 +36,15 @@ import java.util.stream.Collectors;
 public class CocktailService {
 
     private final CocktailRepository cocktailRepository;
-    private final MyBarRepository myBarRepository;
-    private final CocktailCommentRepository cocktailCommentRepository;
+    private final CatalogSnapshot catalogSnapshot;
+    private final CocktailTrendingService cocktailTrendingService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final Rq rq;
 
 
     private static final int DEFAULT_SIZE = 20;
+    private static final int DEFAULT_SUGGEST_SIZE = 5;
+    private static final int MAX_MISSING_INGREDIENTS = 1;
 
     @Transactional(readOnly = true)
     public Cocktail getCocktailById(Long id) {
@@ -44,13 +54,24 @@ public class CocktailService {
     }
 
     @Transactional(readOnly = true)
-    public List<CocktailSummaryResponseDto> getCocktails(Long lastValue, Long lastId, Integer size, String sortBy) {
+    public List<CocktailSummaryResponseDto> getCocktails(Long lastValue, Long lastId, Integer size, String sortBy,
+                                                         Long rankingVersion) {
         int fetchSize = (size != null) ? size : DEFAULT_SIZE;
         Pageable pageable = PageRequest.of(0, fetchSize);
         List<Cocktail> cocktails;
 
         Long cursor = (lastValue != null) ? lastValue : lastId;
 
+        // 트렌딩: 메모리 랭킹에서 lastId 다음 순위부터, 칵테일 정보는 카탈로그 스냅샷에서
+        // 다음 페이지가 같은 랭킹 안에서 이어지도록 읽은 랭킹 버전을 응답 헤더로 전달
+        if ("trending".equalsIgnoreCase(sortBy)) {
+            DecayingScoreBoard.Page page = cocktailTrendingService.rankedAfter(rankingVersion, lastId, fetchSize);
+            rq.setHeader(DecayingScoreBoard.VERSION_HEADER, String.valueOf(page.version()));
+            return catalogSnapshot.current().findAllById(page.ids()).stream()
+                    .map(CocktailSummaryResponseDto::from)
+                    .collect(Collectors.toList());
+        }
+
         switch (sortBy != null ? sortBy.toLowerCase() : "") {
             case "keeps":
                 cocktails = (cursor == null)
@@ -69,148 +90,163 @@ public class CocktailService {
                 break;
         }
 
+        // Keep 수, 댓글 수는 Cocktail에 비정규화된 카운터를 그대로 사용 (추가 쿼리 없음)
         return cocktails.stream()
-                .map(c -> {
-                    // 해당 칵테일의 ACTIVE Keep 수
-                    Long keepCount = myBarRepository.countByCocktailAndStatus(c, KeepStatus.ACTIVE);
-
-                    // 해당 칵테일 댓글 수
-                    Long commentCount = cocktailCommentRepository.countByCocktail(c);
-
-                    return new CocktailSummaryResponseDto(
-                            c.getId(),
-                            c.getCocktailName(),
-                            c.getCocktailNameKo(),
-                            c.getCocktailImgUrl(),
-                            c.getAlcoholStrength().getDescription(),
-                            keepCount,
-                            commentCount
-                    );
-                })
+                .map(c -> new CocktailSummaryResponseDto(
+                        c.getId(),
+                        c.getCocktailName(),
+                        c.getCocktailNameKo(),
+                        c.getCocktailImgUrl(),
+                        c.getAlcoholStrength().getDescription(),
+                        c.getKeepCount(),
+                        c.getCommentCount()
+                ))
                 .collect(Collectors.toList());
     }
 
-    // 칵테일 검색,필터기능
-    @Transactional(readOnly = true)
+    // 칵테일 검색,필터기능 (인메모리 카탈로그 스냅샷 사용, DB 조회 없음)
     public List<CocktailSearchResponseDto> searchAndFilter(CocktailSearchRequestDto cocktailSearchRequestDto) {
-        // 기본값 페이지/사이즈 정하기(PAGE 기본값 0, 사이즈 10)
-        int page = cocktailSearchRequestDto.getPage() != null && cocktailSearchRequestDto.getPage() >= 0
-                ? cocktailSearchRequestDto.getPage() : 0;
-
-        int size = cocktailSearchRequestDto.getSize() != null && cocktailSearchRequestDto.getSize() > 0
-                ? cocktailSearchRequestDto.getSize() : DEFAULT_SIZE;
-
-        // searchAndFilters에서 조회한 결과값을 pageResult에 저장.
-        Pageable pageable = PageRequest.of(page, size);
-
-        // 빈 리스트(null 또는 [])는 null로 변환
-        List<AlcoholStrength> strengths = CollectionUtils.isEmpty(cocktailSearchRequestDto.getAlcoholStrengths())
-                ? null
-                : cocktailSearchRequestDto.getAlcoholStrengths();
-
-        List<CocktailType> types = CollectionUtils.isEmpty(cocktailSearchRequestDto.getCocktailTypes())
-                ? null
-                : cocktailSearchRequestDto.getCocktailTypes();
-
-        List<AlcoholBaseType> bases = CollectionUtils.isEmpty(cocktailSearchRequestDto.getAlcoholBaseTypes())
-                ? null
-                : cocktailSearchRequestDto.getAlcoholBaseTypes();
-
-        // Repository 호출
-        Page<Cocktail> pageResult = cocktailRepository.searchWithFilters(
+        // 인메모리 스냅샷 → CocktailSearchResponseDto 응답 DTO로 바꿔주는 과정
+        return searchCatalog(
+                cocktailSearchRequestDto.getSearchMode(),
                 cocktailSearchRequestDto.getKeyword(),
-                strengths, // List<AlcoholStrength>
-                types, // List<CocktailType>
-                bases, // List<AlcoholBaseType>
-                pageable
-        );
-
-        //Cocktail 엔티티 → CocktailResponseDto 응답 DTO로 바꿔주는 과정
-        List<CocktailSearchResponseDto> resultDtos = pageResult.stream()
+                cocktailSearchRequestDto.getAlcoholStrengths(),
+                cocktailSearchRequestDto.getCocktailTypes(),
+                cocktailSearchRequestDto.getAlcoholBaseTypes(),
+                pageOf(cocktailSearchRequestDto),
+                sizeOf(cocktailSearchRequestDto)
+        ).stream()
                 .map(CocktailSearchResponseDto::from)
                 .collect(Collectors.toList());
-
-        return resultDtos;
     }
 
-    // 칵테일 상세조회
-    @Transactional(readOnly = true)
-    public CocktailDetailResponseDto getCocktailDetailById(Long cocktailId) {
-        Cocktail cocktail = cocktailRepository.findById(cocktailId)
-                .orElseThrow(() -> new NoSuchElementException("칵테일을 찾을 수 없습니다. id: " + cocktailId));
-
-        // ingredient 분수 변환
-        List<IngredientDto> formattedIngredient = parseIngredients(convertFractions(cocktail.getIngredient()));
-
-        return CocktailDetailResponseDto.from(cocktail, formattedIngredient);
-    }
+    // 칵테일 검색 + 필터 칩별 건수
+    // 키워드 일치 결과를 한 번 구한 뒤, 필터 적용과 값별 건수 계산을 모두 비트맵 위에서 처리
+    public CocktailFacetedSearchResponseDto searchWithFacets(CocktailSearchRequestDto cocktailSearchRequestDto) {
+        Catalog catalog = catalogSnapshot.current();
+        String keyword = cocktailSearchRequestDto.getKeyword();
+        List<AlcoholStrength> strengths = cocktailSearchRequestDto.getAlcoholStrengths();
+        List<CocktailType> types = cocktailSearchRequestDto.getCocktailTypes();
+        List<AlcoholBaseType> bases = cocktailSearchRequestDto.getAlcoholBaseTypes();
+        int page = pageOf(cocktailSearchRequestDto);
+        int size = sizeOf(cocktailSearchRequestDto);
+
+        BitSet filtered = catalog.filter(strengths, types, bases);
+        BitSet matches;
+        List<CatalogEntry> entries;
+
+        if (keyword == null || keyword.isBlank()) {
+            matches = catalog.filter(null, null, null);
+            entries = catalog.page(filtered, page, size);
+        } else {
+            // 점수/순위는 칵테일마다 독립적이라 전체에서 랭킹한 뒤 필터를 적용해도 결과가 같다
+            int[] ranked = cocktailSearchRequestDto.getSearchMode() == CocktailSearchMode.NAME
+                    ? catalog.lookupName(keyword, catalog.filter(null, null, null))
+                    : catalog.search(keyword, catalog.filter(null, null, null));
+            matches = Catalog.toBitSet(ranked);
+            entries = catalog.page(Catalog.retain(ranked, filtered), page, size);
+        }
 
-    private String convertFractions(String ingredient) {
-        if (ingredient == null) return null;
-
-        // 치환 테이블 생성
-        Map<String, String> fractionMap = Map.ofEntries(
-                Map.entry("1/2", "½"),
-                Map.entry("1/3", "⅓"),
-                Map.entry("2/3", "⅔"),
-                Map.entry("1/4", "¼"),
-                Map.entry("3/4", "¾"),
-                Map.entry("1/8", "⅛"),
-                Map.entry("3/8", "⅜"),
-                Map.entry("5/8", "⅝"),
-                Map.entry("7/8", "⅞"),
-                Map.entry("1/5", "⅕"),
-                Map.entry("2/5", "⅖"),
-                Map.entry("1/6", "⅙")
+        return new CocktailFacetedSearchResponseDto(
+                entries.stream().map(CocktailSearchResponseDto::from).collect(Collectors.toList()),
+                CocktailFacetedSearchResponseDto.Facets.from(catalog.facets(matches, strengths, types, bases))
         );
+    }
 
-        // 테이블 기반 치환
-        for (Map.Entry<String, String> entry : fractionMap.entrySet()) {
-            ingredient = ingredient.replace(entry.getKey(), entry.getValue());
-        }
-
-        return ingredient;
+    // 기본값 페이지/사이즈 정하기(PAGE 기본값 0, 사이즈 DEFAULT_SIZE)
+    private int pageOf(CocktailSearchRequestDto cocktailSearchRequestDto) {
+        return cocktailSearchRequestDto.getPage() != null && cocktailSearchRequestDto.getPage() >= 0
+                ? cocktailSearchRequestDto.getPage() : 0;
     }
 
-    // Ingredient DTO
-    public record IngredientDto(
-            String ingredientName,
-            String amount,
-            String unit
-    ) {
+    private int sizeOf(CocktailSearchRequestDto cocktailSearchRequestDto) {
+        return cocktailSearchRequestDto.getSize() != null && cocktailSearchRequestDto.getSize() > 0
+                ? cocktailSearchRequestDto.getSize() : DEFAULT_SIZE;
     }
 
-    private List<IngredientDto> parseIngredients(String ingredientStr) {
-        if (ingredientStr == null || ingredientStr.isBlank()) return Collections.emptyList();
+    // 카탈로그 스냅샷 검색 (검색 화면, 챗봇 추천 공용)
+    // - 필터는 enum 비트맵 교집합, 키워드는 n-gram 색인으로 점수순 랭킹
+    // - 빈 리스트(null 또는 [])는 필터 없음으로 처리, 키워드가 없으면 ID 오름차순
+    public List<CatalogEntry> searchCatalog(String keyword,
+                                            List<AlcoholStrength> strengths,
+                                            List<CocktailType> types,
+                                            List<AlcoholBaseType> bases,
+                                            int page,
+                                            int size) {
+        return searchCatalog(CocktailSearchMode.KEYWORD, keyword, strengths, types, bases, page, size);
+    }
 
-        List<IngredientDto> result = new ArrayList<>();
-        String[] items = ingredientStr.split(",\\s*");
+    // searchMode가 NAME이면 초성("ㅁㅎㄸ")/오타("margarota") 허용 이름 검색
+    public List<CatalogEntry> searchCatalog(CocktailSearchMode searchMode,
+                                            String keyword,
+                                            List<AlcoholStrength> strengths,
+                                            List<CocktailType> types,
+                                            List<AlcoholBaseType> bases,
+                                            int page,
+                                            int size) {
+        Catalog catalog = catalogSnapshot.current();
+        BitSet hits = catalog.filter(strengths, types, bases);
+
+        if (keyword == null || keyword.isBlank()) {
+            return catalog.page(hits, page, size);
+        }
+        if (searchMode == CocktailSearchMode.NAME) {
+            return catalog.page(catalog.lookupName(keyword, hits), page, size);
+        }
+        return catalog.page(catalog.search(keyword, hits), page, size);
+    }
 
-        for (String item : items) {
-            String[] parts = item.split(":");
-            if (parts.length != 2) continue;
+    // 검색창 자동완성 (영문/한글/초성 접두사, 킵 수 많은 순)
+    // size는 1 ~ 트라이에 미리 계산해 둔 최대 개수 범위로 제한
+    public List<CocktailSuggestResponseDto> suggest(String prefix, Integer size) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int limit = (size != null && size > 0) ? Math.min(size, Catalog.maxSuggestions()) : DEFAULT_SUGGEST_SIZE;
 
-            String name = parts[0].trim();
-            String amountUnit = parts[1].trim();
+        List<CatalogEntry> entries = catalogSnapshot.current().suggest(prefix.strip(), limit);
+        List<CocktailSuggestResponseDto> result = new ArrayList<>(entries.size());
+        for (CatalogEntry entry : entries) {
+            result.add(CocktailSuggestResponseDto.from(entry));
+        }
+        return result;
+    }
 
-            // (숫자 + 선택적 분수) + (공백) + (단위)
-            Pattern pattern = Pattern.compile(
-                    "^([0-9]*\\s*[½⅓⅔¼¾⅛⅜⅝⅞⅕⅖⅙]?)\\s*(.*)$",
-                    Pattern.UNICODE_CHARACTER_CLASS
-            );
-            Matcher matcher = pattern.matcher(amountUnit);
+    // 보유 재료로 만들 수 있는 칵테일 (모든 재료 보유 또는 최대 1개 부족)
+    // maxMissing은 0 ~ 1 범위로 제한, 사전에 없는 재료 이름은 무시
+    public List<CocktailMakeableResponseDto> findMakeable(List<String> ingredients, Integer maxMissing,
+                                                          Integer page, Integer size) {
+        if (ingredients == null || ingredients.isEmpty()) {
+            return List.of();
+        }
+        int missing = (maxMissing != null) ? Math.max(0, Math.min(maxMissing, MAX_MISSING_INGREDIENTS)) : MAX_MISSING_INGREDIENTS;
+        int pageNo = (page != null && page >= 0) ? page : 0;
+        int pageSize = (size != null && size > 0) ? size : DEFAULT_SIZE;
 
-            if (matcher.matches()) {
-                String amount = matcher.group(1).trim();
-                String unit = matcher.group(2).trim();
+        Catalog catalog = catalogSnapshot.current();
+        BitSet all = catalog.filter(null, null, null);
 
-                result.add(new IngredientDto(name, amount, unit));
-            } else {
-                // 패턴 매치 실패 시 전체를 amount로 처리
-                result.add(new IngredientDto(name, amountUnit, ""));
-            }
-        }
+        return catalog.matchIngredients(ingredients, missing, all, pageNo, pageSize).stream()
+                .map(CocktailMakeableResponseDto::from)
+                .collect(Collectors.toList());
+    }
 
-        return result;
+    // 칵테일 상세조회
+    @Transactional(readOnly = true)
+    public CocktailDetailResponseDto getCocktailDetailById(Long cocktailId) {
+        Cocktail cocktail = cocktailRepository.findById(cocktailId)
+                .orElseThrow(() -> new NoSuchElementException("칵테일을 찾을 수 없습니다. id: " + cocktailId));
+        cocktailTrendingService.recordView(cocktailId);
+        uniqueVisitorService.recordCurrentVisitor(VisitorTarget.COCKTAIL, cocktailId);
+
+        // 재료는 카탈로그 스냅샷에 미리 파싱해 둔 결과를 재사용
+        // (스냅샷 갱신 전에 추가/수정된 칵테일이면 그 자리에서 파싱)
+        List<IngredientDto> ingredients = catalogSnapshot.current().findById(cocktailId)
+                .filter(entry -> Objects.equals(entry.ingredient(), cocktail.getIngredient()))
+                .map(CatalogEntry::ingredients)
+                .orElseGet(() -> IngredientParser.parse(cocktail.getIngredient()));
+
+        return CocktailDetailResponseDto.from(cocktail, ingredients,
+                uniqueVisitorService.count(VisitorTarget.COCKTAIL, cocktailId));
     }
 }
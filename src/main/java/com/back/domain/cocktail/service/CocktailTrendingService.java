@@ -0,0 +1,90 @@
+package com.back.domain.cocktail.service;
+
+import com.back.domain.cocktail.comment.repository.CocktailCommentRepository;
+import com.back.domain.mybar.repository.MyBarRepository;
+import com.back.global.standard.util.DecayingScoreBoard;
+import com.back.global.standard.util.EventWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트렌딩 칵테일 랭킹 (킵, 댓글, 상세 조회에 지수 감쇠를 적용한 점수)
+ * - 시작 시 최근 7일 이벤트로 점수를 채우고, 이후에는 5분마다 지난 실행 이후 이벤트만 더한다
+ *   (늦게 커밋된 행을 위해 1분 겹쳐 읽고 이벤트 ID로 중복 제거)
+ * - 상세 조회 수는 DB에 이벤트가 남지 않으므로 메모리에서 세었다가 집계 때 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CocktailTrendingService {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(24);
+    private static final Duration INITIAL_WINDOW = Duration.ofDays(7);
+    private static final Duration OVERLAP = Duration.ofMinutes(1);
+    private static final int MAX_RANKED = 500;
+
+    private static final double KEEP_WEIGHT = 3.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.2;
+
+    private final MyBarRepository myBarRepository;
+    private final CocktailCommentRepository cocktailCommentRepository;
+
+    private final DecayingScoreBoard board = new DecayingScoreBoard(HALF_LIFE, LocalDateTime.now());
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final EventWindow keepWindow = new EventWindow(OVERLAP, LocalDateTime.now().minus(INITIAL_WINDOW));
+    private final EventWindow commentWindow = new EventWindow(OVERLAP, LocalDateTime.now().minus(INITIAL_WINDOW));
+
+    public void recordView(Long cocktailId) {
+        pendingViews.computeIfAbsent(cocktailId, id -> new LongAdder()).increment();
+    }
+
+    // version 랭킹에서 lastId 다음 순위부터 size개의 칵테일 ID (version이 없으면 최신 랭킹)
+    public DecayingScoreBoard.Page rankedAfter(Long version, Long lastId, int size) {
+        return board.after(version, lastId, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        board.decayTo(now);
+
+        int keeps = addNewEvents(keepWindow, myBarRepository.findKeepEventsSince(keepWindow.since()), KEEP_WEIGHT);
+        int comments = addNewEvents(commentWindow,
+                cocktailCommentRepository.findCommentEventsSince(commentWindow.since()), COMMENT_WEIGHT);
+        pendingViews.forEach((id, views) -> board.add(id, VIEW_WEIGHT * views.sumThenReset(), now));
+        pendingViews.values().removeIf(views -> views.sum() == 0);
+
+        board.publish(MAX_RANKED);
+        keepWindow.advanceTo(now);
+        commentWindow.advanceTo(now);
+        log.debug("트렌딩 칵테일 갱신: 킵 {}건, 댓글 {}건", keeps, comments);
+    }
+
+    // (이벤트 ID, cocktailId, 발생 시각) 중 처음 보는 이벤트만 점수에 더하고 그 수를 반환
+    private int addNewEvents(EventWindow window, List<Object[]> events, double weight) {
+        int added = 0;
+        for (Object[] e : events) {
+            LocalDateTime occurredAt = (LocalDateTime) e[2];
+            if (window.firstSeen((Long) e[0], occurredAt)) {
+                board.add((Long) e[1], weight, occurredAt);
+                added++;
+            }
+        }
+        return added;
+    }
+}
@@ -1,20 +1,46 @@
 package com.back.domain.cocktail.service;
 
+import com.back.domain.cocktail.catalog.Catalog;
+import com.back.domain.cocktail.catalog.CatalogEntry;
+import com.back.domain.cocktail.catalog.CatalogSnapshot;
 import com.back.domain.cocktail.dto.CocktailRecommendResponseDto;
+import com.back.domain.cocktail.dto.CocktailSummaryResponseDto;
 import com.back.domain.cocktail.entity.Cocktail;
 import com.back.domain.cocktail.repository.CocktailRepository;
+import com.back.domain.mybar.service.CoKeepService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class RecommendService {
 
     private final CocktailRepository cocktailRepository;
+    private final CatalogSnapshot catalogSnapshot;
+    private final CoKeepService coKeepService;
 
     public List<CocktailRecommendResponseDto> recommendRelatedCocktails(Long cocktailId, int maxSize) {
+        // 카탈로그 스냅샷에 미리 계산해 둔 유사 칵테일(재료 겹침, 베이스, 도수, 타입 기준) 사용
+        List<CatalogEntry> similar = catalogSnapshot.current().similar(cocktailId, maxSize);
+        if (!similar.isEmpty()) {
+            return similar.stream()
+                    .map(e -> new CocktailRecommendResponseDto(
+                            e.id(),
+                            e.cocktailNameKo(),
+                            e.cocktailName(),
+                            e.cocktailImgUrl(),
+                            e.alcoholStrength().getDescription(),
+                            e.alcoholBaseType().getDescription()
+                    ))
+                    .toList();
+        }
+
+        // 스냅샷 갱신 전에 추가된 칵테일이면 DB에서 조회
         Cocktail current = cocktailRepository.findById(cocktailId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 칵테일입니다."));
 
@@ -42,5 +68,29 @@ public class RecommendService {
                 ))
                 .toList();
     }
-}
 
+    // 이 칵테일을 킵한 사람들이 함께 킵한 칵테일 (동시 킵 행렬 기준)
+    public List<CocktailSummaryResponseDto> recommendAlsoKept(Long cocktailId, int maxSize) {
+        return catalogSnapshot.current().findAllById(coKeepService.alsoKept(cocktailId, maxSize)).stream()
+                .map(CocktailSummaryResponseDto::from)
+                .toList();
+    }
+
+    // 개인화 추천: 내가 킵한 칵테일들과 함께 킵된 칵테일 순, 부족하면 인기 칵테일로 채움
+    // 비로그인(userId null)이면 인기 칵테일
+    public List<CocktailSummaryResponseDto> recommendForYou(Long userId, int maxSize) {
+        Catalog catalog = catalogSnapshot.current();
+        Set<Long> kept = userId == null ? Set.of() : coKeepService.keptCocktailIds(userId);
+
+        List<CatalogEntry> result = new ArrayList<>(catalog.findAllById(coKeepService.forYou(kept, maxSize)));
+        if (result.size() < maxSize) {
+            Set<Long> excluded = new HashSet<>(kept);
+            result.forEach(e -> excluded.add(e.id()));
+            result.addAll(catalog.popular(maxSize - result.size(), excluded));
+        }
+
+        return result.stream()
+                .map(CocktailSummaryResponseDto::from)
+                .toList();
+    }
+}
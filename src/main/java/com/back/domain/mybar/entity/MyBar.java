@@ -31,6 +31,10 @@ public class MyBar {
     @Column(name = "kept_at", nullable = false)
     private LocalDateTime keptAt;
 
+    /** 새 킵(생성/복원)이 일어난 시각 — 트렌딩 킵 이벤트 집계용 (재킵으로는 바뀌지 않음) */
+    @Column(name = "keep_event_at")
+    private LocalDateTime keepEventAt;
+
     /** 킵 해제 시각 (ACTIVE일 때는 null) */
     private LocalDateTime deletedAt;
 
@@ -58,6 +58,31 @@ public interface MyBarRepository extends JpaRepository<MyBar, Long> {
     """)
     int softDeleteByUserAndCocktail(Long userId, Long cocktailId);
 
+    // 사용자의 ACTIVE 킵 칵테일 ID (동시 킵 행렬 갱신/개인화 추천용)
+    @Query("""
+        select m.cocktail.id from MyBar m
+         where m.user.id = :userId
+           and m.status = 'ACTIVE'
+    """)
+    List<Long> findActiveCocktailIdsByUserId(Long userId);
+
+    // 전체 ACTIVE 킵 (userId, cocktailId) 쌍, 사용자별로 모아 읽기 위해 userId 순 정렬
+    @Query("""
+        select m.user.id, m.cocktail.id from MyBar m
+         where m.status = 'ACTIVE'
+         order by m.user.id
+    """)
+    List<Object[]> findActiveKeepPairs();
+
+    // 트렌딩 집계용: since 이후 킵(생성/복원)된 (킵 ID, cocktailId, 킵 이벤트 시각)
+    // keep_event_at 이 생기기 전의 행은 keptAt 으로 대신함
+    @Query("""
+        select m.id, m.cocktail.id, coalesce(m.keepEventAt, m.keptAt) from MyBar m
+         where m.status = 'ACTIVE'
+           and coalesce(m.keepEventAt, m.keptAt) > :since
+    """)
+    List<Object[]> findKeepEventsSince(LocalDateTime since);
+
     // 특정 칵테일의 ACTIVE Keep 개수
     Long countByCocktailAndStatus(Cocktail cocktail, KeepStatus status);
 }
@@ -0,0 +1,171 @@
+package com.back.domain.mybar.service;
+
+import com.back.global.standard.util.LongIntHashMap;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 칵테일 동시 킵(co-keep) 희소 행렬
+ * - co(a, b): a와 b를 모두 킵한 사용자 수, keeps(a): a를 킵한 사용자 수
+ * - 킵/해제 때마다 해당 사용자의 다른 킵들과의 칸만 증감 (전체 재계산 없음)
+ * - 정규화(코사인 co / √(keeps(a)·keeps(b)))와 칵테일별 상위 이웃 정리는 주기적으로만 수행하고,
+ *   조회는 정리된 결과를 읽기만 한다
+ */
+final class CoKeepMatrix {
+
+    // 칵테일별 정규화된 상위 이웃 (점수 내림차순)
+    record Neighbors(long[] ids, double[] scores) {
+        static final Neighbors EMPTY = new Neighbors(new long[0], new double[0]);
+    }
+
+    private final int maxNeighbors;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, LongIntHashMap> rows = new HashMap<>();
+    private final LongIntHashMap keepCounts = new LongIntHashMap();
+    private volatile Map<Long, Neighbors> normalized = Map.of();
+    private volatile boolean dirty;
+
+    CoKeepMatrix(int maxNeighbors) {
+        this.maxNeighbors = maxNeighbors;
+    }
+
+    // 사용자가 item을 킵 (others: 그 사용자가 이미 킵하고 있는 다른 칵테일)
+    void addKeep(long item, long[] others) {
+        update(item, others, 1);
+    }
+
+    // 사용자가 item을 킵 해제 (others: 그 사용자에게 남아 있는 다른 칵테일)
+    void removeKeep(long item, long[] others) {
+        update(item, others, -1);
+    }
+
+    // 사용자의 킵을 한꺼번에 해제 (items: 해제 전 킵 목록 전체)
+    void removeAll(long[] items) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < items.length; i++) {
+                keepCounts.addTo(items[i], -1);
+                for (int j = i + 1; j < items.length; j++) {
+                    addPair(items[i], items[j], -1);
+                }
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 한 사용자의 킵 목록 전체를 반영 (시작 시 적재용)
+    void addUser(long[] items) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < items.length; i++) {
+                keepCounts.addTo(items[i], 1);
+                for (int j = i + 1; j < items.length; j++) {
+                    addPair(items[i], items[j], 1);
+                }
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int co(long a, long b) {
+        lock.readLock().lock();
+        try {
+            LongIntHashMap row = rows.get(a);
+            return row == null ? 0 : row.get(b);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * 코사인 유사도로 정규화하고 칵테일별 상위 이웃만 남겨 교체
+     * 읽기 락 안에서 계산하므로 그동안 킵/해제 반영은 잠시 대기한다
+     */
+    void renormalize() {
+        Map<Long, Neighbors> next = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            dirty = false;
+            for (Map.Entry<Long, LongIntHashMap> row : rows.entrySet()) {
+                long a = row.getKey();
+                double keepsA = keepCounts.get(a);
+                if (keepsA == 0) continue;
+
+                long[] ids = new long[row.getValue().size()];
+                double[] scores = new double[ids.length];
+                int[] n = {0};
+                row.getValue().forEach((b, co) -> {
+                    int keepsB = keepCounts.get(b);
+                    if (keepsB == 0) return;
+                    ids[n[0]] = b;
+                    scores[n[0]] = co / Math.sqrt(keepsA * keepsB);
+                    n[0]++;
+                });
+                next.put(a, top(ids, scores, n[0]));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        normalized = next;
+    }
+
+    Neighbors neighbors(long item) {
+        return normalized.getOrDefault(item, Neighbors.EMPTY);
+    }
+
+    // 점수 내림차순 → ID 오름차순으로 상위 maxNeighbors개
+    private Neighbors top(long[] ids, double[] scores, int n) {
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> scores[i]).reversed()
+                .thenComparingLong(i -> ids[i]));
+
+        int count = Math.min(maxNeighbors, n);
+        long[] topIds = new long[count];
+        double[] topScores = new double[count];
+        for (int i = 0; i < count; i++) {
+            topIds[i] = ids[order[i]];
+            topScores[i] = scores[order[i]];
+        }
+        return new Neighbors(topIds, topScores);
+    }
+
+    private void update(long item, long[] others, int delta) {
+        lock.writeLock().lock();
+        try {
+            keepCounts.addTo(item, delta);
+            for (long other : others) {
+                if (other != item) addPair(item, other, delta);
+            }
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addPair(long a, long b, int delta) {
+        addDirected(a, b, delta);
+        addDirected(b, a, delta);
+    }
+
+    private void addDirected(long from, long to, int delta) {
+        LongIntHashMap row = rows.get(from);
+        if (row == null) {
+            if (delta <= 0) return;
+            row = new LongIntHashMap();
+            rows.put(from, row);
+        }
+        row.addTo(to, delta);
+        if (row.size() == 0) rows.remove(from);
+    }
+}
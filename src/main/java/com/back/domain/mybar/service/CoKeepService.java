@@ -0,0 +1,141 @@
+package com.back.domain.mybar.service;
+
+import com.back.domain.mybar.repository.MyBarRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+/**
+ * "이 칵테일을 킵한 사람들이 함께 킵한 칵테일" 추천용 동시 킵 행렬 관리
+ * - 시작 시 ACTIVE 킵 전체로 한 번 적재하고, 이후에는 킵/해제 커밋 시점에 해당 칸만 증감
+ * - 정규화는 변경이 있을 때만 주기적으로 수행
+ * - 증분 반영이 빠지거나(서버 재시작 직전 커밋, 다른 인스턴스의 킵 등) 어긋난 값이 쌓이지 않도록
+ *   매일 새벽 my_bar 에서 새로 적재해 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CoKeepService {
+
+    private static final int MAX_NEIGHBORS = 20;
+
+    private final MyBarRepository myBarRepository;
+    private volatile CoKeepMatrix matrix = new CoKeepMatrix(MAX_NEIGHBORS);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional(readOnly = true)
+    public void load() {
+        // 새 행렬을 다 만든 뒤 교체하므로 그동안 조회는 이전 행렬을 읽음
+        // (적재 중 커밋된 킵/해제는 이전 행렬에만 반영될 수 있으나 다음 적재에서 바로잡힘)
+        CoKeepMatrix next = new CoKeepMatrix(MAX_NEIGHBORS);
+        List<Object[]> pairs = myBarRepository.findActiveKeepPairs(); // userId 순 정렬
+        int users = 0;
+        int from = 0;
+        for (int i = 1; i <= pairs.size(); i++) {
+            if (i == pairs.size() || !pairs.get(i)[0].equals(pairs.get(from)[0])) {
+                long[] items = new long[i - from];
+                for (int j = from; j < i; j++) {
+                    items[j - from] = (Long) pairs.get(j)[1];
+                }
+                next.addUser(items);
+                users++;
+                from = i;
+            }
+        }
+        next.renormalize();
+        matrix = next;
+        log.info("동시 킵 행렬 적재 완료: 사용자 {}명, 킵 {}건", users, pairs.size());
+    }
+
+    @Scheduled(fixedDelay = 300_000)
+    public void renormalizeIfChanged() {
+        if (matrix.isDirty()) {
+            matrix.renormalize();
+        }
+    }
+
+    // 킵 추가/복원 반영 (MyBar 반영 후, 같은 트랜잭션 안에서 호출)
+    public void onKeep(Long userId, Long cocktailId) {
+        long[] others = otherKeeps(userId, cocktailId);
+        afterCommit(() -> matrix.addKeep(cocktailId, others));
+    }
+
+    // 킵 해제 반영 (MyBar 반영 후, 같은 트랜잭션 안에서 호출)
+    public void onUnkeep(Long userId, Long cocktailId) {
+        long[] others = otherKeeps(userId, cocktailId);
+        afterCommit(() -> matrix.removeKeep(cocktailId, others));
+    }
+
+    // 전체 해제 반영 (해제 전에 조회해 둔 킵 목록 전달)
+    public void onClearAll(List<Long> cocktailIds) {
+        long[] items = cocktailIds.stream().mapToLong(Long::longValue).toArray();
+        afterCommit(() -> matrix.removeAll(items));
+    }
+
+    // 함께 킵된 칵테일 ID (정규화 점수 높은 순, 최대 limit개)
+    public List<Long> alsoKept(Long cocktailId, int limit) {
+        long[] ids = matrix.neighbors(cocktailId).ids();
+        List<Long> result = new ArrayList<>(Math.min(limit, ids.length));
+        for (int i = 0; i < ids.length && result.size() < limit; i++) {
+            result.add(ids[i]);
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> keptCocktailIds(Long userId) {
+        return new HashSet<>(myBarRepository.findActiveCocktailIdsByUserId(userId));
+    }
+
+    /**
+     * 개인화 추천: 킵한 칵테일들의 이웃 점수를 합산해 높은 순으로 (이미 킵한 칵테일 제외)
+     */
+    public List<Long> forYou(Set<Long> kept, int limit) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Long item : kept) {
+            CoKeepMatrix.Neighbors neighbors = matrix.neighbors(item);
+            for (int i = 0; i < neighbors.ids().length; i++) {
+                if (!kept.contains(neighbors.ids()[i])) {
+                    scores.merge(neighbors.ids()[i], neighbors.scores()[i], Double::sum);
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private long[] otherKeeps(Long userId, Long cocktailId) {
+        return myBarRepository.findActiveCocktailIdsByUserId(userId).stream()
+                .filter(id -> !id.equals(cocktailId))
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    // 롤백된 킵/해제가 행렬에 남지 않도록 커밋 이후에만 반영
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -28,6 +28,7 @@ public class MyBarService {
     private final UserRepository userRepository;
     private final CocktailRepository cocktailRepository;
     private final AbvScoreService abvScoreService;
+    private final CoKeepService coKeepService;
 
     // 내 바 목록 조회 (무한스크롤)
     // - 커서: lastKeptAt + lastId 조합으로 안정적인 정렬/페이지네이션
@@ -81,6 +82,7 @@ public class MyBarService {
     // - 이미 존재하면 keptAt 갱신 (정렬 최신화)
     // - DELETED 상태였다면 ACTIVE로 복원
     // - 없으면 새로 생성
+    // 트렌딩 킵 이벤트 시각(keepEventAt)은 생성/복원 때만 기록해 반복 킵으로 점수가 부풀지 않도록 함
     @Transactional
     public void keep(Long userId, Long cocktailId) {
         Optional<MyBar> existingMyBar =
@@ -89,13 +91,16 @@ public class MyBarService {
         LocalDateTime now = LocalDateTime.now();
 
         if (existingMyBar.isPresent()) {
-            // 이미 행이 있으면: 최근에 다시 킵했다고 보고 keptAt만 갱신
+            // 이미 행이 있으면: 최근에 다시 킵했다고 보고 keptAt 갱신
             MyBar myBar = existingMyBar.get();
             myBar.setKeptAt(now);
             if (myBar.getStatus() == KeepStatus.DELETED) {
-                // 해제돼 있던 건 복원
+                // 해제돼 있던 건 복원 (비활성 → ACTIVE 전환만 새 킵으로 집계)
+                myBar.setKeepEventAt(now);
                 myBar.setStatus(KeepStatus.ACTIVE);
                 myBar.setDeletedAt(null);
+                cocktailRepository.addKeepCount(cocktailId, 1);
+                coKeepService.onKeep(userId, cocktailId);
                 // 활동 점수: 복원 시 +0.1
                 abvScoreService.awardForKeep(userId);
             }
@@ -108,8 +113,11 @@ public class MyBarService {
         myBar.setCocktail(cocktailRepository.getReferenceById(cocktailId));
         myBar.setStatus(KeepStatus.ACTIVE);
         myBar.setKeptAt(now);
+        myBar.setKeepEventAt(now);
 
         myBarRepository.save(myBar);
+        cocktailRepository.addKeepCount(cocktailId, 1);
+        coKeepService.onKeep(userId, cocktailId);
         // 활동 점수: 신규 keep 시 +0.1
         abvScoreService.awardForKeep(userId);
     }
@@ -120,14 +128,20 @@ public class MyBarService {
         int changed = myBarRepository.softDeleteByUserAndCocktail(userId, cocktailId);
         // 실제로 ACTIVE -> DELETED로 변경된 경우만 -0.1
         if (changed > 0) {
+            cocktailRepository.addKeepCount(cocktailId, -1);
+            coKeepService.onUnkeep(userId, cocktailId);
             abvScoreService.revokeForKeep(userId);
         }
     }
 
     @Transactional
     public void clearAll(Long userId) {
+        // ACTIVE -> DELETED로 바뀌기 전에 대상 칵테일들의 킵 수를 먼저 감소
+        List<Long> keptCocktailIds = myBarRepository.findActiveCocktailIdsByUserId(userId);
+        cocktailRepository.decreaseKeepCountForActiveKeepsOf(userId);
         int changed = myBarRepository.softDeleteAllByUser(userId);
         if (changed > 0) {
+            coKeepService.onClearAll(keptCocktailIds);
             abvScoreService.revokeForKeep(userId, changed);
         }
     }
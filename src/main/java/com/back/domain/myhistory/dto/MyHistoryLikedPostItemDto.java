@@ -33,7 +33,7 @@ public class MyHistoryLikedPostItemDto {
         List<String> imageUrls = p.getImages() == null
                 ? List.of()
                 : p.getImages().stream()
-                .map(PostImage::getUrl)
+                .map(PostImage::getThumbnailOrOriginalUrl)
                 .toList();
 
         return MyHistoryLikedPostItemDto.builder()
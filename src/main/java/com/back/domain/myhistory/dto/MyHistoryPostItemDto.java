@@ -37,7 +37,7 @@ public class MyHistoryPostItemDto {
                 .title(p.getTitle())
                 .content(p.getContent())
                 .imageUrls(p.getImages().stream()
-                        .map(PostImage::getUrl)
+                        .map(PostImage::getThumbnailOrOriginalUrl)
                         .toList())
                 .createdAt(p.getCreatedAt())
                 .updatedAt(p.getUpdatedAt())
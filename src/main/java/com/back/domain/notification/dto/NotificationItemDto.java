@@ -23,7 +23,7 @@ public class NotificationItemDto {
     public static NotificationItemDto from(Notification n) {
         String categoryName = n.getPost().getCategory() != null ? n.getPost().getCategory().getName() : null;
         String thumbnailUrl = n.getPost().getImages().stream()
-                .map(PostImage::getUrl)
+                .map(PostImage::getThumbnailOrOriginalUrl)
                 .findFirst()
                 .orElse(null);
 
@@ -3,8 +3,10 @@ package com.back.domain.post.comment.repository;
 import com.back.domain.post.comment.entity.Comment;
 import com.back.domain.post.comment.enums.CommentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,4 +17,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
   // 무한스크롤 (lastId != null)
   List<Comment> findTop10ByPostIdAndIdLessThanAndStatusNotOrderByIdDesc(Long postId, Long id, CommentStatus status);
+
+  // 트렌딩 집계용: since 이후 작성된 (댓글 ID, postId, createdAt)
+  @Query("""
+      select c.id, c.post.id, c.createdAt from Comment c
+       where c.status <> 'DELETED'
+         and c.createdAt > :since
+  """)
+  List<Object[]> findCommentEventsSince(LocalDateTime since);
 }
@@ -10,6 +10,7 @@ import com.back.domain.post.comment.enums.CommentStatus;
 import com.back.domain.post.comment.repository.CommentRepository;
 import com.back.domain.post.post.entity.Post;
 import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.post.post.service.PostFeedCache;
 import com.back.domain.user.entity.User;
 import com.back.domain.user.service.AbvScoreService;
 import com.back.global.rq.Rq;
@@ -28,6 +29,7 @@ public class CommentService {
   private final NotificationService notificationService;
   private final Rq rq;
   private final AbvScoreService abvScoreService;
+  private final PostFeedCache postFeedCache;
 
   // 댓글 작성 로직
   @Transactional
@@ -58,7 +60,8 @@ public class CommentService {
     Comment saved = commentRepository.save(comment);
 
     // 게시글 댓글 수 증가
-    post.increaseCommentCount();
+    postRepository.addCommentCount(postId, 1);
+    postFeedCache.evictAfterCommit(post.getCategory().getId());
 
     // 활동 점수: 댓글 작성 +0.2
     abvScoreService.awardForComment(user.getId());
@@ -118,10 +121,15 @@ public class CommentService {
       throw new IllegalStateException("본인의 댓글만 삭제할 수 있습니다.");
     }
 
+    if (comment.getStatus() == CommentStatus.DELETED) {
+      return; // 이미 삭제된 댓글은 카운터/점수를 다시 줄이지 않음
+    }
+
     comment.updateStatus(CommentStatus.DELETED);
 
     // 게시글 댓글 수 감소
-    post.decreaseCommentCount();
+    postRepository.addCommentCount(postId, -1);
+    postFeedCache.evictAfterCommit(post.getCategory().getId());
     // 활동 점수: 댓글 삭제 시 -0.2 (작성자 기준)
     abvScoreService.revokeForComment(user.getId());
 
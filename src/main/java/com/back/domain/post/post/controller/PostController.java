@@ -5,6 +5,7 @@ import com.back.domain.post.post.dto.request.PostSortScrollRequestDto;
 import com.back.domain.post.post.dto.request.PostUpdateRequestDto;
 import com.back.domain.post.post.dto.response.PostLikeResponseDto;
 import com.back.domain.post.post.dto.response.PostResponseDto;
+import com.back.domain.post.post.dto.response.PostSearchResponseDto;
 import com.back.domain.post.post.service.PostService;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
@@ -22,6 +23,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -64,6 +66,25 @@ public class PostController {
     return RsData.successOf(postService.getPosts(reqBody)); // code=200, message="success"
   }
 
+  /**
+   * 게시글 검색 API
+   * @param q 검색어 (제목, 본문, 태그)
+   * @param lastScore 이전 페이지 마지막 결과의 점수 (첫 페이지는 생략)
+   * @param lastId 이전 페이지 마지막 결과의 게시글 ID (첫 페이지는 생략)
+   * @param size 페이지 크기 (기본 10)
+   * @return 점수 내림차순 검색 결과
+   */
+  @GetMapping("/search")
+  @Operation(summary = "게시글 검색")
+  public RsData<List<PostSearchResponseDto>> searchPosts(
+      @RequestParam String q,
+      @RequestParam(required = false) Double lastScore,
+      @RequestParam(required = false) Long lastId,
+      @RequestParam(required = false) Integer size
+  ) {
+    return RsData.successOf(postService.searchPosts(q, lastScore, lastId, size)); // code=200, message="success"
+  }
+
   /**
    * 게시글 단건 조회 API
    * @param postId 조회할 게시글 ID
@@ -12,6 +12,8 @@ public record PostCreateRequestDto(
     @NotBlank (message = "내용은 필수입니다.")
     String content,
     String videoUrl,
-    List<String> tags
+    List<String> tags,
+    // presigned URL 로 직접 업로드한 이미지의 S3 키 목록
+    List<String> imageKeys
 ) {
 }
@@ -7,6 +7,8 @@ public record PostSortScrollRequestDto(
     Long lastId,
     Integer lastLikeCount,
     Integer lastCommentCount,
-    PostSortStatus postSortStatus
+    PostSortStatus postSortStatus,
+    Integer size, // 페이지 크기 (미지정 시 10)
+    Long rankingVersion // 트렌딩 다음 페이지: 이전 응답 헤더(X-Ranking-Version)의 값 (첫 페이지는 생략)
 ) {
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ public record PostUpdateRequestDto(
     // 기존 이미지 중 유지할 이미지 URL 목록
     List<String> keepImageUrls,
     String videoUrl,
-    List<String> tags
+    List<String> tags,
+    // presigned URL 로 직접 업로드한 새 이미지의 S3 키 목록
+    List<String> imageKeys
 ) {
 }
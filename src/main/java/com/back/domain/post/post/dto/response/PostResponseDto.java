@@ -5,6 +5,7 @@ import com.back.domain.post.post.entity.PostImage;
 import com.back.domain.post.post.enums.PostStatus;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 public record PostResponseDto(
     Long postId,
@@ -20,10 +21,21 @@ public record PostResponseDto(
     List<String> tags,
     Integer likeCount,
     Integer commentCount,
-    Integer viewCount
+    Integer viewCount,
+    Long uniqueViewerCount // 최근 7일 순방문자 추정치 (단건 조회에서만 제공, 그 외 null)
 ) {
 
+  // 목록 카드용: 썸네일 이미지
   public PostResponseDto(Post post) {
+    this(post, PostImage::getThumbnailOrOriginalUrl);
+  }
+
+  // 상세 화면용: 중간 크기 이미지
+  public static PostResponseDto detail(Post post) {
+    return new PostResponseDto(post, PostImage::getMediumOrOriginalUrl);
+  }
+
+  private PostResponseDto(Post post, Function<PostImage, String> imageUrl) {
     this(
         post.getId(),
         post.getCategory().getName(),
@@ -34,7 +46,7 @@ public record PostResponseDto(
         post.getTitle(),
         post.getContent(),
         post.getImages().stream()
-            .map(PostImage::getUrl)
+            .map(imageUrl)
             .toList(),
         post.getVideoUrl(),
         post.getPostTags().stream()
@@ -42,7 +54,13 @@ public record PostResponseDto(
             .toList(),
         post.getLikeCount(),
         post.getCommentCount(),
-        post.getViewCount()
+        post.getViewCount(),
+        null
     );
   }
-}
\ No newline at end of file
+
+  public PostResponseDto withViewCounts(Integer viewCount, Long uniqueViewerCount) {
+    return new PostResponseDto(postId, categoryName, userNickName, createdAt, updatedAt, status, title,
+        content, imageUrls, videoUrl, tags, likeCount, commentCount, viewCount, uniqueViewerCount);
+  }
+}
@@ -0,0 +1,8 @@
+package com.back.domain.post.post.dto.response;
+
+// 게시글 검색 결과 (score: 다음 페이지 요청 시 lastScore 로 전달)
+public record PostSearchResponseDto(
+    double score,
+    PostResponseDto post
+) {
+}
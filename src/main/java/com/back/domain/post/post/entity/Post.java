@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,13 +17,26 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+// 변경된 컬럼만 UPDATE 해서, 다른 트랜잭션이 원자적으로 올린 카운터를 엔티티 flush 가 덮어쓰지 않도록 함
 @Entity
+@DynamicUpdate
 @Getter
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+    // 피드 키셋 조회용 복합 인덱스 (정렬 키, id)
+    // status 는 <> DELETED 범위 조건이라 선두에 두면 정렬에 인덱스를 못 써서 뒤쪽에 두고 인덱스 안에서 거름
+    @Index(name = "idx_post_category_id_id", columnList = "category_id, id, status"),
+    @Index(name = "idx_post_category_like_count_id", columnList = "category_id, like_count, id, status"),
+    @Index(name = "idx_post_category_comment_count_id", columnList = "category_id, comment_count, id, status"),
+    @Index(name = "idx_post_like_count_id", columnList = "like_count, id, status"),
+    @Index(name = "idx_post_comment_count_id", columnList = "comment_count, id, status")
+})
 public class Post {
 
   // 각 게시글을 구분하는 유일한 번호
@@ -84,19 +98,20 @@ public class Post {
   @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<PostLike> postLikes = new ArrayList<>();
 
+  // 카운터는 PostRepository 의 원자적 UPDATE 로만 변경 (엔티티 flush 에서는 쓰지 않음)
   // 게시글 추천 수 (기본값: 0)
   @Builder.Default
-  @Column(name = "like_count", nullable = false)
+  @Column(name = "like_count", nullable = false, updatable = false)
   private Integer likeCount = 0;
 
   // 게시글 댓글 수 (기본값: 0)
   @Builder.Default
-  @Column(name = "comment_count", nullable = false)
+  @Column(name = "comment_count", nullable = false, updatable = false)
   private Integer commentCount = 0;
 
   // 게시글 조회 수 (기본값: 0)
   @Builder.Default
-  @Column(name = "view_count", nullable = false)
+  @Column(name = "view_count", nullable = false, updatable = false)
   private Integer viewCount = 0;
 
   public void updateCategory(Category category) {
@@ -141,29 +156,19 @@ public class Post {
     this.postTags.add(postTag);
   }
 
-  public void clearTags() {
-    this.postTags.clear();
-  }
-
-  public void increaseLikeCount() {
-    this.likeCount++;
-  }
-
-  public void decreaseLikeCount() {
-    this.likeCount--;
-  }
-
-  public void increaseCommentCount() {
-    this.commentCount++;
-  }
-
-  public void decreaseCommentCount() {
-    if (this.commentCount > 0) {
-      this.commentCount--;
+  // 태그를 tags 와 같게 맞춤: 빠진 태그의 PostTag 만 제거(orphanRemoval)하고 새 태그만 추가
+  // 태그 ID로 비교하므로 기존 태그 엔티티를 로딩하지 않음
+  public void updateTags(List<Tag> tags) {
+    Set<Long> tagIds = tags.stream().map(Tag::getId).collect(Collectors.toSet());
+    this.postTags.removeIf(postTag -> !tagIds.contains(postTag.getTag().getId()));
+
+    Set<Long> existingIds = this.postTags.stream()
+        .map(postTag -> postTag.getTag().getId())
+        .collect(Collectors.toSet());
+    for (Tag tag : tags) {
+      if (!existingIds.contains(tag.getId())) {
+        addTag(tag);
+      }
     }
   }
-
-  public void increaseViewCount() {
-    this.viewCount++;
-  }
 }
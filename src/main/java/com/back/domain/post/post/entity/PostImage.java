@@ -45,6 +45,14 @@ public class PostImage {
   @Column(name = "url")
   private String url;
 
+  // 목록용 썸네일 URL (파생본 생성 전이거나 생성할 수 없는 파일이면 null)
+  @Column(name = "thumbnail_url")
+  private String thumbnailUrl;
+
+  // 상세 화면용 중간 크기 URL
+  @Column(name = "medium_url")
+  private String mediumUrl;
+
   // 이미지 삭제 상태 (기본값: 게시)
   @Builder.Default
   @Enumerated(EnumType.STRING)
@@ -62,4 +70,17 @@ public class PostImage {
   public void updateSortOrder(Integer sortOrder) {
     this.sortOrder = sortOrder;
   }
+
+  public String getThumbnailOrOriginalUrl() {
+    return thumbnailUrl != null ? thumbnailUrl : url;
+  }
+
+  public String getMediumOrOriginalUrl() {
+    return mediumUrl != null ? mediumUrl : url;
+  }
+
+  // 클라이언트가 원본/파생본 어느 URL 을 보내도 같은 이미지로 판단
+  public boolean matchesUrl(String url) {
+    return url != null && (url.equals(this.url) || url.equals(thumbnailUrl) || url.equals(mediumUrl));
+  }
 }
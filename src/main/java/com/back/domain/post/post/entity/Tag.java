@@ -3,7 +3,9 @@ package com.back.domain.post.post.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.*;
 
 @Entity
@@ -13,8 +15,10 @@ import lombok.*;
 @Builder
 public class Tag { // Tag는 Post와 직접적인 관계를 맺지 않습니다.
 
+  // 배치 INSERT 가 가능하도록 ID 를 50개씩 미리 할당 (기존 AUTO 기본값과 같은 tag_seq, MySQL 에서는 테이블로 대체)
   @Id
-  @GeneratedValue
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_seq")
+  @SequenceGenerator(name = "tag_seq", sequenceName = "tag_seq", allocationSize = 50)
   @Column(name = "id")
   private Long id;
 
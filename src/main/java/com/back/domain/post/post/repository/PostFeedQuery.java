@@ -0,0 +1,15 @@
+package com.back.domain.post.post.repository;
+
+import com.back.domain.post.post.enums.PostSortStatus;
+
+// 게시글 피드 키셋 조회 조건
+// lastId, lastSortValue: 직전 페이지 마지막 게시글의 (id, 정렬 키 값) 커서, 첫 페이지는 null
+// lastSortValue 는 최신순에서는 사용하지 않음 (정렬 키가 id 자체)
+public record PostFeedQuery(
+    PostSortStatus sortStatus,
+    Long categoryId,
+    Long lastId,
+    Integer lastSortValue,
+    int size
+) {
+}
@@ -1,8 +1,32 @@
 package com.back.domain.post.post.repository;
 
 import com.back.domain.post.post.entity.PostImage;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
 
+  // 고아 파일 정리: 초기 데이터는 file_name 에 원본 파일명이 저장되어 있어 URL 로도 함께 확인
+  @Query("SELECT i.url FROM PostImage i WHERE i.url IN :urls")
+  List<String> findUrlsIn(@Param("urls") Collection<String> urls);
+
+  @Query("SELECT i.fileName FROM PostImage i WHERE i.fileName IN :fileNames")
+  List<String> findFileNamesIn(@Param("fileNames") Collection<String> fileNames);
+
+  // 같은 내용(같은 키)의 이미지에 이미 만들어 둔 파생본
+  Optional<PostImage> findFirstByFileNameAndThumbnailUrlIsNotNull(String fileName);
+
+  // 비동기로 만든 파생본 URL 반영 (게시글 수정과 겹쳐도 이미지 행의 파생본 컬럼만 갱신)
+  @Transactional
+  @Modifying
+  @Query("UPDATE PostImage i SET i.thumbnailUrl = :thumbnailUrl, i.mediumUrl = :mediumUrl WHERE i.id = :id")
+  int updateVariants(@Param("id") Long id,
+      @Param("thumbnailUrl") String thumbnailUrl,
+      @Param("mediumUrl") String mediumUrl);
 }
@@ -3,11 +3,39 @@ package com.back.domain.post.post.repository;
 import com.back.domain.post.post.entity.Post;
 import com.back.domain.post.post.entity.PostLike;
 import com.back.domain.user.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
   Boolean existsByPostAndUser(Post post, User user);
 
   Optional<PostLike> findByPostAndUser(Post post, User user);
+
+  long countByPostId(Long postId);
+
+  // 추천 취소: 삭제된 행 수로 실제 취소 여부를 판단 (동시 요청 중 하나만 1을 받음)
+  @Modifying(flushAutomatically = true)
+  @Query("delete from PostLike l where l.post.id = :postId and l.user.id = :userId")
+  int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+  // 추천 추가: (post_id, user_id) 유니크 제약에 걸리면 무시하고 0 반환 (중복 요청에 멱등)
+  @Modifying
+  @Query(value = """
+      INSERT IGNORE INTO post_like (post_id, user_id, status, created_at)
+      VALUES (:postId, :userId, 'LIKE', :createdAt)
+      """, nativeQuery = true)
+  int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId,
+      @Param("createdAt") LocalDateTime createdAt);
+
+  // 트렌딩 집계용: since 이후 추천된 (추천 ID, postId, createdAt)
+  @Query("""
+      select l.id, l.post.id, l.createdAt from PostLike l
+       where l.createdAt > :since
+  """)
+  List<Object[]> findLikeEventsSince(LocalDateTime since);
 }
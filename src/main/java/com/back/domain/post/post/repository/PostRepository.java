@@ -2,39 +2,49 @@ package com.back.domain.post.post.repository;
 
 import com.back.domain.post.post.entity.Post;
 import com.back.domain.post.post.enums.PostStatus;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
-
-  // 최신순 (카테고리 없음)
-  List<Post> findTop10ByStatusNotOrderByIdDesc(PostStatus status);
-  List<Post> findTop10ByStatusNotAndIdLessThanOrderByIdDesc(PostStatus status, Long lastId);
-
-  // 추천순 (카테고리 없음)
-  List<Post> findTop10ByStatusNotOrderByLikeCountDescIdDesc(PostStatus status);
-  List<Post> findTop10ByStatusNotAndLikeCountLessThanOrLikeCountEqualsAndIdLessThanOrderByLikeCountDescIdDesc(
-      PostStatus status, Integer likeCount, Integer likeCount2, Long id);
-
-  // 댓글순 (카테고리 없음)
-  List<Post> findTop10ByStatusNotOrderByCommentCountDescIdDesc(PostStatus status);
-  List<Post> findTop10ByStatusNotAndCommentCountLessThanOrCommentCountEqualsAndIdLessThanOrderByCommentCountDescIdDesc(
-      PostStatus status, Integer commentCount, Integer commentCount2, Long id);
-
-  // 최신순 (카테고리)
-  List<Post> findTop10ByCategoryIdAndStatusNotOrderByIdDesc(Long categoryId, PostStatus status);
-  List<Post> findTop10ByCategoryIdAndStatusNotAndIdLessThanOrderByIdDesc(Long categoryId, PostStatus status, Long id);
-
-  // 추천순 (카테고리)
-  List<Post> findTop10ByCategoryIdAndStatusNotOrderByLikeCountDescIdDesc(Long categoryId, PostStatus status);
-  List<Post> findTop10ByCategoryIdAndStatusNotAndLikeCountLessThanOrLikeCountEqualsAndIdLessThanOrderByLikeCountDescIdDesc(
-      Long categoryId, PostStatus status, Integer likeCount, Integer likeCountEquals, Long id);
-
-  // 댓글순 (카테고리)
-  List<Post> findTop10ByCategoryIdAndStatusNotOrderByCommentCountDescIdDesc(Long categoryId, PostStatus status);
-  List<Post> findTop10ByCategoryIdAndStatusNotAndCommentCountLessThanOrCommentCountEqualsAndIdLessThanOrderByCommentCountDescIdDesc(
-      Long categoryId, PostStatus status, Integer commentCount, Integer commentCountEquals, Long id);
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+
+  // 피드 하이드레이션 1단계: 페이지 게시글의 카테고리, 작성자, 이미지(정렬순)를 한 번에 로딩
+  // 컬렉션(bag)은 한 쿼리에 하나만 fetch join 할 수 있어 태그는 별도 쿼리로 분리
+  @Query("select distinct p from Post p left join fetch p.category left join fetch p.user "
+      + "left join fetch p.images where p.id in :ids")
+  List<Post> findWithCategoryUserImagesByIdIn(@Param("ids") List<Long> ids);
+
+  // 피드 하이드레이션 2단계: 페이지 게시글의 태그를 한 번에 로딩
+  @Query("select distinct p from Post p left join fetch p.postTags pt left join fetch pt.tag "
+      + "where p.id in :ids")
+  List<Post> findWithTagsByIdIn(@Param("ids") List<Long> ids);
+
+  // 조회수 write-behind 반영: 같은 증가량의 게시글들을 UPDATE 한 번으로 반영
+  @Transactional
+  @Modifying
+  @Query("update Post p set p.viewCount = p.viewCount + :delta where p.id in :ids")
+  int increaseViewCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+  // 추천 수 원자적 증감 (음수로 내려가지 않도록 보정)
+  @Modifying(flushAutomatically = true)
+  @Query("update Post p set p.likeCount = case when p.likeCount + :delta < 0 then 0 else p.likeCount + :delta end "
+      + "where p.id = :postId")
+  int addLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  // 댓글 수 원자적 증감 (음수로 내려가지 않도록 보정)
+  @Modifying(flushAutomatically = true)
+  @Query("update Post p set p.commentCount = case when p.commentCount + :delta < 0 then 0 else p.commentCount + :delta end "
+      + "where p.id = :postId")
+  int addCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+  // 검색 재색인용: 삭제되지 않은 게시글 ID를 id 오름차순으로 끊어 읽기
+  @Query("select p.id from Post p where p.id > :lastId and p.status <> :status order by p.id asc")
+  List<Long> findIdsAfter(@Param("lastId") Long lastId, @Param("status") PostStatus status, Pageable pageable);
 }
-
@@ -0,0 +1,10 @@
+package com.back.domain.post.post.repository;
+
+import com.back.domain.post.post.entity.Post;
+import java.util.List;
+
+public interface PostRepositoryCustom {
+
+  // 정렬 기준/카테고리/커서/페이지 크기를 받아 키셋 조건으로 피드 한 페이지를 조회
+  List<Post> findFeedPage(PostFeedQuery query);
+}
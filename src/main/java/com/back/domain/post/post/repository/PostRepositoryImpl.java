@@ -0,0 +1,73 @@
+package com.back.domain.post.post.repository;
+
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.enums.PostSortStatus;
+import com.back.domain.post.post.enums.PostStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+  private final EntityManager em;
+
+  @Override
+  public List<Post> findFeedPage(PostFeedQuery query) {
+    CriteriaBuilder cb = em.getCriteriaBuilder();
+    CriteriaQuery<Post> cq = cb.createQuery(Post.class);
+    Root<Post> post = cq.from(Post.class);
+
+    Path<Long> id = post.get("id");
+    Path<Integer> sortKey = sortKey(post, query.sortStatus());
+
+    List<Predicate> where = new ArrayList<>();
+    where.add(cb.notEqual(post.get("status"), PostStatus.DELETED));
+    if (query.categoryId() != null) {
+      // category.id 는 외래키 컬럼이라 조인 없이 비교됨
+      where.add(cb.equal(post.get("category").get("id"), query.categoryId()));
+    }
+
+    if (query.lastId() != null) {
+      if (sortKey == null) {
+        where.add(cb.lessThan(id, query.lastId()));
+      } else if (query.lastSortValue() != null) {
+        // (sortKey, id) < (?, ?) 를 인덱스 범위 조건으로 풀어 씀
+        // sortKey <= ? 가 (sortKey, id) 인덱스의 범위 시작점이 되고, 괄호로 묶인 OR 는 경계값만 거름
+        Integer lastSortValue = query.lastSortValue();
+        where.add(cb.lessThanOrEqualTo(sortKey, lastSortValue));
+        where.add(cb.or(
+            cb.lessThan(sortKey, lastSortValue),
+            cb.lessThan(id, query.lastId())
+        ));
+      }
+    }
+
+    cq.select(post).where(where.toArray(Predicate[]::new));
+    if (sortKey == null) {
+      cq.orderBy(cb.desc(id));
+    } else {
+      cq.orderBy(cb.desc(sortKey), cb.desc(id));
+    }
+
+    return em.createQuery(cq)
+        .setMaxResults(query.size())
+        .getResultList();
+  }
+
+  // 정렬 기준별 키셋 정렬 키 (최신순은 id 만으로 정렬하므로 null)
+  private Path<Integer> sortKey(Root<Post> post, PostSortStatus sortStatus) {
+    return switch (sortStatus) {
+      case LATEST -> null;
+      case POPULAR -> post.get("likeCount");
+      case COMMENTS -> post.get("commentCount");
+      default -> throw new IllegalArgumentException("키셋 조회를 지원하지 않는 정렬 기준: " + sortStatus);
+    };
+  }
+}
@@ -1,6 +1,8 @@
 package com.back.domain.post.post.repository;
 
 import com.back.domain.post.post.entity.Tag;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -9,4 +11,7 @@ import org.springframework.stereotype.Repository;
 public interface TagRepository extends JpaRepository<Tag, Long> {
   // 태그 이름으로 Tag 엔티티를 찾기 위한 메서드
   Optional<Tag> findByName(String name);
+
+  // 여러 태그 이름을 IN 조회 한 번으로 찾기 위한 메서드
+  List<Tag> findByNameIn(Collection<String> names);
 }
@@ -0,0 +1,5 @@
+package com.back.domain.post.post.search;
+
+// 검색 결과 한 건 (게시글 ID, BM25 점수)
+public record PostSearchHit(long postId, double score) {
+}
@@ -0,0 +1,153 @@
+package com.back.domain.post.post.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 검색용 역색인 (제목/본문/태그, BM25 랭킹)
+ * - 게시글 단위로 put/remove 하는 증분 색인, 읽기/쓰기는 ReadWriteLock 으로 보호
+ * - 필드 가중치는 단어 빈도와 문서 길이에 함께 반영 (제목 2, 태그 1.5, 본문 1)
+ * - 조회 비용은 질의 단어들의 posting 길이에 비례하고 전체 게시글 수와는 무관하다
+ */
+public class PostSearchIndex {
+
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+
+  private static final float TITLE_WEIGHT = 2.0f;
+  private static final float TAG_WEIGHT = 1.5f;
+  private static final float CONTENT_WEIGHT = 1.0f;
+
+  // 색인된 게시글: 가중 문서 길이와 단어별 가중 빈도 (삭제/갱신 시 posting 정리에 사용)
+  private record Document(float length, Map<String, Float> termFrequencies) {
+  }
+
+  private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+  private final Map<Long, Document> documents = new HashMap<>();
+  private double totalLength;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // 게시글 색인 (이미 있으면 교체)
+  public void put(long postId, String title, String content, Collection<String> tags) {
+    Map<String, Float> frequencies = new HashMap<>();
+    float length = 0;
+    length += addTerms(frequencies, title, TITLE_WEIGHT);
+    length += addTerms(frequencies, content, CONTENT_WEIGHT);
+    for (String tag : tags) {
+      length += addTerms(frequencies, tag, TAG_WEIGHT);
+    }
+
+    lock.writeLock().lock();
+    try {
+      removeLocked(postId);
+      if (frequencies.isEmpty()) {
+        return;
+      }
+      Document document = new Document(length, frequencies);
+      documents.put(postId, document);
+      totalLength += length;
+      frequencies.forEach((term, frequency) ->
+          postings.computeIfAbsent(term, t -> new HashMap<>()).put(postId, frequency));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(long postId) {
+    lock.writeLock().lock();
+    try {
+      removeLocked(postId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 질의 단어 중 하나 이상을 포함하는 게시글을 BM25 점수 내림차순(동점은 ID 내림차순)으로 size개 반환.
+   * lastScore/lastId 가 있으면 그 결과 다음 순위부터 (키셋 페이지네이션).
+   */
+  public List<PostSearchHit> search(String query, Double lastScore, Long lastId, int size) {
+    Set<String> terms = new LinkedHashSet<>(PostSearchTokenizer.tokenize(query));
+    if (terms.isEmpty() || size <= 0) {
+      return List.of();
+    }
+
+    Map<Long, Double> scores = new HashMap<>();
+    lock.readLock().lock();
+    try {
+      int documentCount = documents.size();
+      double averageLength = documentCount == 0 ? 1 : totalLength / documentCount;
+      for (String term : terms) {
+        Map<Long, Float> posting = postings.get(term);
+        if (posting == null) continue;
+
+        double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+        posting.forEach((postId, frequency) -> {
+          double length = documents.get(postId).length();
+          double norm = K1 * (1 - B + B * length / averageLength);
+          scores.merge(postId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+        });
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    // 상위 size개만 유지하는 최소 힙 (커서 이후 순위만 대상)
+    Comparator<PostSearchHit> ranking = Comparator.comparingDouble(PostSearchHit::score)
+        .thenComparingLong(PostSearchHit::postId);
+    PriorityQueue<PostSearchHit> top = new PriorityQueue<>(size + 1, ranking);
+    scores.forEach((postId, score) -> {
+      if (!isAfterCursor(score, postId, lastScore, lastId)) return;
+      top.add(new PostSearchHit(postId, score));
+      if (top.size() > size) {
+        top.poll();
+      }
+    });
+
+    List<PostSearchHit> hits = new ArrayList<>(top);
+    hits.sort(ranking.reversed());
+    return hits;
+  }
+
+  private static boolean isAfterCursor(double score, long postId, Double lastScore, Long lastId) {
+    if (lastScore == null || lastId == null) {
+      return true;
+    }
+    int compared = Double.compare(score, lastScore);
+    return compared < 0 || (compared == 0 && postId < lastId);
+  }
+
+  private static float addTerms(Map<String, Float> frequencies, String text, float weight) {
+    List<String> terms = PostSearchTokenizer.tokenize(text);
+    for (String term : terms) {
+      frequencies.merge(term, weight, Float::sum);
+    }
+    return terms.size() * weight;
+  }
+
+  private void removeLocked(long postId) {
+    Document document = documents.remove(postId);
+    if (document == null) {
+      return;
+    }
+    totalLength -= document.length();
+    for (String term : document.termFrequencies().keySet()) {
+      Map<Long, Float> posting = postings.get(term);
+      if (posting == null) continue;
+      posting.remove(postId);
+      if (posting.isEmpty()) {
+        postings.remove(term);
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.back.domain.post.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 검색 토크나이저
+ * - NFKC 정규화 + 소문자화 후 글자/숫자가 아닌 문자는 구분자로 취급
+ * - 한글은 형태소 분석기 없이 음절 bigram 으로 나누고 (한 글자 단어는 그대로), 영문/숫자는 단어 단위
+ * - 색인과 질의에 같은 규칙을 써서 "진토닉" 과 "진 토닉" 이 "토닉" 으로 만나도록 한다
+ */
+final class PostSearchTokenizer {
+
+  private PostSearchTokenizer() {
+  }
+
+  static List<String> tokenize(String text) {
+    List<String> terms = new ArrayList<>();
+    if (text == null || text.isBlank()) {
+      return terms;
+    }
+
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    int start = -1;
+    boolean hangulRun = false;
+    for (int i = 0; i <= normalized.length(); i++) {
+      char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+      boolean wordChar = Character.isLetterOrDigit(c);
+      boolean hangul = isHangul(c);
+
+      // 단어가 끝나거나 한글/비한글 경계를 만나면 지금까지의 구간을 내보냄
+      if (start >= 0 && (!wordChar || hangul != hangulRun)) {
+        emit(normalized.substring(start, i), hangulRun, terms);
+        start = -1;
+      }
+      if (wordChar && start < 0) {
+        start = i;
+        hangulRun = hangul;
+      }
+    }
+    return terms;
+  }
+
+  private static void emit(String run, boolean hangul, List<String> terms) {
+    if (!hangul || run.length() == 1) {
+      terms.add(run);
+      return;
+    }
+    for (int i = 0; i + 1 < run.length(); i++) {
+      terms.add(run.substring(i, i + 2));
+    }
+  }
+
+  private static boolean isHangul(char c) {
+    return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+  }
+}
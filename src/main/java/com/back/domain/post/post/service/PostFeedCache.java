@@ -0,0 +1,108 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.dto.response.PostResponseDto;
+import com.back.domain.post.post.enums.PostSortStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 피드 첫 페이지 캐시 ((카테고리, 정렬 기준)별)
+ * - 게시글 작성/수정/삭제, 추천, 댓글 작성/삭제가 커밋되면 해당 카테고리와 전체 피드의 항목을 비움
+ * - 조회수는 이벤트로 비우지 않고 TTL 동안만 재사용
+ * - 적중/미스 횟수는 actuator 메트릭 post.feed.cache.requests{result=hit|miss} 로 노출
+ */
+@Component
+public class PostFeedCache {
+
+  private static final Duration TTL = Duration.ofSeconds(30);
+
+  private record Key(Long categoryId, PostSortStatus sortStatus) {
+  }
+
+  private record Entry(List<PostResponseDto> posts, long loadedAt) {
+  }
+
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  // 무효화 세대: 조회 도중 무효화가 일어나면 그 결과는 캐시에 넣지 않음
+  private final AtomicLong generation = new AtomicLong();
+  private final Counter hits;
+  private final Counter misses;
+  private final AtomicLong evictions = new AtomicLong();
+
+  public PostFeedCache(MeterRegistry meterRegistry) {
+    this.hits = Counter.builder("post.feed.cache.requests")
+        .tag("result", "hit")
+        .description("게시글 피드 첫 페이지 캐시 조회 수")
+        .register(meterRegistry);
+    this.misses = Counter.builder("post.feed.cache.requests")
+        .tag("result", "miss")
+        .description("게시글 피드 첫 페이지 캐시 조회 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("post.feed.cache.evictions", evictions, AtomicLong::get)
+        .description("게시글 피드 캐시 무효화 횟수")
+        .register(meterRegistry);
+    Gauge.builder("post.feed.cache.size", entries, Map::size)
+        .description("캐시된 피드 첫 페이지 수")
+        .register(meterRegistry);
+  }
+
+  public List<PostResponseDto> get(Long categoryId, PostSortStatus sortStatus, Supplier<List<PostResponseDto>> loader) {
+    Key key = new Key(categoryId, sortStatus);
+    long now = System.nanoTime();
+
+    Entry entry = entries.get(key);
+    if (entry != null && now - entry.loadedAt() < TTL.toNanos()) {
+      hits.increment();
+      return entry.posts();
+    }
+
+    misses.increment();
+    long loadedGeneration = generation.get();
+    List<PostResponseDto> posts = List.copyOf(loader.get());
+    if (generation.get() == loadedGeneration) {
+      entries.put(key, new Entry(posts, now));
+    }
+    return posts;
+  }
+
+  // 커밋 이후 해당 카테고리들과 전체(카테고리 없음) 피드의 첫 페이지를 비움 (롤백되면 유지)
+  public void evictAfterCommit(Long... categoryIds) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evict(categoryIds);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        evict(categoryIds);
+      }
+    });
+  }
+
+  // 전체 비우기 (운영 중 수동 초기화, 테스트 격리용)
+  public void clear() {
+    generation.incrementAndGet();
+    entries.clear();
+  }
+
+  private void evict(Long... categoryIds) {
+    generation.incrementAndGet();
+    List<Long> targets = Arrays.asList(categoryIds);
+    entries.keySet().removeIf(key -> key.categoryId() == null || targets.stream()
+        .anyMatch(categoryId -> Objects.equals(categoryId, key.categoryId())));
+    evictions.incrementAndGet();
+  }
+}
@@ -0,0 +1,85 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.repository.PostImageRepository;
+import com.back.global.file.entity.PendingUpload;
+import com.back.global.file.repository.PendingUploadRepository;
+import com.back.global.file.repository.StoredFileRepository;
+import com.back.global.file.service.FileDeletionService;
+import com.back.global.file.service.FileService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 버킷의 게시글 이미지 파일을 PostImage 행과 대조해, 어떤 게시글에서도 참조하지 않는 파일을 삭제 대기열에 등록
+ * (삭제 재시도를 포기했거나, 저장 직전에 서버가 죽어 남은 업로드 등)
+ * 버킷 공유 시 다른 환경의 파일을 지우지 않도록 custom.file.orphanSweeper.enabled=true 인 환경(prod)에서만 동작
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.file.orphanSweeper.enabled", havingValue = "true")
+public class PostImageOrphanSweeper {
+
+  // 업로드 후 아직 게시글 저장 전이거나 작성 중인 파일을 건드리지 않도록 충분히 오래된 파일만 대상
+  private static final Duration GRACE_PERIOD = Duration.ofDays(3);
+
+  private final FileService fileService;
+  private final FileDeletionService fileDeletionService;
+  private final PostImageRepository postImageRepository;
+  private final PendingUploadRepository pendingUploadRepository;
+  private final StoredFileRepository storedFileRepository;
+
+  @Scheduled(cron = "0 0 3 * * *")
+  public void sweep() {
+    int enqueued = sweepModifiedBefore(Date.from(Instant.now().minus(GRACE_PERIOD)));
+    if (enqueued > 0) {
+      log.info("게시글에서 참조하지 않는 S3 파일 {}건 삭제 등록", enqueued);
+    }
+  }
+
+  int sweepModifiedBefore(Date cutoff) {
+    AtomicInteger enqueued = new AtomicInteger();
+    fileService.forEachPostImagePage(cutoff, fileNames -> {
+      List<String> orphans = findOrphans(fileNames);
+      fileDeletionService.enqueue(orphans);
+      enqueued.addAndGet(orphans.size());
+    });
+    return enqueued.get();
+  }
+
+  // 파생본은 원본 키 기준으로 판단 (원본이 참조되면 파생본도 유지)
+  private List<String> findOrphans(List<String> fileNames) {
+    Map<String, String> urlByOriginal = fileNames.stream()
+        .map(fileService::originalFileName)
+        .distinct()
+        .collect(Collectors.toMap(Function.identity(), fileService::getUrl));
+
+    Set<String> referencedUrls = new HashSet<>(postImageRepository.findUrlsIn(urlByOriginal.values()));
+    Set<String> referencedNames = new HashSet<>(postImageRepository.findFileNamesIn(urlByOriginal.keySet()));
+    pendingUploadRepository.findByFileNameIn(urlByOriginal.keySet()).stream()
+        .map(PendingUpload::getFileName)
+        .forEach(referencedNames::add);
+    // stored_file 행이 남은 내용 주소 파일은 참조 수 정리(StoredFileService)에 맡김
+    referencedNames.addAll(storedFileRepository.findFileNamesIn(urlByOriginal.keySet()));
+
+    return fileNames.stream()
+        .filter(fileName -> {
+          String original = fileService.originalFileName(fileName);
+          return !referencedNames.contains(original) && !referencedUrls.contains(urlByOriginal.get(original));
+        })
+        .toList();
+  }
+}
@@ -0,0 +1,98 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.entity.PostImage;
+import com.back.domain.post.post.repository.PostImageRepository;
+import com.back.global.file.dto.ImageVariantsDto;
+import com.back.global.file.service.FileService;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 이미지의 썸네일/중간 크기 파생본을 업로드 이후 비동기로 생성
+ * 디코딩 한 건이 수십 MB 를 쓸 수 있어 작업 스레드와 대기 큐를 모두 고정 크기로 제한하고,
+ * 큐가 가득 차면 해당 이미지는 건너뜀 (파생본이 없으면 원본 URL 을 그대로 사용)
+ */
+@Slf4j
+@Service
+public class PostImageVariantService {
+
+  private static final int WORKERS = 2;
+  private static final int QUEUE_CAPACITY = 200;
+
+  private final FileService fileService;
+  private final PostImageRepository postImageRepository;
+  private final ThreadPoolExecutor executor;
+
+  @Autowired
+  public PostImageVariantService(FileService fileService, PostImageRepository postImageRepository) {
+    this(fileService, postImageRepository, WORKERS, QUEUE_CAPACITY);
+  }
+
+  PostImageVariantService(FileService fileService, PostImageRepository postImageRepository,
+      int workers, int queueCapacity) {
+    this.fileService = fileService;
+    this.postImageRepository = postImageRepository;
+    this.executor = new ThreadPoolExecutor(
+        workers, workers, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        Thread.ofPlatform().name("post-image-variant-", 0).daemon().factory(),
+        new ThreadPoolExecutor.AbortPolicy()
+    );
+  }
+
+  // 커밋 후 파생본이 없는 이미지를 작업 큐에 등록 (ID 는 flush 이후에 확정되므로 커밋 시점에 읽음)
+  public void generateAfterCommit(Collection<PostImage> images) {
+    List<PostImage> targets = images.stream()
+        .filter(image -> image.getThumbnailUrl() == null)
+        .toList();
+    if (targets.isEmpty()) return;
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        targets.forEach(image -> submit(image.getId(), image.getFileName()));
+      }
+    });
+  }
+
+  void submit(Long imageId, String fileName) {
+    try {
+      executor.execute(() -> generate(imageId, fileName));
+    } catch (RejectedExecutionException e) {
+      log.warn("이미지 파생본 작업 큐가 가득 차 건너뜀: postImageId={}", imageId);
+    }
+  }
+
+  private void generate(Long imageId, String fileName) {
+    try {
+      // 같은 내용의 이미지가 이미 파생본을 가지고 있으면 그대로 재사용
+      PostImage existing = postImageRepository.findFirstByFileNameAndThumbnailUrlIsNotNull(fileName).orElse(null);
+      if (existing != null) {
+        postImageRepository.updateVariants(imageId, existing.getThumbnailUrl(), existing.getMediumUrl());
+        return;
+      }
+
+      ImageVariantsDto variants = fileService.createVariants(fileName);
+      if (variants != null) {
+        postImageRepository.updateVariants(imageId, variants.thumbnailUrl(), variants.mediumUrl());
+      }
+    } catch (RuntimeException e) {
+      log.warn("이미지 파생본 생성 실패: postImageId={}", imageId, e);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+}
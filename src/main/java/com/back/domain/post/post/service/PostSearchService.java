@@ -0,0 +1,123 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.enums.PostStatus;
+import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.post.post.search.PostSearchHit;
+import com.back.domain.post.post.search.PostSearchIndex;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 검색 색인 관리
+ * - 작성/수정/삭제가 커밋되면 해당 게시글만 색인에 반영 (삭제 상태는 색인에서 제거)
+ * - 시작 시와 매일 새벽 DB에서 전체 재색인 (재색인 중 변경된 게시글은 새 색인에 다시 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+  private static final int REBUILD_CHUNK_SIZE = 500;
+
+  private final PostRepository postRepository;
+
+  private volatile PostSearchIndex index = new PostSearchIndex();
+  // 재색인 중에 변경된 게시글 ID (재색인 중이 아니면 null)
+  private volatile Set<Long> changedDuringRebuild;
+
+  private record Snapshot(Long postId, PostStatus status, String title, String content, List<String> tags) {
+
+    static Snapshot of(Post post) {
+      return new Snapshot(
+          post.getId(),
+          post.getStatus(),
+          post.getTitle(),
+          post.getContent(),
+          post.getPostTags().stream()
+              .map(postTag -> postTag.getTag().getName())
+              .toList()
+      );
+    }
+  }
+
+  public List<PostSearchHit> search(String query, Double lastScore, Long lastId, int size) {
+    return index.search(query, lastScore, lastId, size);
+  }
+
+  // 트랜잭션 안에서 현재 내용을 떠 두었다가 커밋 이후 색인에 반영 (롤백되면 반영하지 않음)
+  public void indexAfterCommit(Post post) {
+    Snapshot snapshot = Snapshot.of(post);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(snapshot);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        apply(snapshot);
+      }
+    });
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(cron = "0 0 5 * * *")
+  public synchronized void rebuild() {
+    long startedAt = System.currentTimeMillis();
+    Set<Long> changed = ConcurrentHashMap.newKeySet();
+    changedDuringRebuild = changed;
+
+    PostSearchIndex rebuilt = new PostSearchIndex();
+    try {
+      Long lastId = 0L;
+      while (true) {
+        List<Long> ids = postRepository.findIdsAfter(lastId, PostStatus.DELETED, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+        if (ids.isEmpty()) break;
+
+        // 태그까지 한 번에 로딩 (청크마다 쿼리 2번)
+        for (Post post : postRepository.findWithTagsByIdIn(ids)) {
+          apply(rebuilt, Snapshot.of(post));
+        }
+        lastId = ids.get(ids.size() - 1);
+      }
+
+      index = rebuilt;
+    } finally {
+      changedDuringRebuild = null;
+    }
+
+    // 재색인 도중 커밋된 변경은 이전 색인에만 반영됐을 수 있으므로 새 색인에 다시 반영
+    for (Long postId : changed) {
+      postRepository.findWithTagsByIdIn(List.of(postId)).stream()
+          .findFirst()
+          .ifPresentOrElse(post -> apply(rebuilt, Snapshot.of(post)), () -> rebuilt.remove(postId));
+    }
+    log.info("게시글 검색 색인 재구성: {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+  }
+
+  private void apply(Snapshot snapshot) {
+    Set<Long> changed = changedDuringRebuild;
+    if (changed != null) {
+      changed.add(snapshot.postId());
+    }
+    apply(index, snapshot);
+  }
+
+  private static void apply(PostSearchIndex target, Snapshot snapshot) {
+    if (snapshot.status() == PostStatus.DELETED) {
+      target.remove(snapshot.postId());
+    } else {
+      target.put(snapshot.postId(), snapshot.title(), snapshot.content(), snapshot.tags());
+    }
+  }
+}
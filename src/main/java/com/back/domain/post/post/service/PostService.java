@@ -9,31 +9,40 @@ import com.back.domain.post.post.dto.request.PostSortScrollRequestDto;
 import com.back.domain.post.post.dto.request.PostUpdateRequestDto;
 import com.back.domain.post.post.dto.response.PostLikeResponseDto;
 import com.back.domain.post.post.dto.response.PostResponseDto;
+import com.back.domain.post.post.dto.response.PostSearchResponseDto;
 import com.back.domain.post.post.entity.Post;
 import com.back.domain.post.post.entity.PostImage;
-import com.back.domain.post.post.entity.PostLike;
 import com.back.domain.post.post.entity.Tag;
 import com.back.domain.post.post.enums.PostLikeStatus;
+import com.back.domain.post.post.enums.PostSortStatus;
 import com.back.domain.post.post.enums.PostStatus;
+import com.back.domain.post.post.repository.PostFeedQuery;
 import com.back.domain.post.post.repository.PostImageRepository;
 import com.back.domain.post.post.repository.PostLikeRepository;
 import com.back.domain.post.post.repository.PostRepository;
-import com.back.domain.post.post.repository.TagRepository;
+import com.back.domain.post.post.search.PostSearchHit;
 import com.back.domain.user.entity.User;
 import com.back.domain.user.service.AbvScoreService;
+import com.back.domain.visitor.enums.VisitorTarget;
+import com.back.domain.visitor.service.UniqueVisitorService;
 import com.back.global.file.dto.UploadedFileDto;
 import com.back.global.file.service.FileService;
+import com.back.global.file.service.PresignedUploadService;
+import com.back.global.file.service.StoredFileService;
 import com.back.global.rq.Rq;
+import com.back.global.standard.util.DecayingScoreBoard;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
@@ -42,19 +51,44 @@ public class PostService {
 
   private final PostRepository postRepository;
   private final CategoryRepository categoryRepository;
-  private final TagRepository tagRepository;
+  private final TagDictionary tagDictionary;
   private final PostLikeRepository postLikeRepository;
   private final PostImageRepository postImageRepository;
   private final NotificationService notificationService;
   private final Rq rq;
   private final AbvScoreService abvScoreService;
   private final FileService fileService;
+  private final PostTrendingService postTrendingService;
+  private final PostViewCountService postViewCountService;
+  private final UniqueVisitorService uniqueVisitorService;
+  private final PostFeedCache postFeedCache;
+  private final PostSearchService postSearchService;
+  private final TransactionTemplate transactionTemplate;
+  private final PresignedUploadService presignedUploadService;
+  private final PostImageVariantService postImageVariantService;
+  private final StoredFileService storedFileService;
+
+  private static final int PAGE_SIZE = 10;
+  private static final int MAX_PAGE_SIZE = 50;
 
   // 게시글 작성 로직
-  @Transactional
+  // S3 업로드는 트랜잭션 밖에서 병렬로 끝내고, 짧은 트랜잭션에서는 게시글/이미지 행만 저장
   public PostResponseDto createPost(PostCreateRequestDto reqBody, List<MultipartFile> images) {
     User user = rq.getActor(); // 현재 로그인한 사용자의 정보 가져오기
 
+    // presigned 업로드 확인 후 multipart 이미지 업로드 (둘 다 S3 호출이라 트랜잭션 밖에서 처리)
+    List<UploadedFileDto> presigned = presignedUploadService.verify(user.getId(), reqBody.imageKeys());
+    // 게시글 저장이 실패해 참조가 생기지 않은 업로드는 StoredFileService 가 유예 기간 후 정리
+    List<UploadedFileDto> uploaded = fileService.uploadFiles(images);
+    // 태그도 트랜잭션 전에 확정 (새 태그는 TagDictionary 가 자체 트랜잭션으로 생성)
+    List<Tag> tags = tagDictionary.resolve(Optional.ofNullable(reqBody.tags()).orElse(List.of()));
+    return transactionTemplate.execute(status -> savePost(reqBody, user, tags, presigned, uploaded));
+  }
+
+  private PostResponseDto savePost(PostCreateRequestDto reqBody, User user, List<Tag> tags,
+      List<UploadedFileDto> presigned, List<UploadedFileDto> uploaded) {
+    presignedUploadService.markCommitted(presigned);
+    storedFileService.acquire(uploaded.stream().map(UploadedFileDto::fileName).toList());
     Category category = categoryRepository.findById(reqBody.categoryId())
         .orElseThrow(() -> new IllegalArgumentException("해당 카테고리를 찾을 수 없습니다. ID: " + reqBody.categoryId()));
 
@@ -68,67 +102,117 @@ public class PostService {
         .build();
 
     // 태그 저장
-    List<String> tagNames = reqBody.tags();
-    if (tagNames != null && !tagNames.isEmpty()) {
-      addTag(tagNames, post);
-    }
-
-    // 이미지 저장 (S3 업로드 + DB 저장)
-    if (images != null && !images.isEmpty()) {
-      int order = 0;
-      for (MultipartFile image : images) {
-        String url = fileService.uploadFile(image);
-
-        PostImage postImage = PostImage.builder()
-            .fileName(image.getOriginalFilename())
-            .url(url)
-            .sortOrder(order++)
-            .build();
-
-        post.addImage(postImage);
-      }
+    tags.forEach(post::addTag);
+
+    // 이미지 저장 (presigned 업로드, multipart 업로드 순서대로 S3 키/URL 저장)
+    int order = 0;
+    for (UploadedFileDto file : concat(presigned, uploaded)) {
+      post.addImage(PostImage.builder()
+          .fileName(file.fileName())
+          .url(file.url())
+          .sortOrder(order++)
+          .build());
     }
 
     // 활동 점수: 게시글 작성 +0.5
     abvScoreService.awardForPost(user.getId());
-    return new PostResponseDto(postRepository.save(post));
+    postFeedCache.evictAfterCommit(category.getId());
+    Post saved = postRepository.save(post);
+    postSearchService.indexAfterCommit(saved);
+    postImageVariantService.generateAfterCommit(saved.getImages());
+    return PostResponseDto.detail(saved);
   }
 
   // 게시글 다건 조회 로직
   @Transactional(readOnly = true)
   public List<PostResponseDto> getPosts(PostSortScrollRequestDto reqBody) {
-    List<Post> posts;
+    int size = pageSize(reqBody.size());
 
-    // 카테고리 ID 유무에 따른 분기 처리
-    if (reqBody.categoryId() != null) {
-      // 카테고리별 조회 로직
-      posts = findPostsByCategory(reqBody);
-    } else {
-      // 카테고리 없음 (전체) 조회
-      posts = findAllPosts(reqBody);
+    // 기본 크기의 첫 페이지는 (카테고리, 정렬 기준)별 캐시에서 응답 (트렌딩은 랭킹이 자주 바뀌어 제외)
+    if (reqBody.lastId() == null && size == PAGE_SIZE && reqBody.postSortStatus() != PostSortStatus.TRENDING) {
+      return postFeedCache.get(reqBody.categoryId(), reqBody.postSortStatus(), () -> loadPosts(reqBody, size));
     }
+    return loadPosts(reqBody, size);
+  }
+
+  private List<PostResponseDto> loadPosts(PostSortScrollRequestDto reqBody, int size) {
+    // 트렌딩은 메모리 랭킹 순서, 나머지는 키셋 조회 (카테고리 유무는 조회 조건으로 처리)
+    List<Post> posts = switch (reqBody.postSortStatus()) {
+      case TRENDING -> findTrendingPosts(reqBody, size);
+      case LATEST, POPULAR, COMMENTS -> postRepository.findFeedPage(new PostFeedQuery(
+          reqBody.postSortStatus(),
+          reqBody.categoryId(),
+          reqBody.lastId(),
+          lastSortValue(reqBody),
+          size
+      ));
+    };
+    hydrate(posts);
 
     return posts.stream()
         .map(PostResponseDto::new)
         .collect(Collectors.toList());
   }
 
+  // 게시글 검색 (제목/본문/태그, BM25 점수순, lastScore + lastId 키셋 페이지네이션)
+  @Transactional(readOnly = true)
+  public List<PostSearchResponseDto> searchPosts(String query, Double lastScore, Long lastId, Integer size) {
+    List<PostSearchHit> hits = postSearchService.search(query, lastScore, lastId, pageSize(size));
+    if (hits.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> ids = hits.stream().map(PostSearchHit::postId).toList();
+    List<Post> posts = postRepository.findAllById(ids);
+    hydrate(posts);
+    Map<Long, Post> postsById = posts.stream()
+        .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+    // 색인 반영 전 삭제된 게시글은 제외하고 점수 순서 유지
+    return hits.stream()
+        .filter(hit -> {
+          Post post = postsById.get(hit.postId());
+          return post != null && post.getStatus() != PostStatus.DELETED;
+        })
+        .map(hit -> new PostSearchResponseDto(hit.score(), new PostResponseDto(postsById.get(hit.postId()))))
+        .toList();
+  }
+
   // 게시글 단건 조회 로직
-  @Transactional
+  // 조회수는 메모리에 모았다가 주기적으로 반영하므로 읽기 전용 트랜잭션으로 처리
+  @Transactional(readOnly = true)
   public PostResponseDto getPost(Long postId) {
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new NoSuchElementException("해당 게시글을 찾을 수 없습니다. ID: " + postId));
 
-    post.increaseViewCount();
+    postViewCountService.increment(postId);
+    postTrendingService.recordView(postId);
+    uniqueVisitorService.recordCurrentVisitor(VisitorTarget.POST, postId);
 
-    return new PostResponseDto(post);
+    // 응답 조회수에는 아직 반영되지 않은 증가분을 더해 보여줌
+    return PostResponseDto.detail(post).withViewCounts(
+        post.getViewCount() + (int) postViewCountService.pendingCount(postId),
+        uniqueVisitorService.count(VisitorTarget.POST, postId)
+    );
   }
 
   // 게시글 수정 로직
-  @Transactional
+  // 새 이미지는 트랜잭션 밖에서 병렬 업로드 후, 짧은 트랜잭션에서 게시글 변경만 반영
   public PostResponseDto updatePost(Long postId, PostUpdateRequestDto reqBody, List<MultipartFile> images) {
+    List<UploadedFileDto> presigned = presignedUploadService.verify(rq.getActor().getId(), reqBody.imageKeys());
+    List<UploadedFileDto> uploaded = fileService.uploadFiles(images);
+    // 태그 변경이 없으면 null
+    List<Tag> tags = reqBody.tags() == null ? null : tagDictionary.resolve(reqBody.tags());
+    return transactionTemplate.execute(status -> applyUpdate(postId, reqBody, tags, presigned, uploaded));
+  }
+
+  private PostResponseDto applyUpdate(Long postId, PostUpdateRequestDto reqBody, List<Tag> tags,
+      List<UploadedFileDto> presigned, List<UploadedFileDto> uploaded) {
+    presignedUploadService.markCommitted(presigned);
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new NoSuchElementException("해당 게시글을 찾을 수 없습니다. ID: " + postId));
+    // 카테고리가 바뀌면 이전/새 카테고리 피드 모두 비움
+    Long previousCategoryId = post.getCategory().getId();
 
     if (reqBody.categoryId() != null) {
       Category category = categoryRepository.findById(reqBody.categoryId())
@@ -138,6 +222,7 @@ public class PostService {
           );
       post.updateCategory(category);
     }
+    postFeedCache.evictAfterCommit(previousCategoryId, post.getCategory().getId());
     if (reqBody.status() != null) {
       post.updateStatus(reqBody.status());
     }
@@ -148,15 +233,11 @@ public class PostService {
       post.updateContent(reqBody.content());
     }
 
-    List<String> addedImgUrls = List.of();
-    List<String> uploadedFileNames = List.of();
-
-    if (images != null && !images.isEmpty()) {
-      // 새 이미지 업로드
-      List<UploadedFileDto> uploaded = fileService.uploadFiles(images);
-      addedImgUrls = uploaded.stream().map(UploadedFileDto::url).toList();
-      uploadedFileNames = uploaded.stream().map(UploadedFileDto::fileName).toList();
-    }
+    // 트랜잭션 전에 업로드된 새 이미지 (URL -> S3 키)
+    List<UploadedFileDto> added = concat(presigned, uploaded);
+    Map<String, String> uploadedKeysByUrl = added.stream()
+        .collect(Collectors.toMap(UploadedFileDto::url, UploadedFileDto::fileName, (first, second) -> first));
+    List<String> addedImgUrls = added.stream().map(UploadedFileDto::url).toList();
 
       // 요청 DTO에서 "유지할 이미지 URL 목록" 꺼내기
       List<String> keepImageUrls = new ArrayList<>(
@@ -168,10 +249,10 @@ public class PostService {
 
       // 삭제될 이미지 (DB + S3)
       List<PostImage> toRemove = post.getImages().stream()
-          .filter(img -> !keepImageUrls.contains(img.getUrl()))
+          .filter(img -> keepImageUrls.stream().noneMatch(img::matchesUrl))
           .toList();
 
-      List<String> deleteKeysAfterCommit = toRemove.stream()
+      List<String> removedFileNames = toRemove.stream()
           .map(PostImage::getFileName)
           .toList();
 
@@ -179,11 +260,12 @@ public class PostService {
       post.getImages().removeAll(toRemove); // orphanRemoval 트리거
 
       // 유지할 이미지 정렬
+      List<String> addedFileNames = new ArrayList<>();
       int order = 0;
       for (String url : keepImageUrls) {
         // 기존 이미지인지 확인
         PostImage existing = existingImages.stream()
-            .filter(img -> img.getUrl().equals(url))
+            .filter(img -> img.matchesUrl(url))
             .findFirst()
             .orElse(null);
 
@@ -191,38 +273,38 @@ public class PostService {
           existing.updateSortOrder(order++);
         } else {
           // 새로 추가된 이미지
+          String fileName = uploadedKeysByUrl.getOrDefault(url, extractFileNameFromUrl(url));
+          addedFileNames.add(fileName);
           post.getImages().add(PostImage.builder()
               .post(post)
-              .fileName(extractFileNameFromUrl(url)) // URL에서 파일명 추출 함수 아래 참고
+              .fileName(fileName)
               .url(url)
               .sortOrder(order++)
               .build());
         }
       }
 
-    List<String> uploadedNames = new ArrayList<>(uploadedFileNames);
-
-      // 트랜잭션 완료 후 처리
-      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-        @Override
-        public void afterCompletion(int status) {
-          if (status == STATUS_ROLLED_BACK) {
-            uploadedNames.forEach(fileService::deleteFile);
-          } else if (status == STATUS_COMMITTED) {
-            deleteKeysAfterCommit.forEach(fileService::deleteFile);
-          }
-        }
-      });
+      // 실제로 붙고 빠진 이미지만큼 참조 수 반영 (공유되지 않는 키는 같은 트랜잭션으로 삭제 대기열에 등록)
+      storedFileService.acquire(addedFileNames);
+      storedFileService.release(removedFileNames);
 
     if (reqBody.videoUrl() != null && !reqBody.videoUrl().isBlank()) {
       post.updateVideo(reqBody.videoUrl());
     }
-    if (reqBody.tags() != null) {
-      post.clearTags(); // 기존 태그들 삭제
-      addTag(reqBody.tags(), post); // 새로운 태그들 추가
+    if (tags != null) {
+      // 추가/삭제된 태그의 PostTag 만 반영
+      post.updateTags(tags);
     }
+    postSearchService.indexAfterCommit(post);
+    postImageVariantService.generateAfterCommit(post.getImages());
 
-    return new PostResponseDto(post);
+    return PostResponseDto.detail(post);
+  }
+
+  private List<UploadedFileDto> concat(List<UploadedFileDto> first, List<UploadedFileDto> second) {
+    List<UploadedFileDto> result = new ArrayList<>(first);
+    result.addAll(second);
+    return result;
   }
 
   private String extractFileNameFromUrl(String url) {
@@ -241,6 +323,8 @@ public class PostService {
     post.updateStatus(PostStatus.DELETED);
     // 활동 점수: 게시글 삭제 시 -0.5 (작성자 기준)
     abvScoreService.revokeForPost(post.getUser().getId());
+    postFeedCache.evictAfterCommit(post.getCategory().getId());
+    postSearchService.indexAfterCommit(post); // 삭제 상태이므로 색인에서 제거됨
 
     // soft delete를 사용하기 위해 레포지토리 삭제 작업은 진행하지 않음.
 //    postRepository.delete(post);
@@ -254,26 +338,20 @@ public class PostService {
     Post post = postRepository.findById(postId)
         .orElseThrow(() -> new NoSuchElementException("해당 게시글을 찾을 수 없습니다. ID: " + postId));
 
-    Optional<PostLike> existingLike = postLikeRepository.findByPostAndUser(post, user);
-
-    if (existingLike.isPresent()) {
-      // 이미 추천했으면 취소
-      existingLike.get().updateStatus(PostLikeStatus.NONE);
-      postLikeRepository.delete(existingLike.get());
-      post.decreaseLikeCount();
+    // 추천 취소: 행을 실제로 지운 요청만 카운터를 줄임 (동시 요청 중 하나만 1건 삭제)
+    if (postLikeRepository.deleteByPostIdAndUserId(postId, user.getId()) > 0) {
+      postRepository.addLikeCount(postId, -1);
+      postFeedCache.evictAfterCommit(post.getCategory().getId());
       // 활동 점수: 추천 취소 시 -0.1
       abvScoreService.revokeForLike(user.getId());
 
-      return new PostLikeResponseDto(existingLike.get().getStatus());
-    } else {
-      // 추천 추가
-      PostLike postLike = PostLike.builder()
-          .post(post)
-          .user(user)
-          .status(PostLikeStatus.LIKE)
-          .build();
-      postLikeRepository.save(postLike);
-      post.increaseLikeCount();
+      return new PostLikeResponseDto(PostLikeStatus.NONE);
+    }
+
+    // 추천 추가: (post_id, user_id) 유니크 제약으로 같은 사용자의 중복 요청은 한 건만 반영
+    if (postLikeRepository.insertIgnore(postId, user.getId(), LocalDateTime.now()) > 0) {
+      postRepository.addLikeCount(postId, 1);
+      postFeedCache.evictAfterCommit(post.getCategory().getId());
       // 활동 점수: 추천 추가 시 +0.1
       abvScoreService.awardForLike(user.getId());
 
@@ -285,9 +363,9 @@ public class PostService {
           NotificationType.LIKE,
           likeMessage
       );
-
-      return new PostLikeResponseDto(postLike.getStatus());
     }
+
+    return new PostLikeResponseDto(PostLikeStatus.LIKE);
   }
 
   // 사용자가 해당 게시글 여부 확인 로직
@@ -301,80 +379,61 @@ public class PostService {
     return postLikeRepository.existsByPostAndUser(post, user);
   }
 
-  // 태그 추가 메서드
-  private void addTag(List<String> tagNames, Post post) {
-    for (String tagName : tagNames) {
-      Tag tag = tagRepository.findByName(tagName)
-          .orElseGet(() -> tagRepository.save(
-              Tag.builder()
-                  .name(tagName)
-                  .build()
-              )
-          );
-      post.addTag(tag);
+  // 피드 응답에 필요한 연관 엔티티(카테고리, 작성자, 이미지, 태그)를 미리 로딩
+  // 페이지 크기와 무관하게 쿼리 2번으로 고정 (게시글마다 지연 로딩이 발생하는 N+1 방지)
+  // 같은 영속성 컨텍스트의 게시글 인스턴스에 채워지므로 반환값은 사용하지 않음
+  private void hydrate(List<Post> posts) {
+    if (posts.isEmpty()) {
+      return;
     }
+    List<Long> ids = posts.stream().map(Post::getId).toList();
+    postRepository.findWithCategoryUserImagesByIdIn(ids);
+    postRepository.findWithTagsByIdIn(ids);
+  }
+
+  // 요청 페이지 크기 (미지정 시 기본값, 1 ~ MAX_PAGE_SIZE 로 제한)
+  private int pageSize(Integer size) {
+    return size == null ? PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
   }
 
-  // 카테고리 없음 (전체) 조회 메서드
-  private List<Post> findAllPosts(PostSortScrollRequestDto reqBody) {
+  // 정렬 기준별 커서 값 (최신순은 id 만 사용)
+  private Integer lastSortValue(PostSortScrollRequestDto reqBody) {
     return switch (reqBody.postSortStatus()) {
-      case POPULAR -> {
-        if (reqBody.lastId() == null || reqBody.lastLikeCount() == null) {
-          yield postRepository.findTop10ByStatusNotOrderByLikeCountDescIdDesc(PostStatus.DELETED);
-        } else {
-          yield postRepository.findTop10ByStatusNotAndLikeCountLessThanOrLikeCountEqualsAndIdLessThanOrderByLikeCountDescIdDesc(PostStatus.DELETED, reqBody.lastLikeCount(), reqBody.lastLikeCount(), reqBody.lastId());
-        }
-      }
-      case COMMENTS -> {
-        if (reqBody.lastId() == null || reqBody.lastCommentCount() == null) {
-          yield postRepository.findTop10ByStatusNotOrderByCommentCountDescIdDesc(PostStatus.DELETED);
-        } else {
-          yield postRepository.findTop10ByStatusNotAndCommentCountLessThanOrCommentCountEqualsAndIdLessThanOrderByCommentCountDescIdDesc(PostStatus.DELETED, reqBody.lastCommentCount(), reqBody.lastCommentCount(), reqBody.lastId());
-        }
-      }
-      case LATEST -> {
-        if (reqBody.lastId() == null) {
-          yield postRepository.findTop10ByStatusNotOrderByIdDesc(PostStatus.DELETED);
-        } else {
-          yield postRepository.findTop10ByStatusNotAndIdLessThanOrderByIdDesc(PostStatus.DELETED, reqBody.lastId());
-        }
-      }
-      default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + reqBody.postSortStatus());
+      case POPULAR -> reqBody.lastLikeCount();
+      case COMMENTS -> reqBody.lastCommentCount();
+      default -> null;
     };
   }
 
-  // 카테고리별 조회 메서드
-  private List<Post> findPostsByCategory(PostSortScrollRequestDto reqBody) {
-    return switch (reqBody.postSortStatus()) {
-      case POPULAR -> {
-        if (reqBody.lastId() == null || reqBody.lastLikeCount() == null) {
-          yield postRepository.findTop10ByCategoryIdAndStatusNotOrderByLikeCountDescIdDesc(
-              reqBody.categoryId(), PostStatus.DELETED);
-        } else {
-          yield postRepository.findTop10ByCategoryIdAndStatusNotAndLikeCountLessThanOrLikeCountEqualsAndIdLessThanOrderByLikeCountDescIdDesc(
-              reqBody.categoryId(), PostStatus.DELETED, reqBody.lastLikeCount(), reqBody.lastLikeCount(),
-              reqBody.lastId());
-        }
-      }
-      case COMMENTS -> {
-        if (reqBody.lastId() == null || reqBody.lastCommentCount() == null) {
-          yield postRepository.findTop10ByCategoryIdAndStatusNotOrderByCommentCountDescIdDesc(
-              reqBody.categoryId(), PostStatus.DELETED);
-        } else {
-          yield postRepository.findTop10ByCategoryIdAndStatusNotAndCommentCountLessThanOrCommentCountEqualsAndIdLessThanOrderByCommentCountDescIdDesc(
-              reqBody.categoryId(), PostStatus.DELETED, reqBody.lastCommentCount(), reqBody.lastCommentCount(),
-              reqBody.lastId());
-        }
+  // 트렌딩 조회 메서드 (메모리 랭킹 순서 유지, lastId 다음 순위부터)
+  // 삭제된 게시글과 다른 카테고리 게시글은 건너뛰고 다음 순위에서 채움
+  // 다음 페이지가 같은 랭킹 안에서 이어지도록 읽은 랭킹 버전을 응답 헤더로 전달
+  private List<Post> findTrendingPosts(PostSortScrollRequestDto reqBody, int size) {
+    List<Post> result = new ArrayList<>(size);
+    Long version = reqBody.rankingVersion();
+    Long cursor = reqBody.lastId();
+
+    while (result.size() < size) {
+      DecayingScoreBoard.Page page = postTrendingService.rankedAfter(version, cursor, size * 3);
+      version = page.version();
+      List<Long> ids = page.ids();
+      if (ids.isEmpty()) {
+        break;
       }
-      case LATEST -> {
-        if (reqBody.lastId() == null) {
-          yield postRepository.findTop10ByCategoryIdAndStatusNotOrderByIdDesc(reqBody.categoryId(), PostStatus.DELETED);
-        } else {
-          yield postRepository.findTop10ByCategoryIdAndStatusNotAndIdLessThanOrderByIdDesc(reqBody.categoryId(), PostStatus.DELETED,
-              reqBody.lastId());
-        }
+
+      Map<Long, Post> postsById = postRepository.findAllById(ids).stream()
+          .collect(Collectors.toMap(Post::getId, Function.identity()));
+      for (Long id : ids) {
+        Post post = postsById.get(id);
+        if (post == null || post.getStatus() == PostStatus.DELETED) continue;
+        if (reqBody.categoryId() != null && !reqBody.categoryId().equals(post.getCategory().getId())) continue;
+
+        result.add(post);
+        if (result.size() == size) break;
       }
-      default -> throw new IllegalArgumentException("지원하지 않는 정렬 기준: " + reqBody.postSortStatus());
-    };
+      cursor = ids.get(ids.size() - 1);
+    }
+    rq.setHeader(DecayingScoreBoard.VERSION_HEADER, String.valueOf(version));
+    return result;
   }
 }
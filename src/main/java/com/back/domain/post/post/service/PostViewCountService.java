@@ -0,0 +1,93 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 조회수 write-behind 카운터
+ * - 조회 시에는 메모리의 LongAdder 만 증가시키고 (행 잠금/UPDATE 없음), 5초마다 모아서 DB에 반영
+ * - 같은 증가량을 가진 게시글들을 UPDATE ... WHERE id IN (...) 한 번으로 묶어 반영
+ * - 애플리케이션 종료 시 남은 증가분을 마지막으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+
+  private final PostRepository postRepository;
+
+  // 게시글별 미반영 조회수 (반영 후 비어 있는 항목은 제거해 더 조회되지 않는 게시글이 쌓이지 않게 함)
+  private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+  public void increment(Long postId) {
+    add(postId, 1);
+  }
+
+  // 증가시킨 LongAdder 가 그 사이 반영 주기에서 제거됐다면 남은 값을 현재 항목으로 옮김
+  // sumThenReset 은 셀 단위 getAndSet 이라 같은 증가분을 두 번 옮기는 일도, 놓치는 일도 없음
+  private void add(Long postId, long delta) {
+    LongAdder views = pending.computeIfAbsent(postId, id -> new LongAdder());
+    views.add(delta);
+    if (pending.get(postId) != views) {
+      moveRetired(postId, views);
+    }
+  }
+
+  private void moveRetired(Long postId, LongAdder retired) {
+    long views = retired.sumThenReset();
+    if (views > 0) {
+      add(postId, views);
+    }
+  }
+
+  // 아직 DB에 반영되지 않은 조회수
+  public long pendingCount(Long postId) {
+    LongAdder views = pending.get(postId);
+    return views == null ? 0 : views.sum();
+  }
+
+  @Scheduled(fixedDelay = 5_000)
+  public synchronized void flush() {
+    // sumThenReset 은 셀 단위로 원자적으로 비우므로 동시에 들어온 증가분은 이번 또는 다음 반영에 포함됨
+    Map<Integer, List<Long>> idsByDelta = new HashMap<>();
+    pending.forEach((id, views) -> {
+      long delta = views.sumThenReset();
+      if (delta > 0) {
+        idsByDelta.computeIfAbsent(Math.toIntExact(delta), d -> new ArrayList<>()).add(id);
+      }
+    });
+
+    idsByDelta.forEach((delta, ids) -> {
+      try {
+        postRepository.increaseViewCount(ids, delta);
+      } catch (RuntimeException e) {
+        // 반영 실패 시 증가분을 되돌려 다음 주기에 다시 시도
+        ids.forEach(id -> add(id, delta));
+        log.warn("게시글 조회수 반영 실패, 다음 주기에 재시도: {}건", ids.size(), e);
+      }
+    });
+
+    // 비어 있는 항목 제거: 제거 직전에 들어온 증가분은 제거한 쪽에서 다시 옮김
+    pending.forEach((id, views) -> {
+      if (views.sum() == 0 && pending.remove(id, views)) {
+        moveRetired(id, views);
+      }
+    });
+  }
+
+  @EventListener(ContextClosedEvent.class)
+  public void flushOnShutdown() {
+    flush();
+  }
+}
@@ -0,0 +1,110 @@
+package com.back.domain.post.post.service;
+
+import com.back.domain.post.post.entity.Tag;
+import com.back.domain.post.post.repository.TagRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 태그 이름 → ID 사전
+ * - 한 번 확인한 태그는 메모리에서 바로 찾고, 모르는 이름만 IN 조회 1번 + 없는 이름 일괄 INSERT 1번으로 처리
+ * - 게시글 트랜잭션을 열기 전에 호출: 새 태그 INSERT 는 저장소의 자체 트랜잭션으로 커밋되어 커넥션을 하나만 쓰고,
+ *   같은 이름을 동시에 만든 요청이 있어 유니크 제약에 걸리면 먼저 만들어진 태그를 다시 조회해서 사용
+ * - 태그는 삭제/수정되지 않으므로 캐시를 무효화할 일이 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+  private static final int MAX_CACHED = 10_000;
+  private static final int MAX_INSERT_ATTEMPTS = 3;
+
+  private final TagRepository tagRepository;
+  private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+
+  /**
+   * 이름 목록을 Tag 로 변환 (입력 순서 유지, 앞뒤 공백 제거, 빈 이름/중복 제외, 없는 태그는 생성).
+   * 반환하는 Tag 는 id/name 만 채운 참조용 인스턴스로, PostTag 의 외래키와 응답의 태그 이름에만 사용한다.
+   */
+  public List<Tag> resolve(Collection<String> rawNames) {
+    // 바깥 트랜잭션 안에서 INSERT 가 유니크 제약에 걸리면 그 트랜잭션 전체가 롤백 대상이 되므로 호출 위치를 강제
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("태그는 트랜잭션 밖에서 조회/생성해야 합니다.");
+    }
+
+    Set<String> names = new LinkedHashSet<>();
+    for (String rawName : rawNames) {
+      if (rawName != null && !rawName.isBlank()) {
+        names.add(rawName.trim());
+      }
+    }
+
+    Map<String, Long> resolved = new HashMap<>();
+    List<String> unknown = new ArrayList<>();
+    for (String name : names) {
+      Long id = idsByName.get(name);
+      if (id != null) {
+        resolved.put(name, id);
+      } else {
+        unknown.add(name);
+      }
+    }
+
+    if (!unknown.isEmpty()) {
+      resolved.putAll(lookupOrCreate(unknown));
+    }
+
+    return names.stream()
+        .map(name -> Tag.builder().id(resolved.get(name)).name(name).build())
+        .toList();
+  }
+
+  private Map<String, Long> lookupOrCreate(List<String> names) {
+    Map<String, Long> found = lookup(names);
+    for (int attempt = 1; found.size() < names.size(); attempt++) {
+      List<Tag> missing = names.stream()
+          .filter(name -> !found.containsKey(name))
+          .map(name -> Tag.builder().name(name).build())
+          .toList();
+      try {
+        // saveAll + flush: hibernate.jdbc.batch_size 로 한 번의 배치 INSERT (저장소 트랜잭션으로 바로 커밋)
+        List<Tag> created = tagRepository.saveAllAndFlush(missing);
+        created.forEach(tag -> remember(found, tag));
+      } catch (DataIntegrityViolationException e) {
+        // 다른 요청이 같은 이름을 먼저 만든 경우: INSERT 트랜잭션만 롤백되었으므로 다시 조회해서 사용
+        if (attempt >= MAX_INSERT_ATTEMPTS) {
+          throw e;
+        }
+        log.debug("태그 동시 생성 충돌, 재조회: {}", missing.stream().map(Tag::getName).toList());
+        found.putAll(lookup(names));
+      }
+    }
+    return found;
+  }
+
+  private Map<String, Long> lookup(List<String> names) {
+    Map<String, Long> found = new HashMap<>();
+    tagRepository.findByNameIn(names).forEach(tag -> remember(found, tag));
+    return found;
+  }
+
+  private void remember(Map<String, Long> found, Tag tag) {
+    found.put(tag.getName(), tag.getId());
+    if (idsByName.size() >= MAX_CACHED) {
+      idsByName.clear();
+    }
+    idsByName.put(tag.getName(), tag.getId());
+  }
+}
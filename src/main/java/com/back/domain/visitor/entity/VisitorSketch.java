@@ -0,0 +1,59 @@
+package com.back.domain.visitor.entity;
+
+import com.back.domain.visitor.enums.VisitorTarget;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대상(게시글/칵테일)별 하루 단위 순방문자 HyperLogLog 스케치
+ * 조회 한 건마다 행을 쌓지 않고, 대상 × 날짜마다 2KB 레지스터 한 행만 유지
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_visitor_sketch_target_date",
+        columnNames = {"target_type", "target_id", "visit_date"}
+))
+public class VisitorSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private VisitorTarget targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "visit_date", nullable = false)
+    private LocalDate visitDate;
+
+    /** HyperLogLog 레지스터 (HyperLogLog.toBytes) */
+    @Column(nullable = false, length = 2048)
+    private byte[] registers;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
+    public VisitorSketch(VisitorTarget targetType, Long targetId, LocalDate visitDate, byte[] registers) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.visitDate = visitDate;
+        this.registers = registers;
+    }
+
+    public void updateRegisters(byte[] registers) {
+        this.registers = registers;
+    }
+}
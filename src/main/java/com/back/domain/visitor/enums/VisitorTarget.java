@@ -0,0 +1,13 @@
+package com.back.domain.visitor.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum VisitorTarget {
+    POST("게시글"),
+    COCKTAIL("칵테일");
+
+    private final String description;
+}
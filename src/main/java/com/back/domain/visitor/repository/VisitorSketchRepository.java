@@ -0,0 +1,33 @@
+package com.back.domain.visitor.repository;
+
+import com.back.domain.visitor.entity.VisitorSketch;
+import com.back.domain.visitor.enums.VisitorTarget;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface VisitorSketchRepository extends JpaRepository<VisitorSketch, Long> {
+
+    Optional<VisitorSketch> findByTargetTypeAndTargetIdAndVisitDate(
+            VisitorTarget targetType, Long targetId, LocalDate visitDate);
+
+    // 반영(병합) 시 다른 인스턴스의 동시 병합과 겹치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<VisitorSketch> findWithLockByTargetTypeAndTargetIdAndVisitDate(
+            VisitorTarget targetType, Long targetId, LocalDate visitDate);
+
+    List<VisitorSketch> findByTargetTypeAndTargetIdAndVisitDateBetween(
+            VisitorTarget targetType, Long targetId, LocalDate from, LocalDate to);
+
+    // 보관 기간이 지난 스케치 정리
+    @Modifying
+    @Query("DELETE FROM VisitorSketch s WHERE s.visitDate < :before")
+    int deleteByVisitDateBefore(@Param("before") LocalDate before);
+}
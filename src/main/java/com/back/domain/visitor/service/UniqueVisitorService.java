@@ -0,0 +1,179 @@
+package com.back.domain.visitor.service;
+
+import com.back.domain.visitor.entity.VisitorSketch;
+import com.back.domain.visitor.enums.VisitorTarget;
+import com.back.domain.visitor.repository.VisitorSketchRepository;
+import com.back.global.rq.Rq;
+import com.back.global.standard.util.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글/칵테일 순방문자 추정 (HyperLogLog, 하루 단위 스케치)
+ * - 방문자 키: 로그인 사용자는 사용자 id, 비로그인은 IP + User-Agent (해시만 레지스터에 반영되고 원문은 저장하지 않음)
+ * - 조회 시에는 메모리의 오늘 스케치만 갱신하고, 1분마다 바뀐 스케치를 DB에 반영 (종료 시에도 반영)
+ * - DB 반영은 행 잠금 후 레지스터 병합이라 여러 인스턴스가 같은 스케치를 반영해도 서로 덮어쓰지 않음
+ * - 순방문자 수는 최근 7일 스케치의 합집합 추정치
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UniqueVisitorService {
+
+    private static final int WINDOW_DAYS = 7;
+    private static final int RETENTION_DAYS = 30;
+
+    private final VisitorSketchRepository visitorSketchRepository;
+    private final Rq rq;
+    private final TransactionTemplate transactionTemplate;
+
+    private record Target(VisitorTarget type, Long id) {
+    }
+
+    private record Bucket(Target target, LocalDate date) {
+    }
+
+    // 지난 날짜(오늘 제외) 스케치의 합집합, date 기준으로 하루 동안 재사용
+    private record Previous(LocalDate date, HyperLogLog sketch) {
+    }
+
+    private final Map<Bucket, HyperLogLog> sketches = new ConcurrentHashMap<>();
+    private final Set<Bucket> dirty = ConcurrentHashMap.newKeySet();
+    private final Map<Target, Previous> previous = new ConcurrentHashMap<>();
+
+    // 현재 요청의 방문자를 대상의 오늘 스케치에 반영 (요청 스레드가 아니면 무시)
+    public void recordCurrentVisitor(VisitorTarget type, Long id) {
+        String visitorKey = rq.getVisitorKey();
+        if (visitorKey == null) {
+            return;
+        }
+        Bucket bucket = new Bucket(new Target(type, id), LocalDate.now());
+        if (sketch(bucket).offer(visitorKey)) {
+            dirty.add(bucket);
+        }
+    }
+
+    // 최근 WINDOW_DAYS 일간 순방문자 추정치
+    public long count(VisitorTarget type, Long id) {
+        Target target = new Target(type, id);
+        LocalDate today = LocalDate.now();
+
+        HyperLogLog union = previous(target, today).copy();
+        HyperLogLog current = sketches.get(new Bucket(target, today));
+        if (current != null) {
+            union.merge(current);
+        }
+        return union.estimate();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void flush() {
+        // dirty 에서 먼저 빼고 반영하므로, 반영 도중 들어온 방문은 다시 dirty 로 표시되어 다음 주기에 반영됨
+        // 스케치마다 별도 트랜잭션이라 한 건이 실패해도 나머지는 반영되고, 실패한 건은 다시 dirty 로 표시
+        for (Bucket bucket : dirty) {
+            dirty.remove(bucket);
+            HyperLogLog sketch = sketches.get(bucket);
+            if (sketch == null) continue;
+
+            if (!write(bucket, sketch)) {
+                dirty.add(bucket);
+            }
+        }
+
+        // 날짜가 바뀌면 지난 날짜 스케치는 메모리에서 내림 (DB에 커밋된 것만)
+        LocalDate today = LocalDate.now();
+        sketches.keySet().removeIf(bucket -> bucket.date().isBefore(today) && !dirty.contains(bucket));
+        previous.values().removeIf(p -> !p.date().equals(today));
+    }
+
+    // 스케치 한 건 반영, 다른 인스턴스가 같은 행을 먼저 insert 해 유니크 제약에 걸리면 한 번 더 시도 (이번엔 잠금 후 병합)
+    private boolean write(Bucket bucket, HyperLogLog sketch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> merge(bucket, sketch));
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == 2) {
+                    log.warn("순방문자 스케치 반영 실패 - {}", bucket, e);
+                    return false;
+                }
+            } catch (RuntimeException e) {
+                log.warn("순방문자 스케치 반영 실패 - {}", bucket, e);
+                return false;
+            }
+        }
+    }
+
+    private void merge(Bucket bucket, HyperLogLog sketch) {
+        Target target = bucket.target();
+        visitorSketchRepository.findWithLockByTargetTypeAndTargetIdAndVisitDate(target.type(), target.id(), bucket.date())
+                .ifPresentOrElse(
+                        row -> {
+                            // 다른 인스턴스/재시작 전 기록과 합집합으로 저장
+                            HyperLogLog merged = HyperLogLog.fromBytes(row.getRegisters());
+                            merged.merge(sketch);
+                            row.updateRegisters(merged.toBytes());
+                        },
+                        () -> visitorSketchRepository.saveAndFlush(new VisitorSketch(
+                                target.type(), target.id(), bucket.date(), sketch.toBytes()))
+                );
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = visitorSketchRepository.deleteByVisitDateBefore(LocalDate.now().minusDays(RETENTION_DAYS));
+        log.debug("순방문자 스케치 정리: {}건", deleted);
+    }
+
+    // 메모리의 스케치, 없으면 DB에 저장된 같은 날짜 스케치로 시작 (재시작 후 첫 방문)
+    private HyperLogLog sketch(Bucket bucket) {
+        HyperLogLog sketch = sketches.get(bucket);
+        if (sketch != null) {
+            return sketch;
+        }
+        Target target = bucket.target();
+        HyperLogLog loaded = visitorSketchRepository
+                .findByTargetTypeAndTargetIdAndVisitDate(target.type(), target.id(), bucket.date())
+                .map(row -> HyperLogLog.fromBytes(row.getRegisters()))
+                .orElseGet(HyperLogLog::new);
+        HyperLogLog existing = sketches.putIfAbsent(bucket, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private HyperLogLog previous(Target target, LocalDate today) {
+        Previous cached = previous.get(target);
+        if (cached != null && cached.date().equals(today)) {
+            return cached.sketch();
+        }
+
+        HyperLogLog union = new HyperLogLog();
+        LocalDate from = today.minusDays(WINDOW_DAYS - 1);
+        LocalDate to = today.minusDays(1);
+        visitorSketchRepository.findByTargetTypeAndTargetIdAndVisitDateBetween(target.type(), target.id(), from, to)
+                .forEach(row -> union.merge(HyperLogLog.fromBytes(row.getRegisters())));
+        // 자정 직후 아직 DB에 반영되지 않은 어제 스케치도 포함
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            HyperLogLog pending = sketches.get(new Bucket(target, date));
+            if (pending != null) {
+                union.merge(pending);
+            }
+        }
+
+        previous.put(target, new Previous(today, union));
+        return union;
+    }
+}
@@ -2,6 +2,7 @@ package com.back.global.appConfig;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,12 +20,21 @@ public class S3Config {
   @Value("${spring.cloud.aws.region.static}")
   private String region;
 
+  // MinIO, LocalStack 같은 S3 호환 저장소를 쓸 때만 지정 (비어 있으면 AWS S3)
+  @Value("${spring.cloud.aws.s3.endpoint:}")
+  private String endpoint;
+
   @Bean
   public AmazonS3 amazonS3() {
     BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
-    return AmazonS3ClientBuilder.standard()
-        .withRegion(region)
-        .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
-        .build();
+    AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+        .withCredentials(new AWSStaticCredentialsProvider(awsCreds));
+    if (endpoint.isBlank()) {
+      builder.withRegion(region);
+    } else {
+      builder.withEndpointConfiguration(new EndpointConfiguration(endpoint, region))
+          .withPathStyleAccessEnabled(true);
+    }
+    return builder.build();
   }
 }
@@ -1,15 +1,21 @@
 package com.back.global.file.Controller;
 
+import com.back.global.file.dto.PresignedUploadRequestDto;
+import com.back.global.file.dto.PresignedUploadResponseDto;
 import com.back.global.file.service.FileService;
+import com.back.global.file.service.PresignedUploadService;
+import com.back.global.rq.Rq;
 import com.back.global.rsData.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -26,6 +32,8 @@ public class FileController {
 
   private final S3Client s3Client;
   private final FileService fileService;
+  private final PresignedUploadService presignedUploadService;
+  private final Rq rq;
 
   @Operation(summary = "S3 버킷 목록 조회", description = "모든 버킷 목록을 조회")
   @GetMapping("/buckets")
@@ -58,6 +66,20 @@ public class FileController {
     );
   }
 
+  /**
+   * 이미지 직접 업로드용 presigned URL 발급 API
+   * 발급받은 uploadUrl 로 파일을 PUT 한 뒤, fileName 을 게시글 작성/수정 요청의 imageKeys 로 전달
+   * @param reqBody 업로드할 파일 이름, Content-Type, 크기
+   * @return 업로드 URL 및 S3 객체 키
+   */
+  @PostMapping("/presigned")
+  @Operation(summary = "presigned 업로드 URL 발급")
+  public RsData<PresignedUploadResponseDto> issuePresignedUpload(
+      @RequestBody @Valid PresignedUploadRequestDto reqBody
+  ) {
+    return RsData.successOf(presignedUploadService.issue(rq.getActor().getId(), reqBody));
+  }
+
   /**
    * 파일 삭제 API
    * @param fileName 삭제할 파일 이름
@@ -0,0 +1,9 @@
+package com.back.global.file.dto;
+
+public record ImageVariantsDto(
+    // 목록 카드용 (긴 변 320px)
+    String thumbnailUrl,
+    // 상세 화면용 (긴 변 1024px)
+    String mediumUrl
+) {
+}
@@ -0,0 +1,17 @@
+package com.back.global.file.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record PresignedUploadRequestDto(
+    @NotBlank(message = "파일 이름은 필수입니다.")
+    String fileName,
+    @NotBlank(message = "Content-Type 은 필수입니다.")
+    String contentType,
+    // 업로드할 파일 크기 (byte)
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    Long size
+) {
+}
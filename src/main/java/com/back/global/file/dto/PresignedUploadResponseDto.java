@@ -0,0 +1,15 @@
+package com.back.global.file.dto;
+
+import java.time.LocalDateTime;
+
+public record PresignedUploadResponseDto(
+    // 게시글 작성/수정 시 imageKeys 로 전달할 S3 객체 키
+    String fileName,
+    // 클라이언트가 파일을 직접 PUT 할 URL (Content-Type, Content-Length 헤더를 발급 값 그대로 보내야 함)
+    String uploadUrl,
+    // 업로드 후 이미지에 접근할 URL
+    String url,
+    String contentType,
+    LocalDateTime expiresAt
+) {
+}
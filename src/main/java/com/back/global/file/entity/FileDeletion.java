@@ -0,0 +1,60 @@
+package com.back.global.file.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * S3 객체 삭제 대기열 (outbox)
+ * 이미지를 빼는 트랜잭션과 함께 커밋되고, 백그라운드 작업이 다중 삭제 배치로 비움
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_deletion_outbox",
+    indexes = @Index(name = "idx_file_deletion_next_attempt_at", columnList = "next_attempt_at"))
+public class FileDeletion {
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 삭제할 S3 객체 키
+  @Column(name = "file_name", nullable = false)
+  private String fileName;
+
+  // 실패한 시도 횟수
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  // 이 시각 이후에 (재)시도
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  // 마지막 실패 사유
+  @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+  private String lastError;
+
+  public FileDeletion(String fileName, LocalDateTime nextAttemptAt) {
+    this.fileName = fileName;
+    this.nextAttemptAt = nextAttemptAt;
+  }
+
+  public void retryAt(LocalDateTime nextAttemptAt, String error) {
+    this.attempts++;
+    this.nextAttemptAt = nextAttemptAt;
+    this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+        ? error.substring(0, MAX_ERROR_LENGTH)
+        : error;
+  }
+}
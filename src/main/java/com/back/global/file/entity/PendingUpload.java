@@ -0,0 +1,56 @@
+package com.back.global.file.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * presigned URL 로 발급했지만 아직 게시글에 첨부(커밋)되지 않은 업로드
+ * 커밋되면 행이 삭제되고, 끝내 커밋되지 않은 업로드는 스위퍼가 S3 객체와 함께 정리
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_pending_upload_expires_at", columnList = "expires_at"))
+public class PendingUpload {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // S3 객체 키
+  @Column(name = "file_name", nullable = false, unique = true)
+  private String fileName;
+
+  // URL 을 발급받은 사용자
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  // 발급 시 서명에 포함한 Content-Type
+  @Column(name = "content_type", nullable = false)
+  private String contentType;
+
+  // 발급 시 신고한 파일 크기 (byte)
+  @Column(name = "size", nullable = false)
+  private Long size;
+
+  // presigned URL 만료 시각
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  public PendingUpload(String fileName, Long userId, String contentType, Long size, LocalDateTime expiresAt) {
+    this.fileName = fileName;
+    this.userId = userId;
+    this.contentType = contentType;
+    this.size = size;
+    this.expiresAt = expiresAt;
+  }
+}
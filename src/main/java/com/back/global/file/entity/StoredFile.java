@@ -0,0 +1,64 @@
+package com.back.global.file.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용(SHA-256) 기준으로 저장된 S3 객체와 참조 수
+ * 같은 바이트는 한 번만 저장하고, 게시글 이미지(PostImage)가 붙고 빠질 때마다 참조 수를 원자적으로 증감
+ * 정리 중인 객체는 deletingAt 이 채워진 행(묘비)으로 남아 있다가 S3 삭제가 끝나면 제거
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_file",
+    indexes = @Index(name = "idx_stored_file_ref_count_updated_at", columnList = "ref_count, updated_at"))
+public class StoredFile {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // S3 객체 키 (content/{sha256})
+  @Column(name = "file_name", nullable = false, unique = true)
+  private String fileName;
+
+  @Column(name = "url", nullable = false)
+  private String url;
+
+  @Column(name = "content_type")
+  private String contentType;
+
+  @Column(name = "size", nullable = false)
+  private Long size;
+
+  // 이 객체를 가리키는 PostImage 수
+  @Column(name = "ref_count", nullable = false)
+  private int refCount;
+
+  // 참조 수가 마지막으로 바뀐 시각 (참조가 0 이 된 뒤 유예 기간 계산용)
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  // 참조가 없어 삭제 대기열에 등록된 시각 (null 이면 사용 중)
+  // 행은 S3 삭제가 확인된 뒤에 지우고, 그 전에 같은 내용이 다시 올라오면 업로드가 행을 되살리고 다시 PUT
+  @Column(name = "deleting_at")
+  private LocalDateTime deletingAt;
+
+  public StoredFile(String fileName, String url, String contentType, Long size) {
+    this.fileName = fileName;
+    this.url = url;
+    this.contentType = contentType;
+    this.size = size;
+    this.updatedAt = LocalDateTime.now();
+  }
+}
@@ -0,0 +1,23 @@
+package com.back.global.file.repository;
+
+import com.back.global.file.entity.FileDeletion;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, Long> {
+
+  // 재시도 시각이 된 삭제 작업 (오래된 순)
+  List<FileDeletion> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM FileDeletion d WHERE d.id IN :ids")
+  int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,25 @@
+package com.back.global.file.repository;
+
+import com.back.global.file.entity.PendingUpload;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface PendingUploadRepository extends JpaRepository<PendingUpload, Long> {
+
+  List<PendingUpload> findByFileNameIn(Collection<String> fileNames);
+
+  // 만료 후 커밋되지 않은 업로드 (스위퍼가 배치 단위로 정리)
+  List<PendingUpload> findTop100ByExpiresAtBeforeOrderByIdAsc(LocalDateTime before);
+
+  // 커밋과 스위퍼가 같은 행을 두고 경합할 때 삭제에 성공한 쪽만 진행하도록 삭제 건수를 반환
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM PendingUpload p WHERE p.fileName IN :fileNames")
+  int deleteByFileNameIn(@Param("fileNames") Collection<String> fileNames);
+}
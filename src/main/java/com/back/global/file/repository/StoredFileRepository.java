@@ -0,0 +1,58 @@
+package com.back.global.file.repository;
+
+import com.back.global.file.entity.StoredFile;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+  Optional<StoredFile> findByFileName(String fileName);
+
+  @Query("SELECT s.fileName FROM StoredFile s WHERE s.fileName IN :fileNames")
+  List<String> findFileNamesIn(@Param("fileNames") Collection<String> fileNames);
+
+  // 행이 없거나 정리 중이면 (이미 삭제 대기열에 등록된 객체) 0 을 반환
+  @Transactional
+  @Modifying
+  @Query("UPDATE StoredFile s SET s.refCount = s.refCount + :delta, s.updatedAt = :now "
+      + "WHERE s.fileName = :fileName AND s.deletingAt IS NULL")
+  int addRefCount(@Param("fileName") String fileName, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+  // 유예 기간 동안 참조가 없던 객체
+  @Query("SELECT s FROM StoredFile s WHERE s.refCount <= 0 AND s.updatedAt < :before AND s.deletingAt IS NULL ORDER BY s.id")
+  List<StoredFile> findUnreferenced(@Param("before") LocalDateTime before, Pageable pageable);
+
+  // 정리 중으로 표시 (그 사이 다시 참조되었으면 0 을 반환해 표시하지 않음)
+  @Transactional
+  @Modifying
+  @Query("UPDATE StoredFile s SET s.deletingAt = :now "
+      + "WHERE s.id = :id AND s.refCount <= 0 AND s.deletingAt IS NULL")
+  int markDeletingIfUnreferenced(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  // 정리 중인 행을 다시 사용 중으로 되돌림 (삭제 작업이 행을 잠그고 있으면 끝날 때까지 대기, 이미 지워졌으면 0)
+  @Transactional
+  @Modifying
+  @Query("UPDATE StoredFile s SET s.deletingAt = NULL, s.updatedAt = :now "
+      + "WHERE s.fileName = :fileName AND s.deletingAt IS NOT NULL")
+  int revive(@Param("fileName") String fileName, @Param("now") LocalDateTime now);
+
+  // 삭제 작업이 S3 삭제를 마칠 때까지 행을 잠가, 그 사이 업로드가 행을 되살리지 못하게 함
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM StoredFile s WHERE s.fileName IN :fileNames")
+  List<StoredFile> findAllWithLockByFileNameIn(@Param("fileNames") Collection<String> fileNames);
+
+  // S3 삭제가 끝난 정리 중 행 제거
+  @Modifying
+  @Query("DELETE FROM StoredFile s WHERE s.fileName IN :fileNames AND s.deletingAt IS NOT NULL")
+  int deleteDeletingIn(@Param("fileNames") Collection<String> fileNames);
+}
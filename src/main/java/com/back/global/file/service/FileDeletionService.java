@@ -0,0 +1,169 @@
+package com.back.global.file.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.back.global.file.entity.FileDeletion;
+import com.back.global.file.entity.StoredFile;
+import com.back.global.file.repository.FileDeletionRepository;
+import com.back.global.file.repository.StoredFileRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * S3 삭제를 요청 스레드에서 떼어내 outbox 테이블로 처리
+ * 삭제 요청은 호출한 트랜잭션과 함께 커밋되고, 백그라운드 작업이 다중 삭제 API 로 배치 처리하며
+ * 실패한 키는 지수 백오프로 재시도
+ * 내용 주소 객체는 stored_file 행이 정리 중(deletingAt)일 때만 지우고, 행은 S3 삭제가 끝난 뒤에 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDeletionService {
+
+  // S3 다중 삭제 한 번에 보낼 수 있는 최대 키 수
+  private static final int BATCH_SIZE = 1000;
+  private static final int MAX_ATTEMPTS = 12;
+  private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+  private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+  @Value("${spring.cloud.aws.s3.bucket}")
+  private String bucket;
+
+  private final AmazonS3 amazonS3;
+  private final FileDeletionRepository fileDeletionRepository;
+  private final StoredFileRepository storedFileRepository;
+  private final FileService fileService;
+  private final TransactionTemplate transactionTemplate;
+
+  // 진행 중인 트랜잭션이 있으면 함께 커밋되므로, 롤백된 변경의 파일은 지워지지 않음
+  @Transactional
+  public void enqueue(Collection<String> fileNames) {
+    if (fileNames.isEmpty()) return;
+
+    LocalDateTime now = LocalDateTime.now();
+    fileDeletionRepository.saveAll(fileNames.stream()
+        .distinct()
+        .map(fileName -> new FileDeletion(fileName, now))
+        .toList());
+  }
+
+  @Scheduled(fixedDelay = 5_000)
+  public void drain() {
+    while (drainBatch() == BATCH_SIZE) {
+      // 가득 찬 배치였다면 남은 작업이 더 있을 수 있으므로 계속 처리
+    }
+  }
+
+  // 재시도 시각이 된 작업을 한 배치 처리하고, 가져온 작업 수를 반환
+  int drainBatch() {
+    LocalDateTime now = LocalDateTime.now();
+    List<FileDeletion> batch = fileDeletionRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+        now, PageRequest.of(0, BATCH_SIZE));
+    if (batch.isEmpty()) return 0;
+
+    // 내용 주소 객체의 행을 잠근 채로 S3 삭제부터 행 제거까지 한 트랜잭션에서 처리
+    // (그 사이 같은 내용을 다시 올리는 업로드는 행을 되살리려다 대기하고, 끝난 뒤에는 행이 없으므로 새로 PUT)
+    transactionTemplate.executeWithoutResult(status -> deleteBatch(batch, now));
+    return batch.size();
+  }
+
+  private void deleteBatch(List<FileDeletion> batch, LocalDateTime now) {
+    // 되살아난(정리 중이 아닌) 내용 주소 객체와 그 파생본은 지우지 않고 대기열에서만 제거
+    Map<String, StoredFile> contentRows = lockContentRows(batch);
+    List<String> keys = batch.stream()
+        .map(FileDeletion::getFileName)
+        .filter(fileName -> isDeletable(contentRows.get(fileService.originalFileName(fileName))))
+        .distinct()
+        .toList();
+    if (keys.isEmpty()) {
+      fileDeletionRepository.deleteByIdIn(batch.stream().map(FileDeletion::getId).toList());
+      return;
+    }
+
+    Set<String> failedKeys;
+    String error = null;
+    try {
+      amazonS3.deleteObjects(new DeleteObjectsRequest(bucket)
+          .withKeys(keys.toArray(String[]::new))
+          .withQuiet(true));
+      failedKeys = Set.of();
+    } catch (MultiObjectDeleteException e) {
+      // 일부 키만 실패
+      failedKeys = e.getErrors().stream()
+          .map(MultiObjectDeleteException.DeleteError::getKey)
+          .collect(Collectors.toSet());
+      error = e.getMessage();
+    } catch (RuntimeException e) {
+      failedKeys = Set.copyOf(keys);
+      error = e.getMessage();
+    }
+
+    List<Long> done = new ArrayList<>();
+    List<FileDeletion> retries = new ArrayList<>();
+    Set<String> finished = new HashSet<>();
+    for (FileDeletion deletion : batch) {
+      if (!failedKeys.contains(deletion.getFileName())) {
+        done.add(deletion.getId());
+        finished.add(deletion.getFileName());
+      } else if (deletion.getAttempts() + 1 >= MAX_ATTEMPTS) {
+        // 포기한 키는 행도 지워 고아 스위퍼가 다시 찾아 등록하게 함
+        log.error("S3 파일 삭제 재시도 한도 초과: {} ({})", deletion.getFileName(), error);
+        done.add(deletion.getId());
+        finished.add(deletion.getFileName());
+      } else {
+        deletion.retryAt(now.plus(backoff(deletion.getAttempts() + 1)), error);
+        retries.add(deletion);
+      }
+    }
+
+    if (!done.isEmpty()) fileDeletionRepository.deleteByIdIn(done);
+    if (!retries.isEmpty()) {
+      fileDeletionRepository.saveAll(retries);
+      log.warn("S3 파일 삭제 {}건 실패, 재시도 예약: {}", retries.size(), error);
+    }
+
+    // 원본 삭제가 끝난 정리 중 행 제거 (재시도로 남은 원본의 행은 정리 중 상태로 유지)
+    List<String> deletedOriginals = contentRows.keySet().stream().filter(finished::contains).toList();
+    if (!deletedOriginals.isEmpty()) storedFileRepository.deleteDeletingIn(deletedOriginals);
+  }
+
+  // 행이 없거나 (이전 방식 키 / 이미 정리된 객체) 정리 중인 행만 삭제 대상
+  private boolean isDeletable(StoredFile row) {
+    return row == null || row.getDeletingAt() != null;
+  }
+
+  // 배치에 포함된 내용 주소 원본 키의 행을 잠가서 조회 (원본 키 -> 행)
+  private Map<String, StoredFile> lockContentRows(List<FileDeletion> batch) {
+    List<String> originals = batch.stream()
+        .map(deletion -> fileService.originalFileName(deletion.getFileName()))
+        .filter(fileService::isContentAddressed)
+        .distinct()
+        .toList();
+    if (originals.isEmpty()) return Map.of();
+
+    return storedFileRepository.findAllWithLockByFileNameIn(originals).stream()
+        .collect(Collectors.toMap(StoredFile::getFileName, Function.identity()));
+  }
+
+  private Duration backoff(int attempts) {
+    Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+  }
+}
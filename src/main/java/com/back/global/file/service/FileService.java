@@ -2,15 +2,55 @@ package com.back.global.file.service;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.back.global.file.dto.ImageVariantsDto;
 import com.back.global.file.dto.UploadedFileDto;
+import com.back.global.file.entity.StoredFile;
+import com.back.global.file.repository.StoredFileRepository;
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -18,51 +58,107 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class FileService {
 
+  // 서버 전체에서 동시에 진행되는 S3 업로드 수 상한 (커넥션 풀/대역폭 보호)
+  private static final int MAX_CONCURRENT_UPLOADS = 16;
+
+  // 내용 주소 키 접두사: content/{sha256}
+  private static final String CONTENT_PREFIX = "content/";
+  // 개별 파일 업로드(/file/upload) 키 접두사: 게시글 이미지가 아니므로 참조 수/고아 정리 대상에서 제외
+  private static final String UPLOAD_PREFIX = "uploads/";
+  // 이전 방식(및 presigned 업로드)의 게시글 이미지 키: 버킷 최상위의 {UUID}_{원본 파일명}
+  private static final Pattern LEGACY_KEY_PATTERN =
+      Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}_[^/]+");
+
+  // 파생본 규격 (긴 변 기준 px) 과 JPEG 품질
+  private static final int THUMBNAIL_SIZE = 320;
+  private static final int MEDIUM_SIZE = 1024;
+  private static final float VARIANT_QUALITY = 0.8f;
+  private static final String THUMBNAIL_PREFIX = "thumbnail/";
+  private static final String MEDIUM_PREFIX = "medium/";
+  private static final String VARIANT_SUFFIX = ".jpg";
+  // 디코딩 시 메모리 폭주를 막기 위한 원본 픽셀 수 상한 (약 160MB ARGB)
+  private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
   @Value("${spring.cloud.aws.s3.bucket}")
   private String bucket;
 
   private final AmazonS3 amazonS3;
+  private final StoredFileRepository storedFileRepository;
 
+  // 업로드는 네트워크 대기가 대부분이라 가상 스레드로 처리하고, 동시 실행 수는 세마포어로 제한
+  private final ExecutorService uploadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Semaphore uploadPermits = new Semaphore(MAX_CONCURRENT_UPLOADS);
+
+  // 여러 파일을 병렬로 업로드하고 입력 순서대로 결과 반환
+  // 하나라도 실패하면 예외를 던짐 (이미 올라간 객체는 다른 게시글과 공유될 수 있어 바로 지우지 않고,
+  // 참조가 생기지 않으면 StoredFileService 가 정리)
   public List<UploadedFileDto> uploadFiles(List<MultipartFile> files) {
-    if (files == null) return List.of();
+    if (files == null || files.isEmpty()) return List.of();
 
-    List<UploadedFileDto> results = new ArrayList<>();
-    for (MultipartFile file : files) {
-      // 난수를 이용한 고유한 파일 이름 생성
-      String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
+    List<Future<UploadedFileDto>> futures = files.stream()
+        .map(file -> uploadExecutor.submit(() -> uploadWithPermit(file)))
+        .toList();
 
+    List<UploadedFileDto> results = new ArrayList<>();
+    RuntimeException failure = null;
+    for (Future<UploadedFileDto> future : futures) {
       try {
-        // 메타데이터 설정
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentType(file.getContentType());
-        metadata.setContentLength(file.getSize());
-
-        // S3에 파일 업로드 요청 생성 및 업로드
-        amazonS3.putObject(new PutObjectRequest(
-            bucket,
-            fileName,
-            file.getInputStream(),
-            metadata
-            )
-            // 업로드하는 파일의 접근 권한(ACL, Access Control List) 을 미리 정의된(Canned) 설정으로 지정
-            // PublicRead : 누구나 읽기 가능(브라우저에서 URL만 알면 열람 가능)
-            // .withCannedAcl(CannedAccessControlList.PublicRead)
-        );
-        // S3에 업로드된 파일에 접근 가능한 URL을 문자열로 반환
-        String url = amazonS3.getUrl(bucket, fileName).toString();
-
-        results.add(new UploadedFileDto(fileName, url));
-      } catch (IOException e) {
-        throw new RuntimeException("S3 업로드 실패", e);
+        results.add(future.get());
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof RuntimeException re
+              ? re
+              : new RuntimeException("S3 업로드 실패", e.getCause());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        if (failure == null) {
+          failure = new RuntimeException("S3 업로드 대기 중 인터럽트", e);
+        }
       }
     }
+
+    if (failure != null) {
+      throw failure;
+    }
     return results;
   }
 
   // 개별 파일 업로드 로직
+  // 게시글에 연결되지 않는 파일이라 내용 주소/참조 수를 쓰지 않고 uploads/ 아래에 그대로 보관
   public String uploadFile(MultipartFile file) {
     // 난수를 이용한 고유한 파일 이름 생성
-    String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
+    String fileName = UPLOAD_PREFIX + UUID.randomUUID() + "_" + file.getOriginalFilename();
+    try {
+      ObjectMetadata metadata = new ObjectMetadata();
+      metadata.setContentType(file.getContentType());
+      metadata.setContentLength(file.getSize());
+      amazonS3.putObject(new PutObjectRequest(bucket, fileName, file.getInputStream(), metadata));
+    } catch (IOException e) {
+      throw new RuntimeException("S3 파일 업로드 실패", e);
+    }
+    return amazonS3.getUrl(bucket, fileName).toString();
+  }
+
+  private UploadedFileDto uploadWithPermit(MultipartFile file) throws InterruptedException {
+    uploadPermits.acquire();
+    try {
+      return upload(file);
+    } finally {
+      uploadPermits.release();
+    }
+  }
+
+  private UploadedFileDto upload(MultipartFile file) {
+    // 내용의 SHA-256 으로 키를 정해, 같은 바이트가 이미 저장되어 있으면 PUT 을 생략
+    String fileName = CONTENT_PREFIX + sha256(file);
+    Optional<StoredFile> stored = storedFileRepository.findByFileName(fileName);
+    if (stored.isPresent() && stored.get().getDeletingAt() == null) {
+      return new UploadedFileDto(fileName, stored.get().getUrl());
+    }
+    // 정리 중인 객체: 행을 되살린 뒤 다시 PUT (삭제 작업이 이미 객체를 지웠을 수 있으므로)
+    // 삭제 작업이 먼저 끝나 행이 없어졌으면 처음 올리는 경우와 같음
+    boolean revived = stored.isPresent() && storedFileRepository.revive(fileName, LocalDateTime.now()) > 0;
 
     try {
       // 메타데이터 설정
@@ -86,6 +182,214 @@ public class FileService {
       throw new RuntimeException("S3 파일 업로드 실패", e);
     }
     // S3에 업로드된 파일에 접근 가능한 URL을 문자열로 반환
+    String url = amazonS3.getUrl(bucket, fileName).toString();
+    if (revived) {
+      return new UploadedFileDto(fileName, url);
+    }
+    try {
+      storedFileRepository.save(new StoredFile(fileName, url, file.getContentType(), file.getSize()));
+    } catch (DataIntegrityViolationException e) {
+      // 같은 내용이 동시에 올라온 경우: 키가 같으므로 먼저 등록된 행을 그대로 사용
+    }
+    return new UploadedFileDto(fileName, url);
+  }
+
+  // 업로드 파일을 한 번 읽으며 SHA-256 계산 (multipart 파일은 이미 서버에 버퍼링되어 있음)
+  private String sha256(MultipartFile file) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+        in.transferTo(OutputStream.nullOutputStream());
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    } catch (IOException e) {
+      throw new RuntimeException("업로드 파일 읽기 실패", e);
+    }
+  }
+
+  // 내용 주소로 저장된 (참조 수로 수명이 관리되는) 키인지
+  public boolean isContentAddressed(String fileName) {
+    return fileName != null && fileName.startsWith(CONTENT_PREFIX);
+  }
+
+  // 원본 이미지로 썸네일/중간 크기 JPEG 파생본을 만들어 업로드
+  // 디코딩/리사이즈는 CPU·메모리를 많이 쓰므로 호출 측에서 작업 큐로 동시 실행 수를 제한해야 함
+  // 이미지로 읽을 수 없거나 너무 큰 파일이면 null
+  public ImageVariantsDto createVariants(String fileName) {
+    BufferedImage source;
+    try (S3Object object = amazonS3.getObject(bucket, fileName);
+        ImageInputStream in = ImageIO.createImageInputStream(object.getObjectContent())) {
+      source = readBounded(in);
+    } catch (IOException e) {
+      throw new RuntimeException("S3 원본 이미지 읽기 실패", e);
+    }
+    if (source == null) return null;
+
+    List<String> variantNames = withVariantFileNames(fileName);
+    return new ImageVariantsDto(
+        uploadVariant(variantNames.get(1), resize(source, THUMBNAIL_SIZE)),
+        uploadVariant(variantNames.get(2), resize(source, MEDIUM_SIZE))
+    );
+  }
+
+  // 원본 키와 파생본 키 (thumbnail/{원본 키}.jpg, medium/{원본 키}.jpg)
+  public List<String> withVariantFileNames(String fileName) {
+    return List.of(
+        fileName,
+        THUMBNAIL_PREFIX + fileName + VARIANT_SUFFIX,
+        MEDIUM_PREFIX + fileName + VARIANT_SUFFIX
+    );
+  }
+
+  // 파생본 키면 원본 키로, 원본 키면 그대로 반환
+  public String originalFileName(String fileName) {
+    for (String prefix : List.of(THUMBNAIL_PREFIX, MEDIUM_PREFIX)) {
+      if (fileName.startsWith(prefix) && fileName.endsWith(VARIANT_SUFFIX)) {
+        return fileName.substring(prefix.length(), fileName.length() - VARIANT_SUFFIX.length());
+      }
+    }
+    return fileName;
+  }
+
+  public String getUrl(String fileName) {
+    return amazonS3.getUrl(bucket, fileName).toString();
+  }
+
+  // 게시글 이미지가 저장되는 키 (content/, thumbnail/, medium/ 과 최상위의 UUID 키) 만
+  // 페이지(최대 1000개) 단위로 훑으며 modifiedBefore 이전에 올라온 파일 키를 전달
+  // uploads/ 등 다른 용도의 객체는 나열하지 않음
+  public void forEachPostImagePage(Date modifiedBefore, Consumer<List<String>> pageHandler) {
+    for (String prefix : List.of(CONTENT_PREFIX, THUMBNAIL_PREFIX, MEDIUM_PREFIX)) {
+      forEachFilePage(new ListObjectsV2Request().withBucketName(bucket).withPrefix(prefix),
+          key -> true, modifiedBefore, pageHandler);
+    }
+    // 최상위 객체만 나열 (구분자 "/" 로 하위 경로는 제외)
+    forEachFilePage(new ListObjectsV2Request().withBucketName(bucket).withDelimiter("/"),
+        key -> LEGACY_KEY_PATTERN.matcher(key).matches(), modifiedBefore, pageHandler);
+  }
+
+  private void forEachFilePage(ListObjectsV2Request request, Predicate<String> keyFilter,
+      Date modifiedBefore, Consumer<List<String>> pageHandler) {
+    ListObjectsV2Result result;
+    do {
+      result = amazonS3.listObjectsV2(request);
+      List<String> fileNames = result.getObjectSummaries().stream()
+          .filter(summary -> summary.getLastModified().before(modifiedBefore))
+          .map(S3ObjectSummary::getKey)
+          .filter(keyFilter)
+          .toList();
+      if (!fileNames.isEmpty()) {
+        pageHandler.accept(fileNames);
+      }
+      request.setContinuationToken(result.getNextContinuationToken());
+    } while (result.isTruncated());
+  }
+
+  private BufferedImage readBounded(ImageInputStream in) throws IOException {
+    if (in == null) return null;
+    Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+    if (!readers.hasNext()) return null;
+
+    ImageReader reader = readers.next();
+    try {
+      reader.setInput(in, true, true);
+      // 헤더의 크기만 먼저 확인하고 상한을 넘으면 디코딩하지 않음
+      if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) return null;
+      return reader.read(0);
+    } finally {
+      reader.dispose();
+    }
+  }
+
+  // 긴 변을 maxSize 이하로 축소 (확대는 하지 않음), 투명 영역은 흰 배경으로 채움
+  // bilinear 한 번으로 크게 줄이면 원본 픽셀 대부분을 건너뛰어 계단/물결 무늬가 생기므로,
+  // 목표의 2배 미만이 될 때까지 2×2 평균으로 절반씩 줄인 뒤 마지막에 bilinear 로 맞춤
+  private BufferedImage resize(BufferedImage source, int maxSize) {
+    double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+    int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+    int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+    BufferedImage current = source;
+    while (current.getWidth() >= width * 2 && current.getHeight() >= height * 2) {
+      current = halve(current);
+    }
+
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = target.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, width, height);
+      g.drawImage(current, 0, 0, width, height, null);
+    } finally {
+      g.dispose();
+    }
+    return target;
+  }
+
+  // 가로/세로를 절반으로 (2×2 픽셀 평균, 홀수 크기의 끝 줄은 가장자리 픽셀을 한 번 더 사용)
+  // 투명 영역은 평균 전에 흰 배경으로 합성
+  private static BufferedImage halve(BufferedImage source) {
+    int sourceWidth = source.getWidth();
+    int sourceHeight = source.getHeight();
+    int width = Math.max(1, sourceWidth / 2);
+    int height = Math.max(1, sourceHeight / 2);
+
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    int[] top = new int[sourceWidth];
+    int[] bottom = new int[sourceWidth];
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      source.getRGB(0, 2 * y, sourceWidth, 1, top, 0, sourceWidth);
+      source.getRGB(0, Math.min(2 * y + 1, sourceHeight - 1), sourceWidth, 1, bottom, 0, sourceWidth);
+      for (int x = 0; x < width; x++) {
+        int right = Math.min(2 * x + 1, sourceWidth - 1);
+        row[x] = average(top[2 * x], top[right], bottom[2 * x], bottom[right]);
+      }
+      target.setRGB(0, y, width, 1, row, 0, width);
+    }
+    return target;
+  }
+
+  private static int average(int p0, int p1, int p2, int p3) {
+    int rgb = 0;
+    for (int shift = 16; shift >= 0; shift -= 8) {
+      int sum = onWhite(p0, shift) + onWhite(p1, shift) + onWhite(p2, shift) + onWhite(p3, shift);
+      rgb |= ((sum + 2) / 4) << shift;
+    }
+    return rgb;
+  }
+
+  // ARGB 픽셀의 한 채널을 흰 배경 위에 알파 합성한 값
+  private static int onWhite(int argb, int shift) {
+    int alpha = argb >>> 24;
+    int channel = (argb >> shift) & 0xff;
+    return (channel * alpha + 255 * (255 - alpha) + 127) / 255;
+  }
+
+  private String uploadVariant(String fileName, BufferedImage image) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(VARIANT_QUALITY);
+      writer.setOutput(ios);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } catch (IOException e) {
+      throw new RuntimeException("파생 이미지 인코딩 실패", e);
+    } finally {
+      writer.dispose();
+    }
+
+    byte[] bytes = out.toByteArray();
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentType("image/jpeg");
+    metadata.setContentLength(bytes.length);
+    amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(bytes), metadata));
     return amazonS3.getUrl(bucket, fileName).toString();
   }
 
@@ -93,4 +397,9 @@ public class FileService {
   public void deleteFile(String fileName){
     amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
   }
+
+  @PreDestroy
+  void shutdown() {
+    uploadExecutor.close();
+  }
 }
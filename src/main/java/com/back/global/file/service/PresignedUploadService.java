@@ -0,0 +1,170 @@
+package com.back.global.file.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.back.global.exception.ServiceException;
+import com.back.global.file.dto.PresignedUploadRequestDto;
+import com.back.global.file.dto.PresignedUploadResponseDto;
+import com.back.global.file.dto.UploadedFileDto;
+import com.back.global.file.entity.PendingUpload;
+import com.back.global.file.repository.PendingUploadRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이미지 바이트가 앱 서버를 거치지 않도록 클라이언트가 S3 에 직접 올리는 흐름
+ * 1) issue: presigned PUT URL 발급 + 대기 행 저장
+ * 2) verify / markCommitted: 게시글 저장 시 업로드 여부와 제한을 확인하고 대기 행 삭제
+ * 3) sweepAbandoned: 끝내 커밋되지 않은 업로드를 S3 객체와 함께 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresignedUploadService {
+
+  private static final Set<String> ALLOWED_CONTENT_TYPES =
+      Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+  private static final long MAX_SIZE = 10L * 1024 * 1024;
+  private static final Duration URL_TTL = Duration.ofMinutes(10);
+  // URL 만료 후에도 글 작성 중일 수 있으므로 여유를 두고 정리
+  private static final Duration SWEEP_AFTER = Duration.ofHours(6);
+  // 키에 넣을 파일 이름은 이 문자들만 남기고 길이도 제한 (경로 구분자/제어 문자로 키 접두사를 고를 수 없도록)
+  private static final Pattern UNSAFE_NAME_CHARS = Pattern.compile("[^A-Za-z0-9._-]");
+  private static final int MAX_NAME_LENGTH = 100;
+  private static final int MAX_EXTENSION_LENGTH = 10;
+
+  @Value("${spring.cloud.aws.s3.bucket}")
+  private String bucket;
+
+  private final AmazonS3 amazonS3;
+  private final PendingUploadRepository pendingUploadRepository;
+  private final FileDeletionService fileDeletionService;
+
+  public PresignedUploadResponseDto issue(Long userId, PresignedUploadRequestDto reqBody) {
+    if (!ALLOWED_CONTENT_TYPES.contains(reqBody.contentType())) {
+      throw new ServiceException(400, "업로드할 수 없는 파일 형식입니다: " + reqBody.contentType());
+    }
+    if (reqBody.size() > MAX_SIZE) {
+      throw new ServiceException(400, "파일 크기는 " + MAX_SIZE / 1024 / 1024 + "MB 를 넘을 수 없습니다.");
+    }
+
+    // 난수를 이용한 고유한 파일 이름 생성 (multipart 업로드와 같은 규칙, 클라이언트 파일 이름은 안전한 문자만)
+    String fileName = UUID.randomUUID() + "_" + safeFileName(reqBody.fileName());
+    LocalDateTime expiresAt = LocalDateTime.now().plus(URL_TTL);
+
+    // Content-Type, Content-Length 를 서명에 포함해 발급 값과 다른 업로드는 S3 가 거부
+    GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, fileName, HttpMethod.PUT)
+        .withExpiration(Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant()))
+        .withContentType(reqBody.contentType());
+    request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(reqBody.size()));
+
+    pendingUploadRepository.save(
+        new PendingUpload(fileName, userId, reqBody.contentType(), reqBody.size(), expiresAt));
+
+    return new PresignedUploadResponseDto(
+        fileName,
+        amazonS3.generatePresignedUrl(request).toString(),
+        amazonS3.getUrl(bucket, fileName).toString(),
+        reqBody.contentType(),
+        expiresAt
+    );
+  }
+
+  // 허용 문자 밖은 '_' 로 바꾸고, 너무 길면 확장자는 남긴 채 앞부분만 사용
+  private String safeFileName(String fileName) {
+    String safe = UNSAFE_NAME_CHARS.matcher(fileName).replaceAll("_");
+    if (safe.length() <= MAX_NAME_LENGTH) return safe;
+
+    int dot = safe.lastIndexOf('.');
+    String extension = dot >= 0 && safe.length() - dot <= MAX_EXTENSION_LENGTH ? safe.substring(dot) : "";
+    return safe.substring(0, MAX_NAME_LENGTH - extension.length()) + extension;
+  }
+
+  // 본인이 발급받은 키인지, 실제로 올라왔는지, 제한을 지켰는지 확인 (S3 조회가 있어 트랜잭션 밖에서 호출)
+  public List<UploadedFileDto> verify(Long userId, List<String> fileNames) {
+    if (fileNames == null || fileNames.isEmpty()) return List.of();
+
+    List<String> distinct = fileNames.stream().distinct().toList();
+    Map<String, PendingUpload> pending = pendingUploadRepository.findByFileNameIn(distinct).stream()
+        .collect(Collectors.toMap(PendingUpload::getFileName, Function.identity()));
+
+    List<UploadedFileDto> results = new ArrayList<>();
+    for (String fileName : distinct) {
+      PendingUpload upload = pending.get(fileName);
+      if (upload == null || !upload.getUserId().equals(userId)) {
+        throw new ServiceException(400, "업로드 정보를 찾을 수 없습니다: " + fileName);
+      }
+
+      ObjectMetadata metadata;
+      try {
+        metadata = amazonS3.getObjectMetadata(bucket, fileName);
+      } catch (AmazonS3Exception e) {
+        if (e.getStatusCode() == 404) {
+          throw new ServiceException(400, "아직 업로드되지 않은 파일입니다: " + fileName);
+        }
+        throw e;
+      }
+      // 발급 때 신고한 크기/형식과 정확히 같은 객체만 허용
+      if (metadata.getContentLength() != upload.getSize()
+          || metadata.getContentLength() > MAX_SIZE
+          || !upload.getContentType().equals(metadata.getContentType())) {
+        throw new ServiceException(400, "업로드 제한을 벗어난 파일입니다: " + fileName);
+      }
+
+      results.add(new UploadedFileDto(fileName, amazonS3.getUrl(bucket, fileName).toString()));
+    }
+    return results;
+  }
+
+  // 게시글 저장 트랜잭션 안에서 호출: 대기 행을 지워 스위퍼 대상에서 제외
+  // 스위퍼가 먼저 정리한 키가 섞여 있으면 예외로 트랜잭션을 롤백
+  public void markCommitted(List<UploadedFileDto> files) {
+    if (files.isEmpty()) return;
+
+    List<String> fileNames = files.stream().map(UploadedFileDto::fileName).toList();
+    if (pendingUploadRepository.deleteByFileNameIn(fileNames) != fileNames.size()) {
+      throw new ServiceException(400, "만료되어 정리된 업로드가 포함되어 있습니다.");
+    }
+  }
+
+  @Scheduled(fixedDelay = 600_000)
+  public void sweepAbandoned() {
+    int swept = sweepExpiredBefore(LocalDateTime.now().minus(SWEEP_AFTER));
+    if (swept > 0) {
+      log.info("커밋되지 않은 presigned 업로드 {}건 정리", swept);
+    }
+  }
+
+  int sweepExpiredBefore(LocalDateTime cutoff) {
+    int swept = 0;
+    while (true) {
+      List<PendingUpload> batch = pendingUploadRepository.findTop100ByExpiresAtBeforeOrderByIdAsc(cutoff);
+      for (PendingUpload upload : batch) {
+        // 행을 먼저 지워 같은 키를 커밋 중인 요청과 경합하면 한쪽만 성공, S3 삭제는 삭제 대기열에서 처리
+        if (pendingUploadRepository.deleteByFileNameIn(List.of(upload.getFileName())) == 0) continue;
+        fileDeletionService.enqueue(List.of(upload.getFileName()));
+        swept++;
+      }
+      if (batch.size() < 100) return swept;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.back.global.file.service;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.file.entity.StoredFile;
+import com.back.global.file.repository.StoredFileRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 내용 주소로 저장된 파일의 참조 수 관리
+ * 같은 객체를 여러 게시글이 공유할 수 있으므로, 개별 게시글에서 빠질 때 바로 지우지 않고
+ * 참조 수가 0 인 채로 유예 기간이 지난 객체만 삭제 대기열에 등록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoredFileService {
+
+  // 업로드 직후 게시글 저장 전이거나, 수정 중 잠깐 빠졌다 다시 붙는 경우를 위한 유예 기간
+  private static final Duration GRACE_PERIOD = Duration.ofDays(1);
+  private static final int SWEEP_BATCH = 100;
+
+  private final StoredFileRepository storedFileRepository;
+  private final FileService fileService;
+  private final FileDeletionService fileDeletionService;
+
+  // 게시글 저장 트랜잭션 안에서 호출: 새로 붙는 이미지마다 참조 수 +1
+  public void acquire(Collection<String> fileNames) {
+    LocalDateTime now = LocalDateTime.now();
+    for (String fileName : fileNames) {
+      if (!fileService.isContentAddressed(fileName)) continue;
+      if (storedFileRepository.addRefCount(fileName, 1, now) == 0) {
+        // 참조 없이 유예 기간이 지나 방금 정리된 객체를 재사용하려던 경우
+        throw new ServiceException(409, "업로드한 이미지가 만료되었습니다. 다시 업로드해 주세요.");
+      }
+    }
+  }
+
+  // 게시글에서 빠지는 이미지마다 참조 수 -1
+  // 내용 주소가 아닌 키 (이전 방식의 UUID 키, presigned 업로드) 는 공유되지 않으므로 바로 삭제 대기열에 등록
+  public void release(Collection<String> fileNames) {
+    LocalDateTime now = LocalDateTime.now();
+    List<String> unshared = new ArrayList<>();
+    for (String fileName : fileNames) {
+      if (fileService.isContentAddressed(fileName)) {
+        storedFileRepository.addRefCount(fileName, -1, now);
+      } else {
+        unshared.addAll(fileService.withVariantFileNames(fileName));
+      }
+    }
+    fileDeletionService.enqueue(unshared);
+  }
+
+  @Scheduled(cron = "0 30 3 * * *")
+  public void sweepUnreferenced() {
+    int swept = sweepUnreferencedBefore(LocalDateTime.now().minus(GRACE_PERIOD));
+    if (swept > 0) {
+      log.info("참조가 없는 저장 파일 {}건 삭제 등록", swept);
+    }
+  }
+
+  int sweepUnreferencedBefore(LocalDateTime cutoff) {
+    int swept = 0;
+    while (true) {
+      List<StoredFile> batch = storedFileRepository.findUnreferenced(cutoff, PageRequest.of(0, SWEEP_BATCH));
+      LocalDateTime now = LocalDateTime.now();
+      for (StoredFile storedFile : batch) {
+        // 행을 먼저 정리 중으로 표시해, 그 사이 다시 참조한 게시글이 있으면 삭제하지 않음
+        // 행 자체는 삭제 작업(FileDeletionService)이 S3 삭제를 확인한 뒤 제거
+        if (storedFileRepository.markDeletingIfUnreferenced(storedFile.getId(), now) == 0) continue;
+        fileDeletionService.enqueue(fileService.withVariantFileNames(storedFile.getFileName()));
+        swept++;
+      }
+      if (batch.size() < SWEEP_BATCH) return swept;
+    }
+  }
+}
@@ -14,6 +14,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -118,4 +119,17 @@ public class Rq {
         if(actor == null) return null;
         return userService.findById(actor.getId());
     }
-}
\ No newline at end of file
+
+    // 순방문자 집계용 방문자 식별 키 (로그인 사용자는 id, 비로그인은 IP)
+    // 클라이언트가 임의로 바꿀 수 있는 X-Forwarded-For / User-Agent 는 쓰지 않음
+    // (프록시 뒤의 실제 IP 는 server.forward-headers-strategy=native 로 신뢰하는 프록시 헤더만 반영된 getRemoteAddr)
+    // 요청 스레드가 아니면 null
+    public String getVisitorKey() {
+        if (RequestContextHolder.getRequestAttributes() == null) return null;
+
+        User actor = getActor();
+        if (actor != null) return "u:" + actor.getId();
+
+        return "c:" + req.getRemoteAddr();
+    }
+}
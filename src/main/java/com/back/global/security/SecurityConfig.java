@@ -1,5 +1,6 @@
 package com.back.global.security;
 
+import com.back.global.standard.util.DecayingScoreBoard;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -71,14 +72,18 @@ public class SecurityConfig {
                                 .requestMatchers(GET, "/user/auth/me").permitAll()
                                 .requestMatchers(POST, "/user/auth/refresh").permitAll()
                                 .requestMatchers(POST, "/cocktails/search").permitAll()
+                                .requestMatchers(POST, "/cocktails/search/faceted").permitAll()
 
                                 // 권한 불필요 - 조회 API
                                 .requestMatchers(GET, "/").permitAll()
-                                .requestMatchers(GET, "/actuator/**").permitAll()
+                                .requestMatchers(GET, "/actuator/health/**", "/actuator/info").permitAll()
+                                // 지표에는 내부 운영 정보가 담겨 있어 관리자만 조회
+                                .requestMatchers(GET, "/actuator/metrics/**").hasRole("ADMIN")
 
                                 .requestMatchers(GET, "/cocktails/**").permitAll()
 
                                 .requestMatchers(GET, "/posts").permitAll()
+                                .requestMatchers(GET, "/posts/search").permitAll()
                                 .requestMatchers(GET, "/posts/{postId}").permitAll()
                                 .requestMatchers(GET, "/posts/{postId}/comments").permitAll()
                                 .requestMatchers(GET, "/posts/{postId}/comments/{commentId}").permitAll()
@@ -132,6 +137,8 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // 트렌딩 무한 스크롤의 랭킹 버전을 브라우저에서 읽을 수 있도록 노출
+        configuration.setExposedHeaders(Arrays.asList(DecayingScoreBoard.VERSION_HEADER));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,106 @@
+package com.back.global.standard.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지수 감쇠 점수판 (트렌딩 랭킹용)
+ * - score(t) = Σ weight × 2^(-(t - 발생 시각) / halfLife)
+ * - 점수는 decayTo()로 한꺼번에 현재 시각 기준으로 줄이고, 새 이벤트만 더한다 (증분 갱신)
+ * - publish()로 만든 랭킹 ID 배열은 교체 방식이라 조회는 락 없이 읽는다
+ * - 발행한 랭킹은 버전을 붙여 최근 몇 개를 보관하고, 다음 페이지는 첫 페이지와 같은 버전 안에서 이어서 읽는다
+ *   (재발행으로 순서가 바뀌어도 무한 스크롤에 중복/누락이 생기지 않음)
+ */
+public class DecayingScoreBoard {
+
+    private static final double MIN_SCORE = 0.01; // 이보다 작아진 항목은 정리
+    private static final int RETAINED_RANKINGS = 12; // 보관할 최근 랭킹 수 (5분 주기 발행이면 1시간)
+
+    // 응답/요청에서 랭킹 버전을 주고받는 헤더 이름
+    public static final String VERSION_HEADER = "X-Ranking-Version";
+
+    // 발행된 랭킹 (버전은 발행할 때마다 1씩 증가)
+    private record Ranking(long version, long[] ids) {
+    }
+
+    // 한 페이지의 ID와 그 페이지를 읽은 랭킹 버전
+    public record Page(long version, List<Long> ids) {
+    }
+
+    private final double halfLifeSeconds;
+    private final Map<Long, Double> scores = new HashMap<>();
+    private LocalDateTime decayedAt;
+    private volatile Ranking current = new Ranking(0, new long[0]);
+    private final Map<Long, Ranking> retained = new ConcurrentHashMap<>(); // 버전 → 랭킹
+
+    public DecayingScoreBoard(Duration halfLife, LocalDateTime now) {
+        this.halfLifeSeconds = halfLife.toSeconds();
+        this.decayedAt = now;
+    }
+
+    // 기존 점수를 now 기준으로 감쇠
+    public synchronized void decayTo(LocalDateTime now) {
+        double factor = decayFactor(decayedAt, now);
+        if (factor < 1.0) {
+            scores.replaceAll((id, score) -> score * factor);
+            scores.values().removeIf(score -> score < MIN_SCORE);
+        }
+        decayedAt = now;
+    }
+
+    // occurredAt에 발생한 이벤트를 현재 감쇠 기준 시각으로 환산해 더한다
+    public synchronized void add(long id, double weight, LocalDateTime occurredAt) {
+        double factor = occurredAt == null || occurredAt.isAfter(decayedAt) ? 1.0 : decayFactor(occurredAt, decayedAt);
+        scores.merge(id, weight * factor, Double::sum);
+    }
+
+    // 점수 내림차순 → ID 내림차순으로 상위 maxSize개 랭킹을 새 버전으로 발행
+    public synchronized void publish(int maxSize) {
+        long[] ids = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(maxSize)
+                .mapToLong(Map.Entry::getKey)
+                .toArray();
+
+        Ranking ranking = new Ranking(current.version() + 1, ids);
+        retained.put(ranking.version(), ranking);
+        retained.keySet().removeIf(version -> version <= ranking.version() - RETAINED_RANKINGS);
+        current = ranking;
+    }
+
+    /**
+     * version 랭킹에서 lastId 다음 순위부터 size개
+     * - version이 null이거나 이미 보관 기간이 지났으면 최신 랭킹 사용
+     * - lastId가 null이면 처음부터, 랭킹에 없으면 빈 페이지 (처음부터 다시 보여주지 않음)
+     */
+    public Page after(Long version, Long lastId, int size) {
+        Ranking ranking = version == null ? current : retained.getOrDefault(version, current);
+        long[] ids = ranking.ids();
+
+        int from = 0;
+        if (lastId != null) {
+            from = -1;
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == lastId) {
+                    from = i + 1;
+                    break;
+                }
+            }
+            if (from < 0) return new Page(ranking.version(), List.of());
+        }
+
+        List<Long> result = new ArrayList<>(Math.min(size, ids.length - from));
+        for (int i = from; i < ids.length && result.size() < size; i++) {
+            result.add(ids[i]);
+        }
+        return new Page(ranking.version(), result);
+    }
+
+    private double decayFactor(LocalDateTime from, LocalDateTime to) {
+        double elapsed = Duration.between(from, to).toSeconds();
+        return elapsed <= 0 ? 1.0 : Math.pow(0.5, elapsed / halfLifeSeconds);
+    }
+}
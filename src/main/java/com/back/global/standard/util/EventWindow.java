@@ -0,0 +1,41 @@
+package com.back.global.standard.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 시각 기준 증분 조회용 워터마크 (트렌딩 집계용)
+ * - 이벤트 시각은 커밋보다 앞서 찍히므로, 늦게 커밋된 행을 놓치지 않도록 지난 워터마크보다 overlap 만큼 앞에서 다시 읽는다
+ * - 겹쳐 읽힌 이벤트는 (이벤트 ID, 발생 시각) 으로 걸러 한 번만 반영한다
+ */
+public class EventWindow {
+
+    private final Duration overlap;
+    private final Map<Long, LocalDateTime> seen = new HashMap<>();
+    private LocalDateTime watermark;
+
+    public EventWindow(Duration overlap, LocalDateTime start) {
+        this.overlap = overlap;
+        this.watermark = start;
+    }
+
+    // 이번 조회의 시작 시각
+    public synchronized LocalDateTime since() {
+        return watermark.minus(overlap);
+    }
+
+    // 처음 보는 이벤트면 true (같은 행이 다른 시각으로 다시 발생한 경우도 새 이벤트)
+    public synchronized boolean firstSeen(long eventId, LocalDateTime occurredAt) {
+        return !Objects.equals(seen.put(eventId, occurredAt), occurredAt);
+    }
+
+    // 조회를 마치고 워터마크를 now 로 옮김, 다음 조회 범위보다 오래된 이벤트는 잊는다
+    public synchronized void advanceTo(LocalDateTime now) {
+        watermark = now;
+        LocalDateTime from = since();
+        seen.values().removeIf(occurredAt -> occurredAt == null || !occurredAt.isAfter(from));
+    }
+}
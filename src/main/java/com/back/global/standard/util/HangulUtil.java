@@ -0,0 +1,76 @@
+package com.back.global.standard.util;
+
+// 한글 음절 분해 유틸 (초성 추출, 자모 분해)
+public class HangulUtil {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00; // '가'
+    private static final char SYLLABLE_END = 0xD7A3;   // '힣'
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNGSEONG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ',
+            'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    // 0번은 받침 없음
+    private static final char[] JONGSEONG = {
+            0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+            'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    public static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BEGIN && ch <= SYLLABLE_END;
+    }
+
+    // 호환용 자음 자모(ㄱ~ㅎ)인지
+    public static boolean isConsonantJamo(char ch) {
+        return ch >= 'ㄱ' && ch <= 'ㅎ';
+    }
+
+    // 초성만으로 이루어진 문자열인지 (공백 제외, 예: "ㅁㅎㄸ")
+    public static boolean isChoseongOnly(String text) {
+        if (text == null || text.isBlank()) return false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (!Character.isWhitespace(ch) && !isConsonantJamo(ch)) return false;
+        }
+        return true;
+    }
+
+    // "모히또" -> "ㅁㅎㄸ" (한글 음절이 아닌 문자는 그대로, 공백은 제거)
+    public static String toChoseong(String text) {
+        if (text == null) return "";
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) continue;
+            sb.append(isSyllable(ch) ? CHOSEONG[(ch - SYLLABLE_BEGIN) / 588] : ch);
+        }
+        return sb.toString();
+    }
+
+    // "모히또" -> "ㅁㅗㅎㅣㄸㅗ" (오타 허용 비교용, 한글 음절이 아닌 문자는 그대로)
+    public static String toJamo(String text) {
+        if (text == null) return "";
+
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (!isSyllable(ch)) {
+                sb.append(ch);
+                continue;
+            }
+            int offset = ch - SYLLABLE_BEGIN;
+            sb.append(CHOSEONG[offset / 588]);
+            sb.append(JUNGSEONG[(offset % 588) / 28]);
+            if (offset % 28 != 0) {
+                sb.append(JONGSEONG[offset % 28]);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.back.global.standard.util;
+
+/**
+ * long → int 오픈 어드레싱 해시맵 (선형 탐사, 박싱 없음)
+ * - 키 0은 빈 칸 표시로 사용하므로 저장할 수 없다 (칵테일 ID는 1부터 시작)
+ * - 값이 0이 되면 항목을 지우고 뒤쪽 항목을 당겨 채운다 (희소 행렬용)
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 락으로 보호해야 한다.
+ */
+public final class LongIntHashMap {
+
+    @FunctionalInterface
+    public interface Visitor {
+        void visit(long key, int value);
+    }
+
+    private static final int MIN_CAPACITY = 4;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    public LongIntHashMap() {
+        this.keys = new long[MIN_CAPACITY];
+        this.values = new int[MIN_CAPACITY];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int get(long key) {
+        int slot = find(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    // key의 값에 delta를 더하고 결과를 반환 (결과가 0 이하이면 항목 삭제)
+    public int addTo(long key, int delta) {
+        if (key == 0) throw new IllegalArgumentException("0은 키로 사용할 수 없습니다.");
+
+        int slot = find(key);
+        if (slot >= 0) {
+            int value = values[slot] + delta;
+            if (value <= 0) {
+                removeAt(slot);
+                return 0;
+            }
+            values[slot] = value;
+            return value;
+        }
+        if (delta <= 0) return 0;
+
+        if ((size + 1) * 4 > keys.length * 3) resize(keys.length * 2);
+        int i = indexOf(key, keys.length);
+        while (keys[i] != 0) i = (i + 1) & (keys.length - 1);
+        keys[i] = key;
+        values[i] = delta;
+        size++;
+        return delta;
+    }
+
+    public void forEach(Visitor visitor) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) visitor.visit(keys[i], values[i]);
+        }
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, keys.length); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) return i;
+        }
+        return -1;
+    }
+
+    // 선형 탐사 삭제: 빈 칸을 만들고 같은 클러스터의 뒤 항목들을 제자리로 당긴다
+    private void removeAt(int slot) {
+        int mask = keys.length - 1;
+        int gap = slot;
+        int i = (slot + 1) & mask;
+        while (keys[i] != 0) {
+            int home = indexOf(keys[i], keys.length);
+            // home이 (gap, i] 구간 밖이면 gap으로 옮겨도 탐색 경로가 유지된다
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int j = indexOf(oldKeys[i], capacity);
+            while (keys[j] != 0) j = (j + 1) & (capacity - 1);
+            keys[j] = oldKeys[i];
+            values[j] = oldValues[i];
+        }
+    }
+
+    private static int indexOf(long key, int capacity) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & (capacity - 1);
+    }
+}
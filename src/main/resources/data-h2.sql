@@ -9,7 +9,9 @@ CREATE TABLE IF NOT EXISTS cocktail (
     alcohol_base_type VARCHAR(50),
     ingredient CLOB,
     recipe CLOB,
-    cocktail_img_url VARCHAR(500)
+    cocktail_img_url VARCHAR(500),
+    keep_count BIGINT DEFAULT 0 NOT NULL,
+    comment_count BIGINT DEFAULT 0 NOT NULL
     );
 
 -- CSV 파일에서 데이터 읽어오기
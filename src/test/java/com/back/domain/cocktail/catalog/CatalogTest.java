@@ -0,0 +1,148 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CatalogTest {
+
+    static Cocktail cocktail(long id, String name, String nameKo, AlcoholStrength strength, CocktailType type,
+                             AlcoholBaseType base, String ingredient, long keepCount) {
+        return Cocktail.builder()
+                .id(id)
+                .cocktailName(name)
+                .cocktailNameKo(nameKo)
+                .alcoholStrength(strength)
+                .cocktailType(type)
+                .alcoholBaseType(base)
+                .cocktailStory(nameKo + " 이야기")
+                .ingredient(ingredient)
+                .keepCount(keepCount)
+                .build();
+    }
+
+    // ID 순서와 다르게 넘겨도 스냅샷은 ID 오름차순으로 보관
+    static Catalog sample() {
+        return Catalog.build(List.of(
+                cocktail(3, "Mojito", "모히토", AlcoholStrength.LIGHT, CocktailType.LONG, AlcoholBaseType.RUM,
+                        "화이트 럼:1 1/2 oz, 라임:1/2 ea, 민트:6 ea, 소다수:Top", 5),
+                cocktail(1, "Margarita", "마가리타", AlcoholStrength.MEDIUM, CocktailType.SHORT, AlcoholBaseType.TEQUILA,
+                        "데낄라:1 1/2 oz, 트리플 섹:1/2 oz, 라임:1 ea", 9),
+                cocktail(2, "Gin Tonic", "진토닉", AlcoholStrength.LIGHT, CocktailType.LONG, AlcoholBaseType.GIN,
+                        "진:1 1/2 oz, 토닉 워터:Top, 라임:1 ea", 7),
+                cocktail(4, "Martini", "마티니", AlcoholStrength.STRONG, CocktailType.SHORT, AlcoholBaseType.GIN,
+                        "진:2 oz, 드라이 베르무트:1/2 oz", 1)
+        ), CatalogVersion.EMPTY);
+    }
+
+    private static List<Long> ids(List<CatalogEntry> entries) {
+        return entries.stream().map(CatalogEntry::id).toList();
+    }
+
+    @Test
+    @DisplayName("ID 조회 - 단건/목록 조회는 요청 순서를 따르고 스냅샷에 없는 ID는 제외")
+    void t1() {
+        Catalog catalog = sample();
+
+        assertThat(catalog.size()).isEqualTo(4);
+        assertThat(catalog.get(0).id()).isEqualTo(1L);
+        assertThat(catalog.findById(2L)).get().extracting(CatalogEntry::cocktailNameKo).isEqualTo("진토닉");
+        assertThat(catalog.findById(99L)).isEmpty();
+        assertThat(ids(catalog.findAllById(List.of(4L, 99L, 1L)))).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("필터 - 같은 조건 안은 OR, 조건 사이는 AND, 빈 조건은 전체 허용")
+    void t2() {
+        Catalog catalog = sample();
+
+        BitSet gin = catalog.filter(null, null, List.of(AlcoholBaseType.GIN));
+        assertThat(ids(catalog.page(gin, 0, 10))).containsExactly(2L, 4L);
+
+        BitSet lightOrStrongShort = catalog.filter(
+                List.of(AlcoholStrength.LIGHT, AlcoholStrength.STRONG), List.of(CocktailType.SHORT), List.of());
+        assertThat(ids(catalog.page(lightOrStrongShort, 0, 10))).containsExactly(4L);
+
+        assertThat(catalog.filter(null, null, null).cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("필터 건수 - 각 조건의 건수는 다른 조건만 적용해서 계산")
+    void t3() {
+        Catalog catalog = sample();
+        BitSet all = catalog.filter(null, null, null);
+
+        CatalogFacets facets = catalog.facets(all, null, List.of(CocktailType.LONG), null);
+
+        // 도수 건수는 LONG 조건만 적용 (모히토, 진토닉)
+        assertThat(facets.strengthCounts()[AlcoholStrength.LIGHT.ordinal()]).isEqualTo(2);
+        assertThat(facets.strengthCounts()[AlcoholStrength.STRONG.ordinal()]).isZero();
+        // 타입 건수는 타입 조건 자체는 빼고 계산
+        assertThat(facets.typeCounts()[CocktailType.SHORT.ordinal()]).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("인기/페이지 - 킵 수 많은 순, 제외 ID 반영, 범위를 벗어난 페이지는 빈 목록")
+    void t4() {
+        Catalog catalog = sample();
+
+        assertThat(ids(catalog.popular(3, Set.of()))).containsExactly(1L, 2L, 3L);
+        assertThat(ids(catalog.popular(3, Set.of(1L)))).containsExactly(2L, 3L, 4L);
+
+        int[] ranked = {3, 0, 2};
+        assertThat(ids(catalog.page(ranked, 0, 2))).containsExactly(4L, 1L);
+        assertThat(ids(catalog.page(ranked, 1, 2))).containsExactly(3L);
+        assertThat(catalog.page(ranked, 5, 2)).isEmpty();
+        assertThat(Catalog.retain(ranked, Catalog.toBitSet(new int[]{0, 2}))).containsExactly(0, 2);
+    }
+
+    private static List<Long> search(Catalog catalog, String keyword) {
+        int[] ranked = catalog.search(keyword, catalog.filter(null, null, null));
+        return ids(catalog.page(ranked, 0, ranked.length));
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 부분 일치, 모든 단어 일치(AND), 구분자/전각 문자 무시")
+    void t5() {
+        Catalog catalog = sample();
+
+        assertThat(search(catalog, "arga")).containsExactly(1L);
+        assertThat(search(catalog, "진 라임")).containsExactly(2L);
+        assertThat(search(catalog, "tonic gin")).containsExactly(2L);
+        assertThat(search(catalog, "Gin-Tonic!")).containsExactly(2L);
+        assertThat(search(catalog, "ＧＩＮ")).containsExactly(2L);
+        assertThat(search(catalog, "xyz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 랭킹 - 점수 높은 순, 동점이면 킵 수 많은 순")
+    void t6() {
+        Catalog catalog = sample();
+
+        // 진토닉은 이름/재료/스토리 일치, 마티니는 재료만 일치
+        assertThat(search(catalog, "진")).containsExactly(2L, 4L);
+        // 재료에서만 일치해 점수가 같으면 킵 수 순 (9, 7, 5)
+        assertThat(search(catalog, "라임")).containsExactly(1L, 2L, 3L);
+        // 한 글자 검색어: 이름+재료(5점) 동점은 킵 수 순, 이름만(3점)도 킵 수 순
+        assertThat(search(catalog, "t")).containsExactly(2L, 3L, 1L, 4L);
+        assertThat(search(catalog, "럼")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - 빈 검색어는 필터 결과 전체를 킵 수 순으로")
+    void t7() {
+        Catalog catalog = sample();
+
+        assertThat(search(catalog, "")).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(search(catalog, "   ")).containsExactly(1L, 2L, 3L, 4L);
+    }
+}
@@ -0,0 +1,34 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.dto.IngredientDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IngredientParserTest {
+
+    @Test
+    @DisplayName("재료 문자열 파싱 - 분수 치환, 숫자/ml 환산")
+    void t1() {
+        List<IngredientDto> ingredients = IngredientParser.parse("데낄라:1 1/2 oz, 트리플 섹:1/2 oz, 라임:1 ea, 소금:Top");
+
+        assertThat(ingredients).containsExactly(
+                new IngredientDto("데낄라", "1 ½", "oz", 1.5, 44.4),
+                new IngredientDto("트리플 섹", "½", "oz", 0.5, 14.8),
+                new IngredientDto("라임", "1", "ea", 1.0, null),
+                new IngredientDto("소금", "", "Top", null, null)
+        );
+    }
+
+    @Test
+    @DisplayName("재료 문자열 파싱 - 형식이 맞지 않는 항목은 건너뜀")
+    void t2() {
+        assertThat(IngredientParser.parse(null)).isEmpty();
+        assertThat(IngredientParser.parse("라임, 민트, 럼")).isEmpty();
+        assertThat(IngredientParser.parse("보드카:3 cl, 민트"))
+                .containsExactly(new IngredientDto("보드카", "3", "cl", 3.0, 30.0));
+    }
+}
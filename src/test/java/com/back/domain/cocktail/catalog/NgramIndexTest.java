@@ -0,0 +1,86 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NgramIndexTest {
+
+    private static NgramIndex index(Catalog catalog) {
+        CatalogEntry[] entries = new CatalogEntry[catalog.size()];
+        for (int pos = 0; pos < entries.length; pos++) {
+            entries[pos] = catalog.get(pos);
+        }
+        return new NgramIndex(entries);
+    }
+
+    private static BitSet all(int size) {
+        BitSet all = new BitSet(size);
+        all.set(0, size);
+        return all;
+    }
+
+    @Test
+    @DisplayName("토큰화 - NFKC 정규화(전각 → 반각), 소문자화, 글자/숫자가 아닌 문자는 구분자")
+    void t1() {
+        assertThat(NgramIndex.tokenize("Gin-Tonic!  ＭＩＮＴ")).containsExactly("gin", "tonic", "mint");
+        assertThat(NgramIndex.tokenize(" ")).isEmpty();
+        assertThat(NgramIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 - 일치한 필드 가중치를 모두 더하고, scope 밖의 위치는 점수도 주지 않음")
+    void t2() {
+        Catalog catalog = CatalogTest.sample();
+        NgramIndex index = index(catalog);
+
+        // "진": 진토닉(pos 1)은 한글이름 3 + 재료 2 + 스토리 1, 마티니(pos 3)는 재료 2
+        double[] scores = new double[catalog.size()];
+        BitSet hits = index.search("진", all(catalog.size()), scores);
+        assertThat(hits.stream().toArray()).containsExactly(1, 3);
+        assertThat(scores).containsExactly(0.0, 6.0, 0.0, 2.0);
+
+        BitSet scope = new BitSet();
+        scope.set(3);
+        double[] scopedScores = new double[catalog.size()];
+        assertThat(index.search("진", scope, scopedScores).stream().toArray()).containsExactly(3);
+        assertThat(scopedScores).containsExactly(0.0, 0.0, 0.0, 2.0);
+    }
+
+    @Test
+    @DisplayName("검색 - 빈 검색어는 scope 전체를 점수 없이 반환")
+    void t3() {
+        Catalog catalog = CatalogTest.sample();
+        double[] scores = new double[catalog.size()];
+
+        BitSet hits = index(catalog).search("  ", all(catalog.size()), scores);
+
+        assertThat(hits.cardinality()).isEqualTo(catalog.size());
+        assertThat(scores).containsOnly(0.0);
+    }
+
+    @Test
+    @DisplayName("검색 - 3글자보다 긴 단어는 gram이 모두 있어도 원문에 연속으로 들어 있어야 일치")
+    void t4() {
+        Catalog catalog = Catalog.build(List.of(
+                CatalogTest.cocktail(1, "Margarita", "마가리타", AlcoholStrength.MEDIUM, CocktailType.SHORT,
+                        AlcoholBaseType.TEQUILA, "데낄라:1 1/2 oz", 0),
+                // "마가리", "가리타"는 있지만 "마가리타"는 없음 / "marga", "rgarita"로 나뉜 영문도 마찬가지
+                CatalogTest.cocktail(2, "Sour", "사워", AlcoholStrength.LIGHT, CocktailType.SHORT,
+                        AlcoholBaseType.WHISKY, "위스키:2 oz, 마가리 가리타:1 ea, marga:1 ea, rgarita:1 ea", 0)
+        ), CatalogVersion.EMPTY);
+        NgramIndex index = index(catalog);
+
+        assertThat(index.search("마가리타", all(2), new double[2]).stream().toArray()).containsExactly(0);
+        assertThat(index.search("margarita", all(2), new double[2]).stream().toArray()).containsExactly(0);
+        // 3글자 이하는 gram 자체가 연속 일치
+        assertThat(index.search("가리타", all(2), new double[2]).stream().toArray()).containsExactly(0, 1);
+    }
+}
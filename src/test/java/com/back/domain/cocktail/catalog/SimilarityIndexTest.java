@@ -0,0 +1,75 @@
+package com.back.domain.cocktail.catalog;
+
+import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.back.domain.cocktail.catalog.CatalogTest.cocktail;
+import static com.back.domain.cocktail.catalog.CatalogTest.sample;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SimilarityIndexTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    // 재료/베이스/도수/타입이 모두 같은 세 칵테일 (유사도 동점)
+    private static List<Cocktail> twins(long keep2, long keep3) {
+        return List.of(
+                cocktail(1, "Gimlet", "김렛", AlcoholStrength.MEDIUM, CocktailType.SHORT, AlcoholBaseType.GIN,
+                        "진:2 oz, 라임 주스:3/4 oz", 0),
+                cocktail(2, "Gimlet A", "김렛 A", AlcoholStrength.MEDIUM, CocktailType.SHORT, AlcoholBaseType.GIN,
+                        "진:2 oz, 라임 주스:3/4 oz", keep2),
+                cocktail(3, "Gimlet B", "김렛 B", AlcoholStrength.MEDIUM, CocktailType.SHORT, AlcoholBaseType.GIN,
+                        "진:2 oz, 라임 주스:3/4 oz", keep3)
+        );
+    }
+
+    private static List<Long> ids(List<CatalogEntry> entries) {
+        return entries.stream().map(CatalogEntry::id).toList();
+    }
+
+    @Test
+    @DisplayName("유사 칵테일 - 재료 겹침, 베이스, 도수, 타입 점수 높은 순")
+    void t1() {
+        Catalog catalog = sample();
+
+        // 진토닉: 마티니(진 겹침 + 같은 베이스) 0.41 → 모히토(라임 겹침 + 같은 도수/타입) 0.30 → 마가리타 0.20
+        assertThat(ids(catalog.similar(2L, 10))).containsExactly(4L, 3L, 1L);
+        // 모히토: 진토닉 0.30 → 마가리타 0.18 → 마티니 0.06
+        assertThat(ids(catalog.similar(3L, 10))).containsExactly(2L, 1L, 4L);
+        // 마티니: 진토닉 0.41 → 마가리타(같은 타입) 0.18 → 모히토 0.06
+        assertThat(ids(catalog.similar(4L, 10))).containsExactly(2L, 1L, 3L);
+
+        assertThat(ids(catalog.similar(1L, 1))).containsExactly(2L);
+        assertThat(catalog.similar(99L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유사 칵테일 - 유사도가 같으면 킵 수 많은 순, 킵 수도 같으면 ID 오름차순")
+    void t2() {
+        assertThat(ids(Catalog.build(twins(1, 5), CatalogVersion.EMPTY).similar(1L, 10))).containsExactly(3L, 2L);
+        assertThat(ids(Catalog.build(twins(5, 1), CatalogVersion.EMPTY).similar(1L, 10))).containsExactly(2L, 3L);
+        assertThat(ids(Catalog.build(twins(3, 3), CatalogVersion.EMPTY).similar(1L, 10))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("재구성 - 킵 수만 바뀌면 이전 유사 칵테일 표를 재사용, 행이 바뀌면 새로 계산")
+    void t3() {
+        Catalog previous = Catalog.build(twins(1, 5), new CatalogVersion(3L, 3L, UPDATED_AT, 6L));
+
+        // 킵 수만 바뀜: 표 재사용 (동점 순서는 다음 전체 재구성까지 유지)
+        Catalog keepOnly = Catalog.build(twins(5, 1), new CatalogVersion(3L, 3L, UPDATED_AT, 6L + 4), previous);
+        assertThat(ids(keepOnly.similar(1L, 10))).containsExactly(3L, 2L);
+        assertThat(keepOnly.findById(2L)).get().extracting(CatalogEntry::keepCount).isEqualTo(5L);
+
+        // 수정 시각이 바뀜: 표 새로 계산
+        Catalog edited = Catalog.build(twins(5, 1), new CatalogVersion(3L, 3L, UPDATED_AT.plusMinutes(1), 6L), previous);
+        assertThat(ids(edited.similar(1L, 10))).containsExactly(2L, 3L);
+    }
+}
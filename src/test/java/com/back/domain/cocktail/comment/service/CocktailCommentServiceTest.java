@@ -0,0 +1,115 @@
+package com.back.domain.cocktail.comment.service;
+
+import com.back.domain.cocktail.comment.dto.CocktailCommentCreateRequestDto;
+import com.back.domain.cocktail.comment.dto.CocktailCommentResponseDto;
+import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+import com.back.domain.cocktail.repository.CocktailRepository;
+import com.back.domain.cocktail.service.CocktailCountService;
+import com.back.domain.post.comment.enums.CommentStatus;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import com.back.global.rq.Rq;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class CocktailCommentServiceTest {
+
+    @Autowired
+    private CocktailCommentService cocktailCommentService;
+
+    @Autowired
+    private CocktailCountService cocktailCountService;
+
+    @Autowired
+    private CocktailRepository cocktailRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockitoBean
+    private Rq rq;
+
+    private User actor;
+    private Cocktail cocktail;
+
+    @BeforeEach
+    void setUp() {
+        cocktail = cocktailRepository.save(Cocktail.builder()
+                .cocktailName("negroni")
+                .cocktailNameKo("네그로니")
+                .alcoholStrength(AlcoholStrength.STRONG)
+                .cocktailType(CocktailType.SHORT)
+                .alcoholBaseType(AlcoholBaseType.GIN)
+                .cocktailStory("story")
+                .ingredient("진:1 oz")
+                .build());
+        em.flush();
+        em.clear();
+
+        given(rq.getActor()).willAnswer(invocation -> actor);
+    }
+
+    private CocktailCommentResponseDto commentAs(String nickname) {
+        actor = userRepository.save(User.builder().nickname(nickname).build());
+        return cocktailCommentService.createCocktailComment(cocktail.getId(),
+                new CocktailCommentCreateRequestDto(CommentStatus.PUBLIC, "맛있어요"));
+    }
+
+    private long commentCount() {
+        em.flush();
+        em.clear();
+        return cocktailRepository.findById(cocktail.getId()).orElseThrow().getCommentCount();
+    }
+
+    @Test
+    @DisplayName("댓글 작성/삭제 시 칵테일 댓글 수가 증감하고, 이미 삭제된 댓글은 다시 세지 않음")
+    void createAndDelete_updateCommentCount() {
+        commentAs("first");
+        CocktailCommentResponseDto second = commentAs("second");
+        assertThat(commentCount()).isEqualTo(2);
+
+        cocktailCommentService.deleteCocktailComment(cocktail.getId(), second.commentId());
+        assertThat(commentCount()).isEqualTo(1);
+
+        // 같은 댓글을 다시 삭제해도 카운터는 그대로
+        cocktailCommentService.deleteCocktailComment(cocktail.getId(), second.commentId());
+        assertThat(commentCount()).isEqualTo(1);
+
+        // 삭제한 사용자는 다시 댓글을 달 수 있고, 삭제된 댓글은 보정 후에도 제외
+        cocktailCommentService.createCocktailComment(cocktail.getId(),
+                new CocktailCommentCreateRequestDto(CommentStatus.PUBLIC, "다시 작성"));
+        cocktailCountService.reconcileCounts();
+        assertThat(commentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제 상태로는 댓글을 작성할 수 없고, 댓글 수도 늘지 않음")
+    void create_rejectsDeletedStatus() {
+        actor = userRepository.save(User.builder().nickname("deleted").build());
+
+        assertThatThrownBy(() -> cocktailCommentService.createCocktailComment(cocktail.getId(),
+                new CocktailCommentCreateRequestDto(CommentStatus.DELETED, "삭제 상태")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(commentCount()).isZero();
+    }
+}
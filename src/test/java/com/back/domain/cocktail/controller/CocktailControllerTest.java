@@ -1,9 +1,11 @@
 package com.back.domain.cocktail.controller;
 
+import com.back.domain.cocktail.catalog.CatalogSnapshot;
 import com.back.domain.cocktail.dto.CocktailSearchRequestDto;
 import com.back.domain.cocktail.entity.Cocktail;
 import com.back.domain.cocktail.enums.AlcoholBaseType;
 import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailSearchMode;
 import com.back.domain.cocktail.enums.CocktailType;
 import com.back.domain.cocktail.repository.CocktailRepository;
 import com.back.domain.user.service.UserService;
@@ -27,10 +29,12 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,6 +53,9 @@ public class CocktailControllerTest {
     @Autowired
     private CocktailRepository cocktailRepository;
 
+    @Autowired
+    private CatalogSnapshot catalogSnapshot;
+
     @Test
     @DisplayName("칵테일 단건 조회 - 로그인 없이 성공")
     void t1() throws Exception {
@@ -160,6 +167,9 @@ public class CocktailControllerTest {
                         .build()
         );
 
+        // 검색은 인메모리 카탈로그 스냅샷에서 처리하므로 저장 후 재구성
+        catalogSnapshot.rebuild();
+
         // 검색 조건 (키워드: "모히토")
         CocktailSearchRequestDto requestDto = new CocktailSearchRequestDto();
         requestDto.setKeyword("모히토");
@@ -182,6 +192,159 @@ public class CocktailControllerTest {
                 .andExpect(jsonPath("$.data[0].alcoholBaseType").value("럼"));
     }
 
+    @Test
+    @DisplayName("칵테일 이름 검색 - 초성, 오타 허용")
+    void t6() throws Exception {
+        cocktailRepository.save(
+                Cocktail.builder()
+                        .cocktailName("Margarita")
+                        .cocktailNameKo("마가리타")
+                        .alcoholStrength(AlcoholStrength.MEDIUM)
+                        .cocktailType(CocktailType.SHORT)
+                        .alcoholBaseType(AlcoholBaseType.TEQUILA)
+                        .cocktailImgUrl("https://example.com/image.jpg")
+                        .cocktailStory("데낄라와 라임의 클래식 칵테일")
+                        .ingredient("데낄라:1 1/2 oz, 트리플 섹:1/2 oz, 라임 주스:1 oz")
+                        .recipe("셰이킹 후 소금 림을 두른 잔에 따릅니다.")
+                        .build()
+        );
+        catalogSnapshot.rebuild();
+
+        for (String keyword : new String[]{"ㅁㄱㄹㅌ", "margarota", "마가리따"}) {
+            CocktailSearchRequestDto requestDto = new CocktailSearchRequestDto();
+            requestDto.setKeyword(keyword);
+            requestDto.setSearchMode(CocktailSearchMode.NAME);
+
+            mvc.perform(
+                            post("/cocktails/search")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(Ut.json.toString(requestDto))
+                    ).andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].cocktailName").value("Margarita"))
+                    .andExpect(jsonPath("$.data[0].cocktailNameKo").value("마가리타"));
+        }
+    }
+
+    @Test
+    @DisplayName("칵테일 자동완성 - 접두사(영문/한글/초성), 킵 수 많은 순")
+    void t7() throws Exception {
+        for (String[] name : new String[][]{{"Margarita", "마가리타", "3"}, {"Martini", "마티니", "7"}, {"Mojito", "모히토", "5"}}) {
+            cocktailRepository.save(
+                    Cocktail.builder()
+                            .cocktailName(name[0])
+                            .cocktailNameKo(name[1])
+                            .alcoholStrength(AlcoholStrength.MEDIUM)
+                            .cocktailType(CocktailType.SHORT)
+                            .alcoholBaseType(AlcoholBaseType.GIN)
+                            .cocktailImgUrl("https://example.com/image.jpg")
+                            .cocktailStory("자동완성 테스트")
+                            .ingredient("진:1 oz")
+                            .recipe("섞습니다.")
+                            .keepCount(Long.parseLong(name[2]))
+                            .build()
+            );
+        }
+        catalogSnapshot.rebuild();
+
+        for (String q : new String[]{"mar", "마", "ㅁ"}) {
+            mvc.perform(get("/cocktails/suggest").param("q", q))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "max-age=60, public"))
+                    .andExpect(jsonPath("$.data[0].cocktailName").value("Martini"));
+        }
+
+        mvc.perform(get("/cocktails/suggest").param("q", "ㅁㄱ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].cocktailNameKo").value("마가리타"));
+    }
+
+    @Test
+    @DisplayName("보유 재료로 만들 수 있는 칵테일 - 모든 재료 보유 우선, 1개 부족까지 허용")
+    void t8() throws Exception {
+        String[][] cocktails = {
+                {"Gimlet", "김렛", "진:2 oz, 라임 주스:3/4 oz, 설탕:1 tsp"},
+                {"Gin Fizz", "진 피즈", "진:2 oz, 레몬 주스:1 oz, 설탕:1 tsp, 탄산수:2 oz"},
+                {"Negroni", "네그로니", "진:1 oz, 캄파리:1 oz, 스위트 베르무트:1 oz, 오렌지 필:1 ea"}
+        };
+        for (String[] c : cocktails) {
+            cocktailRepository.save(
+                    Cocktail.builder()
+                            .cocktailName(c[0])
+                            .cocktailNameKo(c[1])
+                            .alcoholStrength(AlcoholStrength.MEDIUM)
+                            .cocktailType(CocktailType.SHORT)
+                            .alcoholBaseType(AlcoholBaseType.GIN)
+                            .cocktailImgUrl("https://example.com/image.jpg")
+                            .cocktailStory("재료 검색 테스트")
+                            .ingredient(c[2])
+                            .recipe("섞습니다.")
+                            .build()
+            );
+        }
+        catalogSnapshot.rebuild();
+
+        mvc.perform(get("/cocktails/makeable").param("ingredients", "진,라임 주스,설탕,레몬 주스"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].cocktailName").value("Gimlet"))
+                .andExpect(jsonPath("$.data[0].missingIngredients.length()").value(0))
+                .andExpect(jsonPath("$.data[1].cocktailName").value("Gin Fizz"))
+                .andExpect(jsonPath("$.data[1].missingIngredients[0]").value("탄산수"));
+
+        mvc.perform(get("/cocktails/makeable")
+                        .param("ingredients", "진,라임 주스,설탕,레몬 주스")
+                        .param("maxMissing", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].cocktailName").value("Gimlet"));
+    }
+
+    @Test
+    @DisplayName("칵테일 검색 - 필터 칩별 건수 포함")
+    void t9() throws Exception {
+        Object[][] cocktails = {
+                {"Daiquiri", AlcoholStrength.WEAK, AlcoholBaseType.RUM},
+                {"Gimlet", AlcoholStrength.WEAK, AlcoholBaseType.GIN},
+                {"Gin Rickey", AlcoholStrength.MEDIUM, AlcoholBaseType.GIN}
+        };
+        for (Object[] c : cocktails) {
+            cocktailRepository.save(
+                    Cocktail.builder()
+                            .cocktailName((String) c[0])
+                            .alcoholStrength((AlcoholStrength) c[1])
+                            .cocktailType(CocktailType.SHORT)
+                            .alcoholBaseType((AlcoholBaseType) c[2])
+                            .cocktailImgUrl("https://example.com/image.jpg")
+                            .cocktailStory("상큼한 라임 칵테일")
+                            .ingredient("라임 주스:1 oz")
+                            .recipe("섞습니다.")
+                            .build()
+            );
+        }
+        catalogSnapshot.rebuild();
+
+        CocktailSearchRequestDto requestDto = new CocktailSearchRequestDto();
+        requestDto.setKeyword("라임");
+        requestDto.setAlcoholStrengths(List.of(AlcoholStrength.WEAK));
+
+        mvc.perform(
+                        post("/cocktails/search/faceted")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(Ut.json.toString(requestDto))
+                ).andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.cocktails.length()").value(2))
+                // 도수 칩은 도수 조건을 빼고 센다
+                .andExpect(jsonPath("$.data.facets.alcoholStrengths[?(@.value == 'WEAK')].count").value(2))
+                .andExpect(jsonPath("$.data.facets.alcoholStrengths[?(@.value == 'MEDIUM')].count").value(1))
+                // 베이스 칩은 도수 조건(WEAK)을 적용해서 센다
+                .andExpect(jsonPath("$.data.facets.alcoholBaseTypes[?(@.value == 'GIN')].count").value(1))
+                .andExpect(jsonPath("$.data.facets.alcoholBaseTypes[?(@.value == 'RUM')].count").value(1));
+    }
+
     @TestConfiguration
     static class TestConfig {
         @Bean
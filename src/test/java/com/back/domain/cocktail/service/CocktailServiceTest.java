@@ -0,0 +1,158 @@
+package com.back.domain.cocktail.service;
+
+import com.back.domain.cocktail.comment.entity.CocktailComment;
+import com.back.domain.cocktail.comment.repository.CocktailCommentRepository;
+import com.back.domain.cocktail.dto.CocktailSummaryResponseDto;
+import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+import com.back.domain.cocktail.repository.CocktailRepository;
+import com.back.domain.mybar.entity.MyBar;
+import com.back.domain.mybar.enums.KeepStatus;
+import com.back.domain.mybar.repository.MyBarRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class CocktailServiceTest {
+
+    @Autowired
+    private CocktailService cocktailService;
+
+    @Autowired
+    private CocktailRepository cocktailRepository;
+
+    @Autowired
+    private MyBarRepository myBarRepository;
+
+    @Autowired
+    private CocktailCommentRepository cocktailCommentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CocktailCountService cocktailCountService;
+
+    @Autowired
+    private EntityManager em;
+
+    private final List<Cocktail> cocktails = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .nickname("tester")
+                .build());
+
+        for (int i = 0; i < 20; i++) {
+            Cocktail cocktail = cocktailRepository.save(Cocktail.builder()
+                    .cocktailName("cocktail" + i)
+                    .cocktailNameKo("칵테일" + i)
+                    .alcoholStrength(AlcoholStrength.LIGHT)
+                    .cocktailType(CocktailType.SHORT)
+                    .alcoholBaseType(AlcoholBaseType.GIN)
+                    .cocktailStory("story" + i)
+                    .ingredient("진:1 oz")
+                    .build());
+            cocktails.add(cocktail);
+
+            if (i % 2 == 0) {
+                MyBar myBar = new MyBar();
+                myBar.setUser(user);
+                myBar.setCocktail(cocktail);
+                myBar.setStatus(KeepStatus.ACTIVE);
+                myBar.setKeptAt(LocalDateTime.now());
+                myBarRepository.save(myBar);
+            }
+            if (i % 3 == 0) {
+                cocktailCommentRepository.save(CocktailComment.builder()
+                        .cocktail(cocktail)
+                        .user(user)
+                        .content("comment" + i)
+                        .build());
+            }
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = em.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("칵테일 다건 조회 - 정렬 기준/페이지 크기와 무관하게 쿼리 1회")
+    void getCocktails_queryCountIsConstant() {
+        for (String sortBy : new String[]{"recent", "keeps", "comments"}) {
+            for (int size : new int[]{5, 20}) {
+                Statistics statistics = statistics();
+
+                List<CocktailSummaryResponseDto> result = cocktailService.getCocktails(null, null, size, sortBy, null);
+
+                assertThat(result).hasSize(size);
+                assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+                em.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("카운터 보정 후 Keep 수, 댓글 수가 칵테일별로 매핑")
+    void getCocktails_countsMapped() {
+        cocktailCountService.reconcileCounts();
+
+        List<CocktailSummaryResponseDto> result = cocktailService.getCocktails(null, null, 20, "recent", null);
+
+        for (CocktailSummaryResponseDto dto : result) {
+            int i = cocktails.stream()
+                    .map(Cocktail::getId)
+                    .toList()
+                    .indexOf(dto.cocktailId());
+            assertThat(dto.keepCount()).isEqualTo(i % 2 == 0 ? 1L : 0L);
+            assertThat(dto.commentCount()).isEqualTo(i % 3 == 0 ? 1L : 0L);
+        }
+    }
+
+    @Test
+    @DisplayName("킵순 무한스크롤 - (keepCount, id) 키셋으로 중복/누락 없이 이어짐")
+    void getCocktails_keepsKeyset() {
+        cocktailCountService.reconcileCounts();
+
+        List<CocktailSummaryResponseDto> first = cocktailService.getCocktails(null, null, 7, "keeps", null);
+        CocktailSummaryResponseDto last = first.get(first.size() - 1);
+        List<CocktailSummaryResponseDto> second =
+                cocktailService.getCocktails(last.keepCount(), last.cocktailId(), 20, "keeps", null);
+
+        assertThat(first.get(0).keepCount()).isEqualTo(1L);
+        assertThat(first.size() + second.size()).isEqualTo(20);
+        assertThat(second)
+                .extracting(CocktailSummaryResponseDto::cocktailId)
+                .doesNotContainAnyElementsOf(first.stream().map(CocktailSummaryResponseDto::cocktailId).toList());
+    }
+}
@@ -0,0 +1,37 @@
+package com.back.domain.mybar.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoKeepMatrixTest {
+
+    @Test
+    @DisplayName("킵/해제 시 동시 킵 칸만 증감하고, 정규화 후 함께 킵한 순으로 조회")
+    void t1() {
+        CoKeepMatrix matrix = new CoKeepMatrix(10);
+
+        // 사용자 A: 1, 2, 3 / 사용자 B: 1, 2 / 사용자 C: 1, 4
+        matrix.addUser(new long[]{1, 2, 3});
+        matrix.addKeep(1, new long[]{});
+        matrix.addKeep(2, new long[]{1});
+        matrix.addUser(new long[]{1, 4});
+        matrix.renormalize();
+
+        assertThat(matrix.co(1, 2)).isEqualTo(2);
+        assertThat(matrix.co(2, 1)).isEqualTo(2);
+        assertThat(matrix.neighbors(1).ids()).containsExactly(2, 3, 4);
+
+        // 사용자 B가 2를 해제
+        matrix.removeKeep(2, new long[]{1});
+        // 사용자 A 전체 해제
+        matrix.removeAll(new long[]{1, 2, 3});
+        assertThat(matrix.isDirty()).isTrue();
+        matrix.renormalize();
+
+        assertThat(matrix.co(1, 2)).isZero();
+        assertThat(matrix.neighbors(1).ids()).containsExactly(4);
+        assertThat(matrix.neighbors(2).ids()).isEmpty();
+    }
+}
@@ -0,0 +1,142 @@
+package com.back.domain.mybar.service;
+
+import com.back.domain.cocktail.entity.Cocktail;
+import com.back.domain.cocktail.enums.AlcoholBaseType;
+import com.back.domain.cocktail.enums.AlcoholStrength;
+import com.back.domain.cocktail.enums.CocktailType;
+import com.back.domain.cocktail.repository.CocktailRepository;
+import com.back.domain.mybar.entity.MyBar;
+import com.back.domain.mybar.enums.KeepStatus;
+import com.back.domain.mybar.repository.MyBarRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class MyBarServiceTest {
+
+    @Autowired
+    private MyBarService myBarService;
+
+    @Autowired
+    private MyBarRepository myBarRepository;
+
+    @Autowired
+    private CocktailRepository cocktailRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private User user;
+    private User other;
+    private Cocktail gin;
+    private Cocktail rum;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().nickname("keeper").build());
+        other = userRepository.save(User.builder().nickname("other").build());
+        gin = cocktailRepository.save(cocktail("gin"));
+        rum = cocktailRepository.save(cocktail("rum"));
+        em.flush();
+        em.clear();
+    }
+
+    private Cocktail cocktail(String name) {
+        return Cocktail.builder()
+                .cocktailName(name)
+                .cocktailNameKo(name)
+                .alcoholStrength(AlcoholStrength.LIGHT)
+                .cocktailType(CocktailType.SHORT)
+                .alcoholBaseType(AlcoholBaseType.GIN)
+                .cocktailStory("story")
+                .ingredient("진:1 oz")
+                .build();
+    }
+
+    private long keepCount(Cocktail cocktail) {
+        em.flush();
+        em.clear();
+        return cocktailRepository.findById(cocktail.getId()).orElseThrow().getKeepCount();
+    }
+
+    @Test
+    @DisplayName("킵/해제 - 실제로 상태가 바뀐 경우에만 킵 수가 증감")
+    void keepAndUnkeep_updateKeepCount() {
+        myBarService.keep(user.getId(), gin.getId());
+        myBarService.keep(other.getId(), gin.getId());
+        assertThat(keepCount(gin)).isEqualTo(2);
+
+        // 이미 ACTIVE인 킵을 다시 해도 킵 수와 킵 이벤트 시각은 그대로
+        LocalDateTime keepEventAt = myBarRepository.findByUser_IdAndCocktail_Id(user.getId(), gin.getId())
+                .orElseThrow().getKeepEventAt();
+        myBarService.keep(user.getId(), gin.getId());
+        assertThat(keepCount(gin)).isEqualTo(2);
+        MyBar kept = myBarRepository.findByUser_IdAndCocktail_Id(user.getId(), gin.getId()).orElseThrow();
+        assertThat(kept.getKeepEventAt()).isEqualTo(keepEventAt);
+
+        // 해제는 멱등
+        myBarService.unkeep(user.getId(), gin.getId());
+        myBarService.unkeep(user.getId(), gin.getId());
+        assertThat(keepCount(gin)).isEqualTo(1);
+
+        // 해제했던 킵을 복원하면 다시 증가
+        myBarService.keep(user.getId(), gin.getId());
+        assertThat(keepCount(gin)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재킵 - 이미 ACTIVE인 킵을 다시 하면 keptAt 이 갱신되어 목록 맨 위로 올라감")
+    void rekeep_movesToTop() {
+        myBarService.keep(user.getId(), gin.getId());
+        myBarService.keep(user.getId(), rum.getId());
+        assertThat(keptCocktailIds()).containsExactly(rum.getId(), gin.getId());
+
+        myBarService.keep(user.getId(), gin.getId());
+
+        assertThat(keptCocktailIds()).containsExactly(gin.getId(), rum.getId());
+        assertThat(keepCount(gin)).isEqualTo(1);
+    }
+
+    private List<Long> keptCocktailIds() {
+        return myBarRepository.findByUser_IdAndStatusOrderByKeptAtDescIdDesc(user.getId(), KeepStatus.ACTIVE).stream()
+                .map(myBar -> myBar.getCocktail().getId())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("전체 해제 - 해당 사용자가 ACTIVE로 킵한 칵테일의 킵 수만 1씩 감소")
+    void clearAll_decrementsActiveKeepsOnly() {
+        myBarService.keep(user.getId(), gin.getId());
+        myBarService.keep(user.getId(), rum.getId());
+        myBarService.keep(other.getId(), gin.getId());
+        // 이미 해제된 킵은 전체 해제 대상이 아님
+        myBarService.unkeep(user.getId(), rum.getId());
+
+        myBarService.clearAll(user.getId());
+
+        assertThat(keepCount(gin)).isEqualTo(1);
+        assertThat(keepCount(rum)).isZero();
+
+        // 다시 전체 해제해도 변화 없음
+        myBarService.clearAll(user.getId());
+        assertThat(keepCount(gin)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,121 @@
+package com.back.domain.post.comment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.back.domain.notification.service.NotificationService;
+import com.back.domain.post.category.entity.Category;
+import com.back.domain.post.category.repository.CategoryRepository;
+import com.back.domain.post.comment.dto.request.CommentCreateRequestDto;
+import com.back.domain.post.comment.dto.response.CommentResponseDto;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.post.post.service.PostService;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import com.back.global.rq.Rq;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class CommentServiceTest {
+
+  @Autowired
+  private CommentService commentService;
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager em;
+
+  @MockitoBean
+  private Rq rq;
+
+  @MockitoBean
+  private NotificationService notificationService;
+
+  private User user;
+  private Post post;
+
+  @BeforeEach
+  void setUp() {
+    Category category = categoryRepository.save(Category.builder().name("자유").description("자유 게시판").build());
+    User author = userRepository.save(User.builder().nickname("author").build());
+    user = userRepository.save(User.builder().nickname("commenter").build());
+    post = postRepository.save(Post.builder()
+        .category(category)
+        .user(author)
+        .title("title")
+        .content("content")
+        .build());
+    em.flush();
+    em.clear();
+
+    given(rq.getActor()).willAnswer(invocation -> user);
+  }
+
+  private Post reload() {
+    em.flush();
+    em.clear();
+    return postRepository.findById(post.getId()).orElseThrow();
+  }
+
+  @Test
+  @DisplayName("게시글 엔티티를 들고 있는 동안 추천 수가 올라가도, 댓글 작성 flush 가 추천 수를 덮어쓰지 않음")
+  void likeInterleavedWithComment_keepsBothCounts() {
+    // 댓글 작성 트랜잭션이 게시글을 먼저 읽어 둔 상태 (like_count = 0)
+    Post loaded = postRepository.findById(post.getId()).orElseThrow();
+    assertThat(loaded.getLikeCount()).isZero();
+
+    // 그 사이 추천이 원자적 UPDATE 로 반영됨 (영속성 컨텍스트의 엔티티 값은 그대로 0)
+    postService.toggleLike(post.getId());
+    commentService.createComment(post.getId(), new CommentCreateRequestDto(null, "comment"));
+
+    Post result = reload();
+    assertThat(result.getLikeCount()).isEqualTo(1);
+    assertThat(result.getCommentCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("조회수 반영 후 게시글을 수정하고 댓글을 달아도 반영된 조회수가 유지됨")
+  void viewCountFlush_survivesPostAndCommentWrites() {
+    Post loaded = postRepository.findById(post.getId()).orElseThrow();
+    assertThat(loaded.getViewCount()).isZero();
+
+    // PostViewCountService.flush 와 같은 경로로 조회수 반영 (영속성 컨텍스트의 엔티티 값은 그대로 0)
+    postRepository.increaseViewCount(List.of(post.getId()), 3);
+
+    // 읽어 둔 엔티티를 변경해 flush 시키고, 댓글 작성/삭제로 게시글 카운터도 건드림
+    loaded.updateTitle("changed");
+    CommentResponseDto comment = commentService.createComment(post.getId(), new CommentCreateRequestDto(null, "comment"));
+    em.flush();
+    commentService.deleteComment(post.getId(), comment.commentId());
+    // 이미 삭제된 댓글을 다시 삭제해도 댓글 수는 그대로
+    commentService.deleteComment(post.getId(), comment.commentId());
+
+    Post result = reload();
+    assertThat(result.getTitle()).isEqualTo("changed");
+    assertThat(result.getViewCount()).isEqualTo(3);
+    assertThat(result.getCommentCount()).isZero();
+  }
+}
@@ -69,7 +69,8 @@ class PostControllerTest {
         List.of("태그1", "태그2"),
         0, // likeCount
         0,  // commentCount
-        0 // viewCount
+        0, // viewCount
+        0L // uniqueViewerCount
     );
   }
 
@@ -83,7 +84,8 @@ class PostControllerTest {
         "테스트 제목1",
         "테스트 내용1",
         "http://example.com/video1.mp4",
-        List.of("태그1", "태그2")
+        List.of("태그1", "태그2"),
+        null
     );
     PostResponseDto responseDto = createSampleResponseDto(1L);
     given(postService.createPost(any(PostCreateRequestDto.class), any(null))).willReturn(responseDto);
@@ -122,8 +124,8 @@ class PostControllerTest {
       secondPage.add(createSampleResponseDto(i));
     }
 
-    given(postService.getPosts(new PostSortScrollRequestDto(1L, null, 0, 0, PostSortStatus.LATEST))).willReturn(firstPage); // 첫 호출(lastId 없음)
-    given(postService.getPosts(new PostSortScrollRequestDto(1L, 21L, 0, 0, PostSortStatus.LATEST))).willReturn(secondPage);
+    given(postService.getPosts(new PostSortScrollRequestDto(1L, null, 0, 0, PostSortStatus.LATEST, null, null))).willReturn(firstPage); // 첫 호출(lastId 없음)
+    given(postService.getPosts(new PostSortScrollRequestDto(1L, 21L, 0, 0, PostSortStatus.LATEST, null, null))).willReturn(secondPage);
 
     // when & then
     mockMvc.perform(get("/posts"))
@@ -202,7 +204,8 @@ class PostControllerTest {
             2L
         ), // 이미지 리스트
         "http://example.com/video.mp4",
-        List.of("태그1", "태그2")
+        List.of("태그1", "태그2"),
+        null
     );
     PostResponseDto responseDto = new PostResponseDto(
         postId,
@@ -221,7 +224,8 @@ class PostControllerTest {
         List.of("태그1", "태그2"),
         0, // likeCount
         0,  // commentCount
-        0 // viewCount
+        0, // viewCount
+        0L // uniqueViewerCount
     );
     given(postService.updatePost(eq(1L), any(PostUpdateRequestDto.class), List.of())).willReturn(responseDto);
 
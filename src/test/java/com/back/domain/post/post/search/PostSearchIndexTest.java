@@ -0,0 +1,68 @@
+package com.back.domain.post.post.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostSearchIndexTest {
+
+  private PostSearchIndex sampleIndex() {
+    PostSearchIndex index = new PostSearchIndex();
+    index.put(1L, "진토닉 레시피", "진과 토닉워터를 1:3으로 섞어요", List.of("진", "하이볼"));
+    index.put(2L, "오늘의 칵테일", "모히또를 마셨다. 진토닉도 좋아요", List.of());
+    index.put(3L, "위스키 하이볼", "하이볼은 위스키와 탄산수", List.of("하이볼"));
+    index.put(4L, "Gin & Tonic", "classic highball", List.of());
+    for (long id = 5; id < 100; id++) {
+      index.put(id, "잡담 " + id, "아무 내용", List.of("일상"));
+    }
+    return index;
+  }
+
+  private List<Long> ids(List<PostSearchHit> hits) {
+    return hits.stream().map(PostSearchHit::postId).toList();
+  }
+
+  @Test
+  @DisplayName("제목 일치가 본문 일치보다 높게, 띄어쓰기/대소문자와 무관하게 검색")
+  void t1() {
+    PostSearchIndex index = sampleIndex();
+
+    assertThat(ids(index.search("진토닉", null, null, 10))).containsExactly(1L, 2L);
+    assertThat(ids(index.search("진 토닉", null, null, 10))).startsWith(1L);
+    assertThat(ids(index.search("GIN tonic", null, null, 10))).containsExactly(4L);
+    assertThat(index.search("없는단어", null, null, 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("점수 + ID 커서로 다음 페이지를 누락/중복 없이 조회")
+  void t2() {
+    PostSearchIndex index = sampleIndex();
+    List<Long> all = ids(index.search("하이볼 일상", null, null, 200));
+
+    List<PostSearchHit> page = index.search("하이볼 일상", null, null, 7);
+    List<Long> paged = new ArrayList<>(ids(page));
+    while (!page.isEmpty()) {
+      PostSearchHit last = page.get(page.size() - 1);
+      page = index.search("하이볼 일상", last.score(), last.postId(), 7);
+      paged.addAll(ids(page));
+    }
+
+    assertThat(paged).isEqualTo(all).hasSize(97).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("갱신/삭제가 색인에 바로 반영")
+  void t3() {
+    PostSearchIndex index = sampleIndex();
+
+    index.put(2L, "오늘의 칵테일", "모히또만 마셨다", List.of());
+    assertThat(ids(index.search("진토닉", null, null, 10))).containsExactly(1L);
+
+    index.remove(1L);
+    assertThat(index.search("진토닉", null, null, 10)).isEmpty();
+    assertThat(index.size()).isEqualTo(98);
+  }
+}
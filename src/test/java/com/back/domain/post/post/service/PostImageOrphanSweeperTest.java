@@ -0,0 +1,140 @@
+package com.back.domain.post.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.back.domain.post.category.entity.Category;
+import com.back.domain.post.category.repository.CategoryRepository;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.entity.PostImage;
+import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import com.back.global.file.entity.FileDeletion;
+import com.back.global.file.entity.StoredFile;
+import com.back.global.file.repository.FileDeletionRepository;
+import com.back.global.file.repository.StoredFileRepository;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "custom.file.orphanSweeper.enabled=true")
+@Transactional
+class PostImageOrphanSweeperTest {
+
+  @Autowired
+  private PostImageOrphanSweeper postImageOrphanSweeper;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private FileDeletionRepository fileDeletionRepository;
+
+  @Autowired
+  private StoredFileRepository storedFileRepository;
+
+  @MockitoBean
+  private AmazonS3 amazonS3;
+
+  private static final String LIVE = "content/live";
+  private static final String LEGACY = "0b4f1c1e-8f1a-4c55-9e3b-2d7c5a9e6f10_legacy.png";
+  private static final String ORPHAN = "5d2e7a40-1b3c-4f6d-8a9e-0c1b2d3e4f50_orphan.png";
+
+  private final List<S3ObjectSummary> objects = new ArrayList<>();
+
+  private void addObject(String key, Instant lastModified) {
+    S3ObjectSummary summary = new S3ObjectSummary();
+    summary.setKey(key);
+    summary.setLastModified(Date.from(lastModified));
+    objects.add(summary);
+  }
+
+  // 요청의 prefix/delimiter 에 맞는 객체만 돌려주는 S3 목록 조회
+  private ListObjectsV2Result list(ListObjectsV2Request request) {
+    String prefix = request.getPrefix() == null ? "" : request.getPrefix();
+    ListObjectsV2Result result = new ListObjectsV2Result();
+    objects.stream()
+        .filter(summary -> summary.getKey().startsWith(prefix))
+        .filter(summary -> request.getDelimiter() == null
+            || !summary.getKey().substring(prefix.length()).contains(request.getDelimiter()))
+        .forEach(result.getObjectSummaries()::add);
+    return result;
+  }
+
+  @Test
+  @DisplayName("고아 파일 정리 - 게시글 이미지(원본/파생본)와 최근 업로드는 남기고 나머지만 삭제 대기열에 등록")
+  void sweep_enqueuesOnlyUnreferencedFiles() {
+    when(amazonS3.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+        URI.create("https://s3.test/" + invocation.getArgument(1)).toURL());
+    when(amazonS3.listObjectsV2(any(ListObjectsV2Request.class)))
+        .thenAnswer(invocation -> list(invocation.getArgument(0)));
+
+    Category category = categoryRepository.save(Category.builder().name("자유").description("자유 게시판").build());
+    User user = userRepository.save(User.builder().nickname("writer").build());
+    Post post = Post.builder().category(category).user(user).title("title").content("content").build();
+    post.addImage(PostImage.builder().fileName(LIVE).url("https://s3.test/" + LIVE).sortOrder(0).build());
+    // 초기 데이터: file_name 에 원본 파일명이 저장된 이미지
+    post.addImage(PostImage.builder().fileName("legacy.png").url("https://s3.test/" + LEGACY).sortOrder(1).build());
+    postRepository.save(post);
+
+    Instant old = Instant.now().minus(Duration.ofDays(10));
+    addObject(LIVE, old);
+    addObject("thumbnail/" + LIVE + ".jpg", old);
+    addObject(LEGACY, old);
+    addObject(ORPHAN, old);
+    addObject("medium/" + ORPHAN + ".jpg", old);
+    addObject("content/orphan", old);
+    addObject("5f0c3b2a-9d8e-4a7b-b6c5-d4e3f2a1b0c9_recent.png", Instant.now());
+    // 게시글 이미지가 아닌 객체: 개별 업로드, 규칙에 맞지 않는 최상위 키
+    addObject("uploads/1c2d3e4f-5a6b-4c7d-8e9f-0a1b2c3d4e5f_profile.png", old);
+    addObject("banner.png", old);
+
+    int enqueued = postImageOrphanSweeper.sweepModifiedBefore(Date.from(Instant.now().minus(Duration.ofDays(1))));
+
+    assertThat(enqueued).isEqualTo(3);
+    assertThat(fileDeletionRepository.findAll())
+        .extracting(FileDeletion::getFileName)
+        .containsExactlyInAnyOrder(ORPHAN, "medium/" + ORPHAN + ".jpg", "content/orphan");
+  }
+
+  @Test
+  @DisplayName("고아 파일 정리 - stored_file 행이 남은 내용 주소 파일은 참조 수 정리에 맡기고 건드리지 않음")
+  void sweep_skipsTrackedContentFiles() {
+    when(amazonS3.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+        URI.create("https://s3.test/" + invocation.getArgument(1)).toURL());
+    when(amazonS3.listObjectsV2(any(ListObjectsV2Request.class)))
+        .thenAnswer(invocation -> list(invocation.getArgument(0)));
+
+    storedFileRepository.save(new StoredFile("content/tracked", "https://s3.test/content/tracked", "image/png", 10L));
+    addObject("content/tracked", Instant.now().minus(Duration.ofDays(10)));
+
+    int enqueued = postImageOrphanSweeper.sweepModifiedBefore(Date.from(Instant.now().minus(Duration.ofDays(1))));
+
+    assertThat(enqueued).isZero();
+    assertThat(fileDeletionRepository.findAll()).isEmpty();
+  }
+}
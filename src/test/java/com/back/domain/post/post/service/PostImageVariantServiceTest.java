@@ -0,0 +1,47 @@
+package com.back.domain.post.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.back.domain.post.post.repository.PostImageRepository;
+import com.back.global.file.dto.ImageVariantsDto;
+import com.back.global.file.service.FileService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostImageVariantServiceTest {
+
+  @Test
+  @DisplayName("이미지 파생본 - 요청이 몰려도 작업 스레드 + 큐 크기만큼만 받아들이고 나머지는 건너뜀")
+  void burstIsBoundedByQueue() throws Exception {
+    FileService fileService = mock(FileService.class);
+    PostImageRepository postImageRepository = mock(PostImageRepository.class);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger processed = new AtomicInteger();
+    when(fileService.createVariants(anyString())).thenAnswer(invocation -> {
+      release.await(10, TimeUnit.SECONDS);
+      processed.incrementAndGet();
+      return new ImageVariantsDto("thumb", "medium");
+    });
+    PostImageVariantService service = new PostImageVariantService(fileService, postImageRepository, 2, 10);
+
+    // 작업 스레드 2개가 처리 중인 동안 큐 10칸을 넘는 요청
+    for (long id = 1; id <= 50; id++) {
+      service.submit(id, "file" + id);
+    }
+    release.countDown();
+
+    verify(postImageRepository, timeout(5_000).times(12)).updateVariants(
+        anyLong(), anyString(), anyString());
+    service.shutdown();
+    assertThat(processed.get()).isEqualTo(12);
+  }
+}
@@ -0,0 +1,154 @@
+package com.back.domain.post.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.back.domain.notification.service.NotificationService;
+import com.back.domain.post.category.entity.Category;
+import com.back.domain.post.category.repository.CategoryRepository;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.repository.PostLikeRepository;
+import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import com.back.global.rq.Rq;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+// 실제 동시 트랜잭션을 만들어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+class PostLikeConcurrencyTest {
+
+  private static final int THREADS = 16;
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private PostLikeRepository postLikeRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @MockitoBean
+  private Rq rq;
+
+  @MockitoBean
+  private NotificationService notificationService;
+
+  private final ThreadLocal<User> actor = new ThreadLocal<>();
+  private final List<User> users = new ArrayList<>();
+  private Category category;
+  private User author;
+  private Post post;
+
+  @BeforeEach
+  void setUp() {
+    category = categoryRepository.save(Category.builder().name("추천 테스트").build());
+    author = userRepository.save(User.builder().nickname("author").build());
+    post = postRepository.save(Post.builder()
+        .category(category)
+        .user(author)
+        .title("viral")
+        .content("viral post")
+        .build());
+    for (int i = 0; i < 200; i++) {
+      users.add(userRepository.save(User.builder().nickname("liker" + i).build()));
+    }
+
+    given(rq.getActor()).willAnswer(invocation -> actor.get());
+  }
+
+  @AfterEach
+  void tearDown() {
+    postLikeRepository.deleteAllInBatch();
+    postRepository.deleteById(post.getId());
+    userRepository.deleteAllInBatch(users);
+    userRepository.delete(author);
+    categoryRepository.delete(category);
+  }
+
+  private void toggleConcurrently(List<User> togglers) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (User user : togglers) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          actor.set(user);
+          try {
+            postService.toggleLike(post.getId());
+          } finally {
+            actor.remove();
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(); // 실패한 토글이 있으면 예외로 드러남
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private int likeCount() {
+    return postRepository.findById(post.getId()).orElseThrow().getLikeCount();
+  }
+
+  @Test
+  @DisplayName("서로 다른 사용자 200명이 동시에 추천해도 추천 수가 유실되지 않음")
+  void concurrentLikes() throws Exception {
+    toggleConcurrently(users);
+
+    assertThat(likeCount()).isEqualTo(200);
+    assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(200);
+
+    // 절반이 동시에 취소
+    toggleConcurrently(users.subList(0, 100));
+
+    assertThat(likeCount()).isEqualTo(100);
+    assertThat(postLikeRepository.countByPostId(post.getId())).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("같은 사용자의 연타가 섞인 토글 800건 동시 실행 - 추천 수와 추천 행 수가 항상 일치")
+  void concurrentTogglesWithRepeats() throws Exception {
+    List<User> togglers = new ArrayList<>();
+    for (User user : users.subList(0, 100)) {
+      for (int i = 0; i < 8; i++) {
+        togglers.add(user);
+      }
+    }
+    Collections.shuffle(togglers, new Random(42));
+
+    toggleConcurrently(togglers);
+
+    long likes = postLikeRepository.countByPostId(post.getId());
+    assertThat(likeCount()).isEqualTo((int) likes);
+    assertThat(likes).isBetween(0L, 100L);
+  }
+}
@@ -0,0 +1,181 @@
+package com.back.domain.post.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.back.domain.post.category.entity.Category;
+import com.back.domain.post.category.repository.CategoryRepository;
+import com.back.domain.post.post.dto.request.PostSortScrollRequestDto;
+import com.back.domain.post.post.dto.response.PostResponseDto;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.entity.PostImage;
+import com.back.domain.post.post.entity.Tag;
+import com.back.domain.post.post.enums.PostSortStatus;
+import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.post.post.repository.TagRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class PostServiceTest {
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private TagRepository tagRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PostFeedCache postFeedCache;
+
+  @Autowired
+  private EntityManager em;
+
+  private Category category;
+
+  @BeforeEach
+  void setUp() {
+    category = categoryRepository.save(Category.builder()
+        .name("자유")
+        .description("자유 게시판")
+        .build());
+    Tag tagA = tagRepository.save(Tag.builder().name("진").build());
+    Tag tagB = tagRepository.save(Tag.builder().name("럼").build());
+
+    // 작성자를 게시글마다 다르게 두어 작성자 지연 로딩도 N번 발생할 수 있는 조건으로 구성
+    for (int i = 0; i < 15; i++) {
+      User user = userRepository.save(User.builder()
+          .nickname("writer" + i)
+          .build());
+
+      Post post = Post.builder()
+          .category(category)
+          .user(user)
+          .title("title" + i)
+          .content("content" + i)
+          .build();
+      post.addImage(PostImage.builder().fileName("b.png").url("url" + i + "-1").sortOrder(1).build());
+      post.addImage(PostImage.builder().fileName("a.png").url("url" + i + "-0").sortOrder(0).build());
+      post.addTag(tagA);
+      post.addTag(tagB);
+      postRepository.save(post);
+    }
+
+    em.flush();
+    em.clear();
+    // 다른 테스트에서 캐시된 첫 페이지가 섞이지 않도록 비움
+    postFeedCache.clear();
+  }
+
+  private Statistics statistics() {
+    Statistics statistics = em.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+    return statistics;
+  }
+
+  @Test
+  @DisplayName("게시글 다건 조회 - 카테고리/작성자/이미지/태그 포함 페이지가 쿼리 3회로 조회")
+  void getPosts_queryCountIsBounded() {
+    for (Long categoryId : new Long[]{null, category.getId()}) {
+      for (PostSortStatus sortStatus : new PostSortStatus[]{
+          PostSortStatus.LATEST, PostSortStatus.POPULAR, PostSortStatus.COMMENTS}) {
+        Statistics statistics = statistics();
+
+        List<PostResponseDto> result = postService.getPosts(
+            new PostSortScrollRequestDto(categoryId, null, null, null, sortStatus, null, null));
+
+        assertThat(result).hasSize(10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        em.clear();
+        postFeedCache.clear();
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("게시글 다건 조회 - 연관 데이터가 게시글별로 올바르게 매핑")
+  void getPosts_associationsMapped() {
+    List<PostResponseDto> result = postService.getPosts(
+        new PostSortScrollRequestDto(null, null, null, null, PostSortStatus.LATEST, null, null));
+
+    PostResponseDto first = result.get(0);
+    assertThat(first.title()).isEqualTo("title14");
+    assertThat(first.categoryName()).isEqualTo("자유");
+    assertThat(first.userNickName()).isEqualTo("writer14");
+    assertThat(first.imageUrls()).containsExactly("url14-0", "url14-1");
+    assertThat(first.tags()).containsExactlyInAnyOrder("진", "럼");
+  }
+
+  @Test
+  @DisplayName("게시글 다건 조회 - 정렬 키가 같은 게시글도 키셋 커서로 누락/중복 없이 페이지 이동")
+  void getPosts_keysetPaging() {
+    List<Long> ids = new ArrayList<>();
+    Long lastId = null;
+    Integer lastLikeCount = null;
+
+    while (true) {
+      List<PostResponseDto> page = postService.getPosts(new PostSortScrollRequestDto(
+          category.getId(), lastId, lastLikeCount, null, PostSortStatus.POPULAR, 4, null));
+      if (page.isEmpty()) {
+        break;
+      }
+      assertThat(page.size()).isLessThanOrEqualTo(4);
+
+      page.forEach(post -> ids.add(post.postId()));
+      PostResponseDto last = page.get(page.size() - 1);
+      lastId = last.postId();
+      lastLikeCount = last.likeCount();
+    }
+
+    assertThat(ids).hasSize(15).doesNotHaveDuplicates();
+    assertThat(ids).isSortedAccordingTo(Comparator.reverseOrder());
+  }
+
+  @Test
+  @DisplayName("게시글 다건 조회 - 첫 페이지는 (카테고리, 정렬 기준)별 캐시에서 쿼리 없이 응답")
+  void getPosts_firstPageCached() {
+    PostSortScrollRequestDto firstPage =
+        new PostSortScrollRequestDto(category.getId(), null, null, null, PostSortStatus.LATEST, null, null);
+    List<PostResponseDto> loaded = postService.getPosts(firstPage);
+    em.clear();
+
+    Statistics statistics = statistics();
+    List<PostResponseDto> cached = postService.getPosts(firstPage);
+
+    assertThat(cached).isEqualTo(loaded);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+
+    // 다음 페이지, 다른 정렬 기준은 캐시 대상이 아니거나 별도 항목
+    postService.getPosts(new PostSortScrollRequestDto(
+        category.getId(), loaded.get(9).postId(), null, null, PostSortStatus.LATEST, null, null));
+    postService.getPosts(new PostSortScrollRequestDto(
+        category.getId(), null, null, null, PostSortStatus.POPULAR, null, null));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+  }
+}
@@ -0,0 +1,139 @@
+package com.back.domain.post.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.back.domain.post.category.entity.Category;
+import com.back.domain.post.category.repository.CategoryRepository;
+import com.back.domain.post.post.dto.request.PostUpdateRequestDto;
+import com.back.domain.post.post.dto.response.PostResponseDto;
+import com.back.domain.post.post.entity.Post;
+import com.back.domain.post.post.entity.Tag;
+import com.back.domain.post.post.repository.PostRepository;
+import com.back.domain.post.post.repository.TagRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import com.back.global.rq.Rq;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 게시글 수정은 태그 사전을 트랜잭션 밖에서 호출하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+class PostUpdateTagsTest {
+
+  @Autowired
+  private PostService postService;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private CategoryRepository categoryRepository;
+
+  @Autowired
+  private TagRepository tagRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManager em;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @MockitoBean
+  private Rq rq;
+
+  // 실행마다 다른 이름을 써서 다른 테스트의 태그/사전 캐시와 섞이지 않게 함
+  private final String prefix = UUID.randomUUID().toString().substring(0, 8) + "-";
+  private final List<String> names = new ArrayList<>();
+  private Category category;
+  private User author;
+  private Post post;
+
+  @BeforeEach
+  void setUp() {
+    category = categoryRepository.save(Category.builder().name("태그 수정 테스트").build());
+    author = userRepository.save(User.builder().nickname("tagger").build());
+
+    Post created = Post.builder()
+        .category(category)
+        .user(author)
+        .title("tags")
+        .content("tag diff")
+        .build();
+    for (String name : List.of(name("진"), name("럼"), name("보드카"))) {
+      created.addTag(tagRepository.save(Tag.builder().name(name).build()));
+    }
+    post = postRepository.save(created);
+
+    given(rq.getActor()).willReturn(author);
+  }
+
+  @AfterEach
+  void tearDown() {
+    postRepository.deleteById(post.getId());
+    tagRepository.deleteAllInBatch(tagRepository.findByNameIn(names));
+    userRepository.delete(author);
+    categoryRepository.delete(category);
+  }
+
+  private String name(String suffix) {
+    names.add(prefix + suffix);
+    return prefix + suffix;
+  }
+
+  private PostResponseDto updateTags(List<String> tags) {
+    return postService.updatePost(post.getId(),
+        new PostUpdateRequestDto(null, null, null, null, null, null, tags, null), null);
+  }
+
+  // 태그 이름 -> PostTag 행 ID (DB 에서 다시 조회)
+  private Map<String, Long> postTagIds() {
+    return transactionTemplate.execute(status -> em.createQuery(
+            "select pt.tag.name, pt.id from PostTag pt where pt.post.id = :postId", Object[].class)
+        .setParameter("postId", post.getId())
+        .getResultStream()
+        .collect(Collectors.toMap((Object[] row) -> (String) row[0], (Object[] row) -> (Long) row[1])));
+  }
+
+  @Test
+  @DisplayName("게시글 수정 - 겹치는 태그는 기존 PostTag 행을 그대로 두고, 빠진 태그만 삭제/새 태그만 추가")
+  void updatePost_diffsTags() {
+    Map<String, Long> before = postTagIds();
+    String gin = prefix + "진";
+    String rum = prefix + "럼";
+    String vodka = prefix + "보드카";
+    String tequila = name("데킬라");
+
+    // 순서를 바꾸고 공백/중복 이름을 섞어도 진/보드카 유지, 럼 삭제, 데킬라 추가
+    PostResponseDto updated = updateTags(List.of(vodka, tequila, " " + gin + " ", tequila, gin));
+
+    assertThat(updated.tags()).containsExactlyInAnyOrder(vodka, tequila, gin);
+    Map<String, Long> after = postTagIds();
+    assertThat(after).containsOnlyKeys(vodka, tequila, gin);
+    assertThat(after.get(gin)).isEqualTo(before.get(gin));
+    assertThat(after.get(vodka)).isEqualTo(before.get(vodka));
+    assertThat(after.get(tequila)).isNotIn(before.values());
+    assertThat(before).containsKey(rum);
+
+    // 같은 태그를 순서만 바꿔 다시 보내면 행이 바뀌지 않음
+    updateTags(List.of(gin, tequila, vodka));
+    assertThat(postTagIds()).isEqualTo(after);
+  }
+}
@@ -0,0 +1,107 @@
+package com.back.domain.post.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.back.domain.post.post.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PostViewCountServiceTest {
+
+  @Test
+  @DisplayName("조회와 반영이 동시에 일어나도 조회수 증가분이 유실되지 않음")
+  void concurrentIncrementsAreNotLost() throws Exception {
+    Map<Long, LongAdder> flushed = new ConcurrentHashMap<>();
+    PostRepository postRepository = mock(PostRepository.class);
+    when(postRepository.increaseViewCount(any(), anyInt())).thenAnswer(invocation -> {
+      Collection<Long> ids = invocation.getArgument(0);
+      int delta = invocation.getArgument(1);
+      ids.forEach(id -> flushed.computeIfAbsent(id, k -> new LongAdder()).add(delta));
+      return ids.size();
+    });
+    PostViewCountService service = new PostViewCountService(postRepository);
+
+    int threads = 8;
+    int viewsPerThread = 20_000;
+    long[] postIds = {1L, 2L, 3L, 4L};
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean running = new AtomicBoolean(true);
+    try {
+      // 조회와 동시에 반영을 계속 돌림
+      Future<?> flusher = executor.submit(() -> {
+        while (running.get()) {
+          service.flush();
+        }
+      });
+
+      List<Future<?>> viewers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        viewers.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < viewsPerThread; i++) {
+            service.increment(postIds[i % postIds.length]);
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> viewer : viewers) {
+        viewer.get();
+      }
+      running.set(false);
+      flusher.get();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // 종료 시 반영
+    service.flushOnShutdown();
+
+    long expectedPerPost = (long) threads * viewsPerThread / postIds.length;
+    for (long postId : postIds) {
+      assertThat(flushed.get(postId).sum()).isEqualTo(expectedPerPost);
+      assertThat(service.pendingCount(postId)).isZero();
+    }
+    // 반영이 끝난 항목은 남지 않음
+    assertThat((Map<?, ?>) ReflectionTestUtils.getField(service, "pending")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("반영 실패한 증가분은 남겨 두고, 반영된 게시글 항목만 제거")
+  void flushPrunesOnlyFlushedEntries() {
+    PostRepository postRepository = mock(PostRepository.class);
+    when(postRepository.increaseViewCount(any(), anyInt())).thenAnswer(invocation -> {
+      if (invocation.<Collection<Long>>getArgument(0).contains(2L)) {
+        throw new IllegalStateException("DB 오류");
+      }
+      return 1;
+    });
+    PostViewCountService service = new PostViewCountService(postRepository);
+    service.increment(1L);
+    service.increment(2L);
+    service.increment(2L);
+
+    service.flush();
+
+    assertThat(service.pendingCount(2L)).isEqualTo(2);
+    assertThat((Map<?, ?>) ReflectionTestUtils.getField(service, "pending")).containsOnlyKeys(2L);
+  }
+}
@@ -0,0 +1,131 @@
+package com.back.domain.post.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.back.domain.post.post.entity.Tag;
+import com.back.domain.post.post.repository.TagRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// TagDictionary 는 트랜잭션 밖에서만 호출되고 새 태그는 바로 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+class TagDictionaryTest {
+
+  @Autowired
+  private TagDictionary tagDictionary;
+
+  @Autowired
+  private TagRepository tagRepository;
+
+  @Autowired
+  private EntityManagerFactory emf;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  // 실행마다 다른 이름을 써서 다른 테스트의 태그/캐시와 섞이지 않게 함
+  private final String prefix = UUID.randomUUID().toString().substring(0, 8) + "-";
+  private final List<String> names = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    tagRepository.deleteAllInBatch(tagRepository.findByNameIn(names));
+  }
+
+  private List<String> names(String... suffixes) {
+    List<String> result = new ArrayList<>();
+    for (String suffix : suffixes) {
+      result.add(prefix + suffix);
+    }
+    names.addAll(result);
+    return result;
+  }
+
+  private Statistics statistics() {
+    Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+    return statistics;
+  }
+
+  @Test
+  @DisplayName("없는 태그는 한 번에 생성하고, 이후에는 쿼리 없이 사전에서 찾음")
+  void resolveCreatesOnceThenCaches() {
+    List<String> tagNames = names("진", "럼", "보드카");
+    tagRepository.save(Tag.builder().name(tagNames.get(0)).build());
+
+    List<Tag> first = tagDictionary.resolve(List.of(tagNames.get(0), " " + tagNames.get(1) + " ", tagNames.get(2),
+        tagNames.get(0), ""));
+    assertThat(first).extracting(Tag::getName).containsExactlyElementsOf(tagNames);
+    assertThat(first).allSatisfy(tag -> assertThat(tag.getId()).isNotNull());
+    assertThat(tagRepository.findByNameIn(tagNames)).hasSize(3);
+
+    Statistics statistics = statistics();
+    List<Tag> second = tagDictionary.resolve(tagNames);
+
+    assertThat(second).extracting(Tag::getId).containsExactlyElementsOf(first.stream().map(Tag::getId).toList());
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("같은 새 태그를 여러 요청이 동시에 만들어도 한 행만 생기고 모두 같은 ID를 받음")
+  void concurrentCreatorsShareOneRow() throws Exception {
+    List<String> tagNames = names("하이볼", "마티니");
+    int threads = 8;
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<List<Tag>>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return tagDictionary.resolve(tagNames);
+        }));
+      }
+      start.countDown();
+
+      List<List<Tag>> results = new ArrayList<>();
+      for (Future<List<Tag>> future : futures) {
+        results.add(future.get());
+      }
+
+      List<Tag> stored = tagRepository.findByNameIn(tagNames);
+      assertThat(stored).hasSize(2);
+      List<Long> storedIds = stored.stream().map(Tag::getId).toList();
+      assertThat(results).allSatisfy(tags ->
+          assertThat(tags).extracting(Tag::getId).containsExactlyInAnyOrderElementsOf(storedIds));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 호출하면 두 번째 커넥션을 잡지 않도록 거부")
+  void resolveInsideTransactionIsRejected() {
+    List<String> tagNames = names("네그로니");
+
+    assertThatThrownBy(() -> new TransactionTemplate(transactionManager)
+        .executeWithoutResult(status -> tagDictionary.resolve(tagNames)))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(tagRepository.findByNameIn(tagNames)).isEmpty();
+  }
+}
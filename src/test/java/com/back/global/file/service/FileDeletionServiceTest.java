@@ -0,0 +1,166 @@
+package com.back.global.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.back.global.file.entity.FileDeletion;
+import com.back.global.file.entity.StoredFile;
+import com.back.global.file.repository.FileDeletionRepository;
+import com.back.global.file.repository.StoredFileRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class FileDeletionServiceTest {
+
+  @Autowired
+  private FileDeletionService fileDeletionService;
+
+  @Autowired
+  private FileDeletionRepository fileDeletionRepository;
+
+  @Autowired
+  private StoredFileRepository storedFileRepository;
+
+  @Autowired
+  private EntityManager em;
+
+  @MockitoBean
+  private AmazonS3 amazonS3;
+
+  // S3 에 전달된 다중 삭제 요청의 키 목록
+  private final List<List<String>> deleteRequests = new ArrayList<>();
+
+  private void stubDeleteObjects(RuntimeException failure) {
+    when(amazonS3.deleteObjects(any(DeleteObjectsRequest.class))).thenAnswer(invocation -> {
+      DeleteObjectsRequest request = invocation.getArgument(0);
+      deleteRequests.add(request.getKeys().stream().map(DeleteObjectsRequest.KeyVersion::getKey).toList());
+      if (failure != null) {
+        throw failure;
+      }
+      return new DeleteObjectsResult(List.of());
+    });
+  }
+
+  @Test
+  @DisplayName("삭제 대기열 - 대기 중인 키를 한 번의 다중 삭제 요청으로 처리하고 비움")
+  void drain_deletesInBatch() {
+    stubDeleteObjects(null);
+    fileDeletionService.enqueue(List.of("a.png", "b.png", "a.png"));
+    fileDeletionService.enqueue(List.of("c.png"));
+
+    fileDeletionService.drain();
+
+    assertThat(deleteRequests).containsExactly(List.of("a.png", "b.png", "c.png"));
+    assertThat(fileDeletionRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("삭제 대기열 - 일부 키만 실패하면 실패한 키만 백오프 후 재시도로 남김")
+  void drain_partialFailureIsRetriedLater() {
+    MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+    error.setKey("b.png");
+    error.setCode("InternalError");
+    stubDeleteObjects(new MultiObjectDeleteException(List.of(error), List.of()));
+    fileDeletionService.enqueue(List.of("a.png", "b.png"));
+
+    fileDeletionService.drain();
+
+    List<FileDeletion> remaining = fileDeletionRepository.findAll();
+    assertThat(remaining).extracting(FileDeletion::getFileName).containsExactly("b.png");
+    assertThat(remaining.get(0).getAttempts()).isEqualTo(1);
+    assertThat(remaining.get(0).getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+    // 재시도 시각 전에는 다시 요청하지 않음
+    fileDeletionService.drain();
+    assertThat(deleteRequests).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("삭제 대기열 - S3 호출 자체가 실패하면 모든 키를 재시도로 남김")
+  void drain_requestFailureKeepsAll() {
+    stubDeleteObjects(new AmazonServiceException("S3 unavailable"));
+    fileDeletionService.enqueue(List.of("a.png", "b.png"));
+
+    fileDeletionService.drain();
+
+    assertThat(fileDeletionRepository.findAll())
+        .extracting(FileDeletion::getAttempts)
+        .containsExactly(1, 1);
+  }
+
+  @Test
+  @DisplayName("삭제 대기열 - 삭제 직전에 다시 참조되기 시작한 내용 주소 객체는 지우지 않고 대기열에서만 제거")
+  void drain_skipsLiveContentKeys() {
+    stubDeleteObjects(null);
+    storedFileRepository.save(new StoredFile("content/live", "https://s3.test/content/live", "image/png", 3L));
+    fileDeletionService.enqueue(List.of("content/live", "thumbnail/content/live.jpg", "content/dead"));
+
+    fileDeletionService.drain();
+
+    assertThat(deleteRequests).containsExactly(List.of("content/dead"));
+    assertThat(fileDeletionRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("삭제 대기열 - 정리 중인 내용 주소 객체는 S3 에서 지운 뒤 행도 제거하고, 재시도로 남으면 행 유지")
+  void drain_removesDeletingRowAfterS3Delete() {
+    MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+    error.setKey("content/retry");
+    error.setCode("InternalError");
+    stubDeleteObjects(new MultiObjectDeleteException(List.of(error), List.of()));
+    markDeleting("content/gone");
+    markDeleting("content/retry");
+    fileDeletionService.enqueue(List.of("content/gone", "thumbnail/content/gone.jpg", "content/retry"));
+
+    fileDeletionService.drain();
+
+    assertThat(deleteRequests).containsExactly(List.of("content/gone", "thumbnail/content/gone.jpg", "content/retry"));
+    em.clear();
+    assertThat(storedFileRepository.findByFileName("content/gone")).isEmpty();
+    assertThat(storedFileRepository.findByFileName("content/retry")).get()
+        .extracting(StoredFile::getDeletingAt).isNotNull();
+  }
+
+  @Test
+  @DisplayName("삭제 대기열 - 삭제 전에 재업로드로 되살아난 행의 객체는 지우지 않고 행도 유지")
+  void drain_skipsRevivedContentKeys() {
+    stubDeleteObjects(null);
+    markDeleting("content/revived");
+    fileDeletionService.enqueue(List.of("content/revived", "medium/content/revived.jpg"));
+    storedFileRepository.revive("content/revived", LocalDateTime.now());
+    em.clear();
+
+    fileDeletionService.drain();
+
+    assertThat(deleteRequests).isEmpty();
+    assertThat(fileDeletionRepository.count()).isZero();
+    assertThat(storedFileRepository.findByFileName("content/revived")).get()
+        .extracting(StoredFile::getDeletingAt).isNull();
+  }
+
+  // 참조 없이 유예 기간이 지나 정리 중으로 표시된 행
+  private void markDeleting(String fileName) {
+    StoredFile storedFile = storedFileRepository.save(
+        new StoredFile(fileName, "https://s3.test/" + fileName, "image/png", 3L));
+    storedFileRepository.markDeletingIfUnreferenced(storedFile.getId(), LocalDateTime.now());
+    em.clear();
+  }
+}
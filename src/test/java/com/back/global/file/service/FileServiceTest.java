@@ -0,0 +1,236 @@
+package com.back.global.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.back.global.file.dto.ImageVariantsDto;
+import com.back.global.file.dto.UploadedFileDto;
+import com.back.global.file.entity.StoredFile;
+import com.back.global.file.repository.StoredFileRepository;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+class FileServiceTest {
+
+  private static final long PUT_LATENCY_MS = 200;
+  private static final byte[] BROKEN = {9, 9, 9};
+
+  // 업로드마다 일정 지연을 주는 S3 대역 (키 -> 저장된 바이트)
+  private final Map<String, byte[]> stored = new ConcurrentHashMap<>();
+  // stored_file 테이블 대역 (키 -> 행)
+  private final Map<String, StoredFile> storedFiles = new ConcurrentHashMap<>();
+  private final AtomicInteger putCount = new AtomicInteger();
+  // 동시에 진행 중인 PUT 수와 그 최댓값
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger peakInFlight = new AtomicInteger();
+  // 설정되면 PUT 이 이 수만큼 모일 때까지 대기 (직렬 업로드면 모이지 못하고 시간 초과)
+  private volatile CountDownLatch putBarrier;
+  private final AmazonS3 amazonS3 = mock(AmazonS3.class);
+  private final StoredFileRepository storedFileRepository = mock(StoredFileRepository.class);
+  private final FileService fileService = new FileService(amazonS3, storedFileRepository);
+
+  FileServiceTest() throws Exception {
+    ReflectionTestUtils.setField(fileService, "bucket", "test-bucket");
+    when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+      PutObjectRequest request = invocation.getArgument(0);
+      byte[] bytes = request.getInputStream().readAllBytes();
+      peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        CountDownLatch barrier = putBarrier;
+        if (barrier != null) {
+          barrier.countDown();
+          barrier.await(5, TimeUnit.SECONDS);
+        }
+        Thread.sleep(PUT_LATENCY_MS);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+      if (Arrays.equals(bytes, BROKEN)) {
+        throw new IllegalStateException("S3 오류");
+      }
+      putCount.incrementAndGet();
+      stored.put(request.getKey(), bytes);
+      return new PutObjectResult();
+    });
+    when(amazonS3.getObject(anyString(), anyString())).thenAnswer(invocation -> {
+      S3Object object = new S3Object();
+      object.setObjectContent(new ByteArrayInputStream(stored.get(invocation.<String>getArgument(1))));
+      return object;
+    });
+    when(amazonS3.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+        URI.create("https://test-bucket.s3.amazonaws.com/" + invocation.getArgument(1)).toURL());
+    when(storedFileRepository.findByFileName(anyString())).thenAnswer(invocation ->
+        Optional.ofNullable(storedFiles.get(invocation.<String>getArgument(0))));
+    when(storedFileRepository.save(any(StoredFile.class))).thenAnswer(invocation -> {
+      StoredFile storedFile = invocation.getArgument(0);
+      storedFiles.put(storedFile.getFileName(), storedFile);
+      return storedFile;
+    });
+  }
+
+  private static MultipartFile image(String name, byte[] bytes) {
+    return new MockMultipartFile("images", name, "image/png", bytes);
+  }
+
+  private static String contentKey(byte[] bytes) throws Exception {
+    return "content/" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+  }
+
+  @Test
+  @DisplayName("여러 파일 업로드 - 모든 PUT 이 동시에 진행되고, 결과는 입력 순서 유지")
+  void uploadFiles_runsInParallel() throws Exception {
+    List<MultipartFile> files = IntStream.range(0, 8)
+        .mapToObj(i -> image("img" + i + ".png", new byte[]{1, 2, (byte) i}))
+        .toList();
+    putBarrier = new CountDownLatch(files.size());
+
+    List<UploadedFileDto> uploaded = fileService.uploadFiles(files);
+
+    // 경과 시간 대신 동시 실행 수로 확인 (직렬이면 최대 1)
+    assertThat(putBarrier.getCount()).isZero();
+    assertThat(peakInFlight.get()).isEqualTo(8);
+    assertThat(uploaded).hasSize(8);
+    for (int i = 0; i < 8; i++) {
+      assertThat(uploaded.get(i).fileName()).isEqualTo(contentKey(new byte[]{1, 2, (byte) i}));
+      assertThat(uploaded.get(i).url()).endsWith(uploaded.get(i).fileName());
+    }
+    assertThat(stored).hasSize(8);
+    assertThat(storedFiles).hasSize(8);
+  }
+
+  @Test
+  @DisplayName("여러 파일 업로드 - 같은 내용은 파일 이름이 달라도 같은 키로 저장하고, 다시 올리면 PUT 생략")
+  void uploadFiles_deduplicatesByContent() throws Exception {
+    byte[] bytes = {1, 2, 3};
+    UploadedFileDto first = fileService.uploadFiles(List.of(image("a.png", bytes))).get(0);
+    UploadedFileDto again = fileService.uploadFiles(List.of(image("repost.png", bytes))).get(0);
+
+    assertThat(first.fileName()).isEqualTo(contentKey(bytes));
+    assertThat(again).isEqualTo(first);
+    assertThat(putCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("여러 파일 업로드 - 같은 내용의 행이 정리 중이면 행을 되살리고 다시 PUT")
+  void uploadFiles_revivesDeletingContent() throws Exception {
+    byte[] bytes = {4, 5, 6};
+    String key = contentKey(bytes);
+    StoredFile deleting = new StoredFile(key, "https://test-bucket.s3.amazonaws.com/" + key, "image/png", 3L);
+    ReflectionTestUtils.setField(deleting, "deletingAt", LocalDateTime.now());
+    storedFiles.put(key, deleting);
+    when(storedFileRepository.revive(eq(key), any(LocalDateTime.class))).thenAnswer(invocation -> {
+      ReflectionTestUtils.setField(deleting, "deletingAt", null);
+      return 1;
+    });
+
+    UploadedFileDto uploaded = fileService.uploadFiles(List.of(image("again.png", bytes))).get(0);
+
+    assertThat(uploaded.fileName()).isEqualTo(key);
+    assertThat(stored).containsKey(key);
+    assertThat(deleting.getDeletingAt()).isNull();
+    verify(storedFileRepository, never()).save(any(StoredFile.class));
+  }
+
+  @Test
+  @DisplayName("여러 파일 업로드 - 하나라도 실패하면 예외 발생 (올라간 객체는 참조 수 정리 대상으로 남김)")
+  void uploadFiles_failure() {
+    List<MultipartFile> files = List.of(
+        image("a.png", new byte[]{1}), image("broken.png", BROKEN), image("c.png", new byte[]{3}));
+
+    assertThatThrownBy(() -> fileService.uploadFiles(files))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(storedFiles.values()).extracting(StoredFile::getRefCount).containsOnly(0);
+  }
+
+  @Test
+  @DisplayName("여러 파일 업로드 - 파일이 없으면 S3 호출 없이 빈 목록")
+  void uploadFiles_empty() {
+    assertThat(fileService.uploadFiles(null)).isEmpty();
+    assertThat(fileService.uploadFiles(List.of())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("이미지 파생본 - 긴 변 기준으로 축소한 썸네일/중간 크기 JPEG 를 업로드")
+  void createVariants_resizesKeepingAspectRatio() throws Exception {
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", png);
+    stored.put("origin.png", png.toByteArray());
+
+    ImageVariantsDto variants = fileService.createVariants("origin.png");
+
+    assertThat(variants.thumbnailUrl()).endsWith("thumbnail/origin.png.jpg");
+    assertThat(variants.mediumUrl()).endsWith("medium/origin.png.jpg");
+    BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(stored.get("thumbnail/origin.png.jpg")));
+    BufferedImage medium = ImageIO.read(new ByteArrayInputStream(stored.get("medium/origin.png.jpg")));
+    assertThat(thumbnail.getWidth()).isEqualTo(320);
+    assertThat(thumbnail.getHeight()).isEqualTo(160);
+    assertThat(medium.getWidth()).isEqualTo(1024);
+    assertThat(medium.getHeight()).isEqualTo(512);
+  }
+
+  @Test
+  @DisplayName("이미지 파생본 - 크게 줄일 때 픽셀을 건너뛰지 않고 평균내어, 1px 체크무늬가 물결 없이 균일한 회색이 됨")
+  void createVariants_averagesHighFrequencyDetail() throws Exception {
+    BufferedImage checker = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < checker.getHeight(); y++) {
+      for (int x = 0; x < checker.getWidth(); x++) {
+        checker.setRGB(x, y, (x + y) % 2 == 0 ? 0xFFFFFF : 0x000000);
+      }
+    }
+    ByteArrayOutputStream png = new ByteArrayOutputStream();
+    ImageIO.write(checker, "png", png);
+    stored.put("checker.png", png.toByteArray());
+
+    fileService.createVariants("checker.png");
+
+    BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(stored.get("thumbnail/checker.png.jpg")));
+    assertThat(thumbnail.getWidth()).isEqualTo(320);
+    assertThat(thumbnail.getHeight()).isEqualTo(160);
+    // 한 번의 bilinear 축소는 52~202 사이로 얼룩지지만, 평균 축소는 모든 픽셀이 회색(128) 근처
+    for (int y = 0; y < thumbnail.getHeight(); y++) {
+      for (int x = 0; x < thumbnail.getWidth(); x++) {
+        assertThat(thumbnail.getRGB(x, y) & 0xFF).isBetween(118, 138);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("이미지 파생본 - 이미지가 아닌 파일은 파생본을 만들지 않음")
+  void createVariants_notAnImage() {
+    stored.put("note.txt", "hello".getBytes());
+
+    assertThat(fileService.createVariants("note.txt")).isNull();
+    assertThat(stored).containsOnlyKeys("note.txt");
+  }
+}
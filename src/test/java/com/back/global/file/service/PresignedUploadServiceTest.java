@@ -0,0 +1,174 @@
+package com.back.global.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.back.global.exception.ServiceException;
+import com.back.global.file.dto.PresignedUploadRequestDto;
+import com.back.global.file.dto.PresignedUploadResponseDto;
+import com.back.global.file.dto.UploadedFileDto;
+import com.back.global.file.entity.FileDeletion;
+import com.back.global.file.entity.PendingUpload;
+import com.back.global.file.repository.FileDeletionRepository;
+import com.back.global.file.repository.PendingUploadRepository;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class PresignedUploadServiceTest {
+
+  private static final Long USER_ID = 1L;
+
+  @Autowired
+  private PresignedUploadService presignedUploadService;
+
+  @Autowired
+  private PendingUploadRepository pendingUploadRepository;
+
+  @Autowired
+  private FileDeletionRepository fileDeletionRepository;
+
+  @MockitoBean
+  private AmazonS3 amazonS3;
+
+  // S3 대역: 키 -> 업로드된 객체 메타데이터
+  private final Map<String, ObjectMetadata> objects = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(amazonS3.generatePresignedUrl(any(GeneratePresignedUrlRequest.class))).thenAnswer(invocation -> {
+      GeneratePresignedUrlRequest request = invocation.getArgument(0);
+      return URI.create("https://s3.test/" + request.getKey() + "?X-Amz-Signature=sig").toURL();
+    });
+    when(amazonS3.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+        URI.create("https://s3.test/" + invocation.getArgument(1)).toURL());
+    when(amazonS3.getObjectMetadata(anyString(), anyString())).thenAnswer(invocation -> {
+      ObjectMetadata metadata = objects.get(invocation.<String>getArgument(1));
+      if (metadata == null) {
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        throw notFound;
+      }
+      return metadata;
+    });
+  }
+
+  // 클라이언트가 presigned URL 로 PUT 한 상황을 흉내
+  private void putObject(String fileName, String contentType, long size) {
+    ObjectMetadata metadata = new ObjectMetadata();
+    metadata.setContentType(contentType);
+    metadata.setContentLength(size);
+    objects.put(fileName, metadata);
+  }
+
+  @Test
+  @DisplayName("presigned URL 발급 - 허용되지 않은 형식이나 크기는 거부")
+  void issue_rejectsOutOfLimit() {
+    assertThatThrownBy(() -> presignedUploadService.issue(USER_ID,
+        new PresignedUploadRequestDto("a.exe", "application/octet-stream", 10L)))
+        .isInstanceOf(ServiceException.class);
+    assertThatThrownBy(() -> presignedUploadService.issue(USER_ID,
+        new PresignedUploadRequestDto("a.png", "image/png", 50L * 1024 * 1024)))
+        .isInstanceOf(ServiceException.class);
+    assertThat(pendingUploadRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("presigned URL 발급 - 클라이언트 파일 이름의 경로 구분자/특수 문자는 키에 그대로 넣지 않고, 길이도 제한")
+  void issue_sanitizesFileName() {
+    String uuid = "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+
+    assertThat(issue("../x").fileName()).matches(uuid + "_\\.\\._x");
+    assertThat(issue("content/abc").fileName()).matches(uuid + "_content_abc");
+    assertThat(issue("uploads/\n칵테일.png").fileName()).matches(uuid + "_uploads_____\\.png");
+
+    String longName = issue("a".repeat(300) + ".png").fileName();
+    assertThat(longName).matches(uuid + "_a{96}\\.png");
+  }
+
+  private PresignedUploadResponseDto issue(String fileName) {
+    return presignedUploadService.issue(USER_ID, new PresignedUploadRequestDto(fileName, "image/png", 1024L));
+  }
+
+  @Test
+  @DisplayName("presigned 업로드 - 업로드 후에만 커밋되고, 커밋되면 대기 행이 사라짐")
+  void verifyAndCommit() {
+    PresignedUploadResponseDto issued = presignedUploadService.issue(USER_ID,
+        new PresignedUploadRequestDto("a.png", "image/png", 1024L));
+    assertThat(issued.fileName()).endsWith("_a.png");
+    assertThat(issued.uploadUrl()).contains(issued.fileName());
+
+    // 아직 업로드 전
+    assertThatThrownBy(() -> presignedUploadService.verify(USER_ID, List.of(issued.fileName())))
+        .isInstanceOf(ServiceException.class);
+    // 다른 사용자
+    putObject(issued.fileName(), "image/png", 1024L);
+    assertThatThrownBy(() -> presignedUploadService.verify(2L, List.of(issued.fileName())))
+        .isInstanceOf(ServiceException.class);
+
+    List<UploadedFileDto> verified = presignedUploadService.verify(USER_ID, List.of(issued.fileName()));
+    assertThat(verified).extracting(UploadedFileDto::url).containsExactly(issued.url());
+
+    presignedUploadService.markCommitted(verified);
+    assertThat(pendingUploadRepository.findByFileNameIn(List.of(issued.fileName()))).isEmpty();
+    // 이미 커밋된 키는 다시 커밋할 수 없음
+    assertThatThrownBy(() -> presignedUploadService.markCommitted(verified))
+        .isInstanceOf(ServiceException.class);
+  }
+
+  @Test
+  @DisplayName("presigned 업로드 - 발급과 다른 형식이나 크기로 올라온 파일은 커밋 거부")
+  void verify_rejectsMismatchedObject() {
+    PresignedUploadResponseDto issued = presignedUploadService.issue(USER_ID,
+        new PresignedUploadRequestDto("a.png", "image/png", 1024L));
+    putObject(issued.fileName(), "text/html", 1024L);
+
+    assertThatThrownBy(() -> presignedUploadService.verify(USER_ID, List.of(issued.fileName())))
+        .isInstanceOf(ServiceException.class);
+
+    // 형식은 같지만 크기가 신고한 값과 다름
+    putObject(issued.fileName(), "image/png", 2048L);
+    assertThatThrownBy(() -> presignedUploadService.verify(USER_ID, List.of(issued.fileName())))
+        .isInstanceOf(ServiceException.class);
+  }
+
+  @Test
+  @DisplayName("스위퍼 - 만료 후 커밋되지 않은 업로드만 정리하고 S3 객체는 삭제 대기열에 등록")
+  void sweepExpired() {
+    LocalDateTime now = LocalDateTime.now();
+    pendingUploadRepository.save(new PendingUpload("old_a.png", USER_ID, "image/png", 10L, now.minusDays(1)));
+    pendingUploadRepository.save(new PendingUpload("new_b.png", USER_ID, "image/png", 10L, now.plusMinutes(5)));
+    putObject("old_a.png", "image/png", 10L);
+    putObject("new_b.png", "image/png", 10L);
+
+    int swept = presignedUploadService.sweepExpiredBefore(now);
+
+    assertThat(swept).isEqualTo(1);
+    assertThat(fileDeletionRepository.findAll())
+        .extracting(FileDeletion::getFileName)
+        .containsExactly("old_a.png");
+    assertThat(pendingUploadRepository.findAll())
+        .extracting(PendingUpload::getFileName)
+        .containsExactly("new_b.png");
+  }
+}
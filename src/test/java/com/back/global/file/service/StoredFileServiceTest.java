@@ -0,0 +1,93 @@
+package com.back.global.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.back.global.exception.ServiceException;
+import com.back.global.file.entity.FileDeletion;
+import com.back.global.file.entity.StoredFile;
+import com.back.global.file.repository.FileDeletionRepository;
+import com.back.global.file.repository.StoredFileRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class StoredFileServiceTest {
+
+  private static final String KEY = "content/abc";
+
+  @Autowired
+  private StoredFileService storedFileService;
+
+  @Autowired
+  private StoredFileRepository storedFileRepository;
+
+  @Autowired
+  private FileDeletionRepository fileDeletionRepository;
+
+  @Autowired
+  private EntityManager em;
+
+  @BeforeEach
+  void setUp() {
+    storedFileRepository.save(new StoredFile(KEY, "https://s3.test/" + KEY, "image/png", 3L));
+  }
+
+  private int refCount() {
+    em.clear();
+    return storedFileRepository.findByFileName(KEY).orElseThrow().getRefCount();
+  }
+
+  @Test
+  @DisplayName("참조 수 - 같은 내용을 여러 게시글이 붙이고 떼는 만큼 증감하고, 참조 중에는 정리되지 않음")
+  void acquireAndRelease() {
+    storedFileService.acquire(List.of(KEY));
+    storedFileService.acquire(List.of(KEY));
+    storedFileService.release(List.of(KEY));
+    assertThat(refCount()).isEqualTo(1);
+
+    assertThat(storedFileService.sweepUnreferencedBefore(LocalDateTime.now().plusMinutes(1))).isZero();
+    assertThat(fileDeletionRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("참조 수 - 마지막 참조가 빠지고 유예 기간이 지나면 원본/파생본을 삭제 대기열에 등록")
+  void sweepUnreferenced() {
+    storedFileService.acquire(List.of(KEY));
+    storedFileService.release(List.of(KEY));
+
+    int swept = storedFileService.sweepUnreferencedBefore(LocalDateTime.now().plusMinutes(1));
+
+    assertThat(swept).isEqualTo(1);
+    // 행은 S3 삭제가 끝날 때까지 정리 중 상태로 남음
+    em.clear();
+    assertThat(storedFileRepository.findByFileName(KEY)).get()
+        .extracting(StoredFile::getDeletingAt).isNotNull();
+    assertThat(fileDeletionRepository.findAll())
+        .extracting(FileDeletion::getFileName)
+        .containsExactlyInAnyOrder(KEY, "thumbnail/" + KEY + ".jpg", "medium/" + KEY + ".jpg");
+    // 정리된 객체는 다시 붙일 수 없음 (재업로드 필요)
+    assertThatThrownBy(() -> storedFileService.acquire(List.of(KEY)))
+        .isInstanceOf(ServiceException.class);
+  }
+
+  @Test
+  @DisplayName("참조 수 - 내용 주소가 아닌 이전 방식의 키는 빠질 때 바로 삭제 대기열에 등록")
+  void releaseUnsharedKey() {
+    storedFileService.release(List.of("uuid_a.png"));
+
+    assertThat(fileDeletionRepository.findAll())
+        .extracting(FileDeletion::getFileName)
+        .containsExactlyInAnyOrder("uuid_a.png", "thumbnail/uuid_a.png.jpg", "medium/uuid_a.png.jpg");
+  }
+}
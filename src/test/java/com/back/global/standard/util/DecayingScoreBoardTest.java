@@ -0,0 +1,65 @@
+package com.back.global.standard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DecayingScoreBoardTest {
+
+    @Test
+    @DisplayName("오래된 이벤트는 반감기만큼 점수가 줄어 최근 이벤트보다 뒤로 밀린다")
+    void t1() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+        DecayingScoreBoard board = new DecayingScoreBoard(Duration.ofHours(24), now);
+
+        // 1번: 3일 전 킵 5번 (5 × 1/8 = 0.625), 2번: 방금 킵 1번 (1.0)
+        for (int i = 0; i < 5; i++) board.add(1L, 1.0, now.minusDays(3));
+        board.add(2L, 1.0, now);
+        board.publish(10);
+        assertThat(board.after(null, null, 10).ids()).containsExactly(2L, 1L);
+
+        // 하루 뒤 1번에 새 이벤트가 몰리면 다시 앞선다
+        LocalDateTime later = now.plusDays(1);
+        board.decayTo(later);
+        board.add(1L, 1.0, later);
+        board.publish(10);
+        assertThat(board.after(null, null, 10).ids()).containsExactly(1L, 2L);
+        assertThat(board.after(null, 1L, 10).ids()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 첫 페이지를 읽은 랭킹 버전 안에서 이어지고, 랭킹에 없는 커서는 빈 페이지")
+    void t2() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+        DecayingScoreBoard board = new DecayingScoreBoard(Duration.ofHours(24), now);
+        for (long id = 1; id <= 4; id++) board.add(id, id, now); // 4, 3, 2, 1 순
+        board.publish(10);
+
+        DecayingScoreBoard.Page first = board.after(null, null, 2);
+        assertThat(first.ids()).containsExactly(4L, 3L);
+
+        // 재발행으로 순서가 뒤집히고 3번이 빠져도, 같은 버전으로 이어 읽으면 중복/누락 없음
+        board.add(1L, 10.0, now);
+        board.add(2L, 10.0, now);
+        board.decayTo(now.plusYears(1)); // 모든 점수가 정리 기준보다 작아져 빠짐
+        board.add(1L, 2.0, now.plusYears(1));
+        board.add(4L, 1.0, now.plusYears(1));
+        board.publish(10);
+
+        DecayingScoreBoard.Page next = board.after(first.version(), 3L, 2);
+        assertThat(next.version()).isEqualTo(first.version());
+        assertThat(next.ids()).containsExactly(2L, 1L);
+
+        // 버전 없이 최신 랭킹을 읽으면 새 순서, 최신 랭킹에 없는 커서는 처음부터 다시 주지 않고 빈 페이지
+        DecayingScoreBoard.Page latest = board.after(null, null, 10);
+        assertThat(latest.version()).isGreaterThan(first.version());
+        assertThat(latest.ids()).containsExactly(1L, 4L);
+        assertThat(board.after(null, 3L, 10).ids()).isEmpty();
+        // 보관 기간이 지난 버전은 최신 랭킹으로 대신함
+        assertThat(board.after(-1L, 1L, 10).ids()).containsExactly(4L);
+    }
+}
@@ -0,0 +1,35 @@
+package com.back.global.standard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EventWindowTest {
+
+    @Test
+    @DisplayName("지난 워터마크 이전 시각으로 늦게 커밋된 이벤트도 다음 조회 범위에 들어오고, 겹쳐 읽힌 이벤트는 한 번만 반영")
+    void t1() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+        EventWindow window = new EventWindow(Duration.ofMinutes(1), now.minusMinutes(5));
+
+        // 첫 조회: 11:58 이벤트 1번
+        assertThat(window.since()).isEqualTo(now.minusMinutes(6));
+        assertThat(window.firstSeen(1L, now.minusMinutes(2))).isTrue();
+        window.advanceTo(now);
+
+        // 두 번째 조회는 11:59 부터: 11:59:30 에 찍혔지만 12:00 이후에 커밋된 2번도 읽힘 (1번은 범위 밖이라 잊음)
+        assertThat(window.since()).isEqualTo(now.minusMinutes(1));
+        LocalDateTime late = now.minusSeconds(30);
+        assertThat(window.firstSeen(2L, late)).isTrue();
+        window.advanceTo(now.plusSeconds(20));
+
+        // 다음 조회에서 2번이 겹쳐 읽혀도 다시 반영하지 않음
+        assertThat(window.firstSeen(2L, late)).isFalse();
+        // 같은 행이 새 시각으로 다시 발생하면 (해제 후 재킵 등) 새 이벤트
+        assertThat(window.firstSeen(2L, now.plusSeconds(10))).isTrue();
+    }
+}
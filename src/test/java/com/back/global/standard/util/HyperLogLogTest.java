@@ -0,0 +1,46 @@
+package com.back.global.standard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 방문자가 반복 조회해도 한 번만 세고, 추정 오차는 수 % 이내")
+    void t1() {
+        HyperLogLog sketch = new HyperLogLog();
+        assertThat(sketch.estimate()).isZero();
+
+        for (int i = 0; i < 50_000; i++) {
+            sketch.offer("u:" + i);
+            sketch.offer("u:" + i); // 새로고침
+        }
+        assertThat(sketch.offer("u:1")).isFalse();
+        assertThat((double) sketch.estimate()).isCloseTo(50_000, within(50_000 * 0.07));
+
+        // 적은 수는 거의 정확하게 센다 (해시 충돌로 1 정도는 어긋날 수 있음)
+        HyperLogLog small = new HyperLogLog();
+        for (int i = 0; i < 20; i++) small.offer("c:" + i);
+        assertThat(small.estimate()).isCloseTo(20L, within(1L));
+    }
+
+    @Test
+    @DisplayName("merge 결과는 합집합 추정치이고, 바이트로 저장 후 복원해도 같다")
+    void t2() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int i = 0; i < 3_000; i++) monday.offer("u:" + i);
+        for (int i = 1_500; i < 4_500; i++) tuesday.offer("u:" + i);
+
+        HyperLogLog week = monday.copy();
+        week.merge(tuesday);
+        assertThat((double) week.estimate()).isCloseTo(4_500, within(4_500 * 0.07));
+
+        HyperLogLog restored = HyperLogLog.fromBytes(week.toBytes());
+        assertThat(restored.estimate()).isEqualTo(week.estimate());
+        assertThat(monday.estimate()).isLessThan(week.estimate());
+    }
+}
@@ -0,0 +1,26 @@
+package com.back.global.standard.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("증가/감소/삭제 후에도 모든 키 조회 가능")
+    void t1() {
+        LongIntHashMap map = new LongIntHashMap();
+        for (long key = 1; key <= 1000; key++) {
+            map.addTo(key, (int) key);
+        }
+        for (long key = 1; key <= 1000; key += 2) {
+            map.addTo(key, -(int) key);
+        }
+
+        assertThat(map.size()).isEqualTo(500);
+        for (long key = 1; key <= 1000; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? (int) key : 0);
+        }
+    }
+}